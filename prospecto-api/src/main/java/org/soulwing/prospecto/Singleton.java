@@ -30,7 +30,7 @@ public abstract class Singleton<T> {
 
   private final Lock lock = new ReentrantLock();
 
-  private T instance;
+  private volatile T instance;
 
   public T getInstance() {
     if (instance == null) {
@@ -183,8 +183,9 @@ public interface ViewContext extends MutableScope {
   /**
    * Gets the sequence of view node names that form the path to the current
    * view node as a template is being evaluated to produce a view.
-   * @return sequence of view node names which is empty before visiting the
-   *   root view node
+   * @return unmodifiable sequence of view node names which is empty before
+   *   visiting the root view node; the sequence is a snapshot that is not
+   *   affected by subsequent evaluation
    */
   List<String> currentViewPath();
 
@@ -201,8 +202,9 @@ public interface ViewContext extends MutableScope {
    * Gets the sequence of model types encountered on view nodes of type
    * object and array-of-object that form the model path to the current view
    * node as a template is being evaluated to produce a view.
-   * @return sequence of model types which is typically empty before visiting
-   *   the root view node
+   * @return unmodifiable sequence of model types which is typically empty
+   *   before visiting the root view node; the sequence is a snapshot that is
+   *   not affected by subsequent evaluation
    */
   List<Class<?>> currentModelPath();
 
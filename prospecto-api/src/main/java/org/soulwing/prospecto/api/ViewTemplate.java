@@ -18,6 +18,8 @@
  */
 package org.soulwing.prospecto.api;
 
+import java.io.OutputStream;
+
 import org.soulwing.prospecto.api.template.ViewNodeVisitor;
 
 /**
@@ -84,6 +86,54 @@ public interface ViewTemplate {
    */
   View generateView(Object model, ViewContext context);
 
+  /**
+   * Generates a view using the given model as the root object represented by
+   * the view, and writes a representation of the view on the given output
+   * stream.
+   * <p>
+   * The result is the same as writing the result of
+   * {@link #generateView(Object, ViewContext)} using a writer produced by
+   * {@code writerFactory}, but the view's events are passed to the writer
+   * as they are generated, without first collecting them into a view. The
+   * model is evaluated while this method runs, so the same requirements for
+   * the context in which the model is evaluated apply.
+   * <p>
+   * The output stream is <em>not</em> closed by this method.
+   *
+   * @param model root model object
+   * @param context view context
+   * @param writerFactory factory for the writer that will produce the
+   *    representation of the view
+   * @param outputStream target output stream
+   * @throws ViewException if an error occurs in generating or writing the
+   *    view
+   */
+  void writeView(Object model, ViewContext context,
+      ViewWriterFactory writerFactory, OutputStream outputStream)
+      throws ViewException;
+
+  /**
+   * Generates a view using the given model as the root object represented by
+   * the view, and writes a representation of the view on the given target.
+   * <p>
+   * This method is like
+   * {@link #writeView(Object, ViewContext, ViewWriterFactory, OutputStream)}
+   * but for writers that produce a representation on a target other than
+   * an output stream.
+   *
+   * @param model root model object
+   * @param context view context
+   * @param writerFactory factory for the writer that will produce the
+   *    representation of the view
+   * @param target target for the representation; must be of a type that is
+   *    supported by the writers produced by {@code writerFactory}
+   * @throws ViewException if an error occurs in generating or writing the
+   *    view
+   */
+  void writeView(Object model, ViewContext context,
+      ViewWriterFactory writerFactory, ViewWriter.Target target)
+      throws ViewException;
+
   /**
    * Creates a view applicator using the given source view.
    * <p>
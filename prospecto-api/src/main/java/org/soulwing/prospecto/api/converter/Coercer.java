@@ -0,0 +1,594 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.DatatypeConverter;
+
+import org.soulwing.prospecto.api.ViewException;
+
+/**
+ * A plan for coercing values of a given source class to a target type.
+ * <p>
+ * The rules described for {@link Coerce} are evaluated once for each
+ * (source class, target type) pair and the resulting coercer is cached.
+ * Coercers for types that are visible to the class loader of this class
+ * (including the JDK types) are held in a map owned by this class; coercers
+ * for other (application) types are attached to the target type using a
+ * {@link ClassValue}. In either case, a cached coercer never causes a class
+ * to be retained beyond the life of its class loader. A coercer that uses a constructor
+ * or a {@code valueOf} method holds a method handle for it, so that no
+ * reflective lookup is needed in order to coerce a value.
+ * <p>
+ * Coercers are immutable and safe for concurrent use.
+ *
+ * @author Carl Harris
+ */
+abstract class Coercer {
+
+  private static final MethodType COERCE_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final ConcurrentMap<Class<?>, Coercers> CACHE =
+      new ConcurrentHashMap<>();
+
+  private static final ClassValue<Coercers> APPLICATION_CACHE =
+      new ClassValue<Coercers>() {
+        @Override
+        protected Coercers computeValue(Class<?> type) {
+          return new Coercers(type, false);
+        }
+      };
+
+  private static final Coercer IDENTITY = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return value;
+    }
+  };
+
+  private static final Coercer TO_STRING = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return value.toString();
+    }
+  };
+
+  private static final Coercer NULL = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return null;
+    }
+  };
+
+  private static final Coercer STRING_TO_BOOLEAN = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Boolean.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_INTEGER = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).intValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_INTEGER = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Integer.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_LONG = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).longValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_LONG = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Long.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_BYTE = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).byteValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_BYTE = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Byte.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_SHORT = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).shortValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_SHORT = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Short.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_BIG_INTEGER = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return BigInteger.valueOf(((Number) value).longValue());
+    }
+  };
+
+  private static final Coercer NUMBER_TO_DOUBLE = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).doubleValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_DOUBLE = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Double.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer NUMBER_TO_FLOAT = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return ((Number) value).floatValue();
+    }
+  };
+
+  private static final Coercer STRING_TO_FLOAT = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return Float.valueOf((String) value);
+    }
+  };
+
+  private static final Coercer DECIMAL_TO_BIG_DECIMAL = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return BigDecimal.valueOf(((Number) value).doubleValue());
+    }
+  };
+
+  private static final Coercer NUMBER_TO_BIG_DECIMAL = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+  };
+
+  private static final Coercer STRING_TO_DATE = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return DatatypeConverter.parseDateTime((String) value).getTime();
+    }
+  };
+
+  private static final Coercer NUMBER_TO_CALENDAR = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      final Calendar calendar = Calendar.getInstance();
+      calendar.setTimeInMillis(((Number) value).longValue());
+      return calendar;
+    }
+  };
+
+  private static final Coercer STRING_TO_CALENDAR = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return DatatypeConverter.parseDateTime((String) value);
+    }
+  };
+
+  private static final Coercer STRING_TO_UUID = new Coercer() {
+    @Override
+    Object coerce(Object value) {
+      return UUID.fromString((String) value);
+    }
+  };
+
+  /**
+   * Gets the coercer for values of a source class and a target type.
+   * @param sourceType class of the values to coerce
+   * @param type target type
+   * @return coercer
+   */
+  static Coercer of(Class<?> sourceType, Class<?> type) {
+    Coercers coercers = CACHE.get(type);
+    if (coercers == null) {
+      if (!isShared(type)) {
+        return APPLICATION_CACHE.get(type).get(sourceType);
+      }
+      coercers = new Coercers(type, true);
+      final Coercers existing = CACHE.putIfAbsent(type, coercers);
+      if (existing != null) {
+        coercers = existing;
+      }
+    }
+    return coercers.get(sourceType);
+  }
+
+  /**
+   * Tests whether a class is visible to the class loader of this class.
+   * @param type the subject class
+   * @return {@code true} if {@code type} was loaded by the class loader
+   *    of this class or one of its ancestors
+   */
+  private static boolean isShared(Class<?> type) {
+    final ClassLoader classLoader = type.getClassLoader();
+    if (classLoader == null) return true;
+    ClassLoader loader = Coercer.class.getClassLoader();
+    while (loader != null) {
+      if (loader == classLoader) return true;
+      loader = loader.getParent();
+    }
+    return false;
+  }
+
+  /**
+   * Coerces a value.
+   * @param value the value to coerce; must be a non-null instance of the
+   *    source class for which this coercer was resolved
+   * @return coerced value
+   * @throws IllegalArgumentException if the value cannot be coerced
+   */
+  abstract Object coerce(Object value);
+
+  private static Coercer resolve(Class<?> sourceType, Class<?> type) {
+    if (type.isAssignableFrom(sourceType)) return IDENTITY;
+    if (String.class.equals(type)) return TO_STRING;
+    final Coercer coercer = resolveForType(sourceType, type);
+    // for all target types other than string, an empty string is the same
+    // as null
+    return String.class.equals(sourceType) ?
+        new StringCoercer(coercer) : coercer;
+  }
+
+  private static Coercer resolveForType(Class<?> sourceType, Class<?> type) {
+    final boolean number = Number.class.isAssignableFrom(sourceType);
+    final boolean string = String.class.equals(sourceType);
+
+    if (boolean.class.equals(type)) {
+      if (Boolean.class.equals(sourceType)) return IDENTITY;
+      if (string) return STRING_TO_BOOLEAN;
+    }
+    if (Enum.class.isAssignableFrom(type) && string) {
+      return new ReflectiveCoercer(sourceType, type,
+          valueOfMethods(type, sourceType), false);
+    }
+    if (Integer.class.equals(type) || int.class.equals(type)) {
+      if (number) return NUMBER_TO_INTEGER;
+      if (string) return STRING_TO_INTEGER;
+    }
+    if (Long.class.equals(type) || long.class.equals(type)) {
+      if (number) return NUMBER_TO_LONG;
+      if (string) return STRING_TO_LONG;
+    }
+    if (Byte.class.equals(type) || byte.class.equals(type)) {
+      if (number) return NUMBER_TO_BYTE;
+      if (string) return STRING_TO_BYTE;
+    }
+    if (Short.class.equals(type) || short.class.equals(type)) {
+      if (number) return NUMBER_TO_SHORT;
+      if (string) return STRING_TO_SHORT;
+    }
+    if (BigInteger.class.equals(type) && number) {
+      return NUMBER_TO_BIG_INTEGER;
+    }
+    if (Double.class.equals(type) || double.class.equals(type)) {
+      if (number) return NUMBER_TO_DOUBLE;
+      if (string) return STRING_TO_DOUBLE;
+    }
+    if (Float.class.equals(type) || float.class.equals(type)) {
+      if (number) return NUMBER_TO_FLOAT;
+      if (string) return STRING_TO_FLOAT;
+    }
+    if (BigDecimal.class.equals(type)) {
+      if (Double.class.equals(sourceType) || Float.class.equals(sourceType)) {
+        return DECIMAL_TO_BIG_DECIMAL;
+      }
+      if (number) return NUMBER_TO_BIG_DECIMAL;
+    }
+    if (Date.class.isAssignableFrom(type)) {
+      if (number) {
+        final List<MethodHandle> constructors =
+            constructors(type, Long.class);
+        return constructors.isEmpty() ?
+            NULL : new EpochMillisCoercer(constructors.get(0));
+      }
+      if (string) return STRING_TO_DATE;
+    }
+    if (Calendar.class.isAssignableFrom(type)) {
+      if (number) return NUMBER_TO_CALENDAR;
+      if (string) return STRING_TO_CALENDAR;
+    }
+    if (UUID.class.equals(type) && string) {
+      return STRING_TO_UUID;
+    }
+    return reflective(sourceType, type);
+  }
+
+  private static Coercer reflective(Class<?> sourceType, Class<?> type) {
+    final List<MethodHandle> candidates = new ArrayList<>();
+    candidates.addAll(valueOfMethods(type, sourceType));
+    candidates.addAll(constructors(type, sourceType));
+    return new ReflectiveCoercer(sourceType, type, candidates, true);
+  }
+
+  private static List<MethodHandle> valueOfMethods(Class<?> type,
+      Class<?> sourceType) {
+    final List<MethodHandle> methods = new ArrayList<>();
+    Class<?> valueType = sourceType;
+    while (valueType != null) {
+      try {
+        final Method method = type.getMethod("valueOf", valueType);
+        if (Modifier.isStatic(method.getModifiers())
+            && type.isAssignableFrom(method.getReturnType())) {
+          methods.add(
+              MethodHandles.lookup().unreflect(method).asType(COERCE_TYPE));
+        }
+      }
+      catch (IllegalAccessException ex) {
+        throw new ViewException(ex);
+      }
+      catch (NoSuchMethodException ex) {
+        assert true;
+      }
+      valueType = nextType(valueType);
+    }
+    return methods;
+  }
+
+  private static List<MethodHandle> constructors(Class<?> type,
+      Class<?> sourceType) {
+    final List<MethodHandle> constructors = new ArrayList<>();
+    if (Modifier.isAbstract(type.getModifiers())) return constructors;
+    Class<?> valueType = sourceType;
+    while (valueType != null) {
+      try {
+        final Constructor<?> constructor = type.getConstructor(valueType);
+        constructors.add(MethodHandles.lookup()
+            .unreflectConstructor(constructor).asType(COERCE_TYPE));
+      }
+      catch (NoSuchMethodException | IllegalAccessException ex) {
+        assert true;
+      }
+      valueType = nextType(valueType);
+    }
+    return constructors;
+  }
+
+  private static Class<?> nextType(Class<?> type) {
+    if (type.isPrimitive()) {
+      return null;
+    }
+    if (String.class.equals(type)) {
+      return type.getSuperclass();
+    }
+    if (Boolean.class.equals(type)) {
+      return boolean.class;
+    }
+    if (Integer.class.equals(type)) {
+      return int.class;
+    }
+    if (Long.class.equals(type)) {
+      return long.class;
+    }
+    if (Double.class.equals(type)) {
+      return double.class;
+    }
+    if (Float.class.equals(type)) {
+      return float.class;
+    }
+    if (Short.class.equals(type)) {
+      return short.class;
+    }
+    if (Byte.class.equals(type)) {
+      return byte.class;
+    }
+    return type.getSuperclass();
+  }
+
+  /**
+   * A coercer for string values that coerces a blank string to
+   * {@code null}.
+   */
+  private static class StringCoercer extends Coercer {
+
+    private final Coercer delegate;
+
+    StringCoercer(Coercer delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    Object coerce(Object value) {
+      if (((String) value).trim().isEmpty()) return null;
+      return delegate.coerce(value);
+    }
+
+  }
+
+  /**
+   * A coercer that passes the value of a number as a {@code long} to a
+   * constructor.
+   */
+  private static class EpochMillisCoercer extends Coercer {
+
+    private final MethodHandle constructor;
+
+    EpochMillisCoercer(MethodHandle constructor) {
+      this.constructor = constructor;
+    }
+
+    @Override
+    Object coerce(Object value) {
+      try {
+        return constructor.invokeExact(
+            (Object) Long.valueOf(((Number) value).longValue()));
+      }
+      catch (RuntimeException | Error ex) {
+        throw ex;
+      }
+      catch (Throwable ex) {
+        throw new ViewException(ex);
+      }
+    }
+
+  }
+
+  /**
+   * The coercers for a target type, indexed by source class.
+   * <p>
+   * The coercer most recently resolved is also held in a single field, since
+   * the values coerced to a given type are usually all of the same class.
+   * The coercers of a shared target type (one held in the map owned by
+   * {@link Coercer}) are not cached for source classes that are not also
+   * shared, since doing so would retain those classes.
+   */
+  private static class Coercers {
+
+    private final ConcurrentMap<Class<?>, Coercer> coercers =
+        new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final boolean shared;
+
+    private volatile Entry last;
+
+    Coercers(Class<?> type, boolean shared) {
+      this.type = type;
+      this.shared = shared;
+    }
+
+    Coercer get(Class<?> sourceType) {
+      final Entry entry = last;
+      if (entry != null && entry.sourceType == sourceType) {
+        return entry.coercer;
+      }
+      Coercer coercer = coercers.get(sourceType);
+      if (coercer == null) {
+        coercer = resolve(sourceType, type);
+        if (shared && !isShared(sourceType)) {
+          return coercer;
+        }
+        final Coercer existing = coercers.putIfAbsent(sourceType, coercer);
+        if (existing != null) {
+          coercer = existing;
+        }
+      }
+      last = new Entry(sourceType, coercer);
+      return coercer;
+    }
+
+  }
+
+  private static class Entry {
+
+    final Class<?> sourceType;
+    final Coercer coercer;
+
+    Entry(Class<?> sourceType, Coercer coercer) {
+      this.sourceType = sourceType;
+      this.coercer = coercer;
+    }
+
+  }
+
+  /**
+   * A coercer that invokes the first of a sequence of {@code valueOf}
+   * methods and constructors that accepts the value.
+   */
+  private static class ReflectiveCoercer extends Coercer {
+
+    private final Class<?> sourceType;
+    private final Class<?> type;
+    private final MethodHandle[] candidates;
+    private final boolean required;
+
+    /**
+     * Constructs a new instance.
+     * @param sourceType source class
+     * @param type target type
+     * @param candidates candidate method handles, in order of preference
+     * @param required if {@code true} a value that is not accepted by any
+     *    candidate results in an {@link IllegalArgumentException}, otherwise
+     *    it is coerced to {@code null}
+     */
+    ReflectiveCoercer(Class<?> sourceType, Class<?> type,
+        List<MethodHandle> candidates, boolean required) {
+      this.sourceType = sourceType;
+      this.type = type;
+      this.candidates =
+          candidates.toArray(new MethodHandle[candidates.size()]);
+      this.required = required;
+    }
+
+    @Override
+    Object coerce(Object value) {
+      for (final MethodHandle candidate : candidates) {
+        try {
+          return candidate.invokeExact(value);
+        }
+        catch (Error ex) {
+          throw ex;
+        }
+        catch (Throwable ex) {
+          // a candidate that rejects the value is the same as no candidate
+          assert true;
+        }
+      }
+      if (!required) return null;
+      throw new IllegalArgumentException("cannot coerce value of type "
+          + sourceType.getName() + " to type " + type.getName());
+    }
+
+  }
+
+}
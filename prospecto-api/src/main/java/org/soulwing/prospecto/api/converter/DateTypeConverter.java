@@ -18,15 +18,26 @@
  */
 package org.soulwing.prospecto.api.converter;
 
-import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Collections;
 import java.util.Date;
 import java.util.TimeZone;
 
-import javax.xml.bind.DatatypeConverter;
-
 import org.soulwing.prospecto.api.ViewContext;
 
 /**
@@ -48,6 +59,13 @@ import org.soulwing.prospecto.api.ViewContext;
  * When using a format that includes time, the default time zone is the
  * local time zone.  Use the {@link #setTimeZone(TimeZone) timeZone} or
  * {@link #setTimeZoneId(String) timeZoneId} property to change the default.
+ * <p>
+ * Formatting and parsing are performed using a {@link DateTimeFormatter}
+ * that is compiled when the converter is first used (and again after any
+ * change to its configuration). As with {@link SimpleDateFormat} parsing
+ * is lenient, and any text following a successfully parsed date is ignored.
+ * A converter can be safely shared by concurrent threads, once it has been
+ * configured.
  *
  * @author Carl Harris
  */
@@ -70,12 +88,30 @@ public class DateTypeConverter implements ValueTypeConverter {
 
   private static String RFC1123_PATTERN = "EEE, dd MMM yyyy HH:mm:ss z";
 
+  private static final DateTimeFormatter ISO8601_WITH_TIME_ZONE_FORMATTER =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ssXXX");
+
+  private static final DateTimeFormatter
+      ISO8601_WITH_TIME_ZONE_AND_MILLIS_FORMATTER =
+          DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX");
+
+  private static final DateTimeFormatter ISO8601_WITH_TIME_ZONE_PARSER =
+      new DateTimeFormatterBuilder()
+          .parseCaseInsensitive()
+          .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+          .optionalStart()
+          .appendOffsetId()
+          .optionalEnd()
+          .toFormatter();
+
   private Class<? extends Date> supportedType = Date.class;
   private boolean supportSubTypes = true;
   private Format format = Format.ISO8601;
   private String pattern = ISO8601_PATTERN;
   private TimeZone timeZone = TimeZone.getDefault();
 
+  private volatile Formatter formatter;
+
   /**
    * Constructs a new instance that uses ISO 8601 format.
    */
@@ -114,66 +150,115 @@ public class DateTypeConverter implements ValueTypeConverter {
   @Override
   public Object toViewValue(Object modelValue, ViewContext context) throws Exception {
     assert modelValue instanceof Date;
-    switch (format) {
-      default:
-      case ISO8601:
-        return formatUsingPattern(ISO8601_PATTERN, (Date) modelValue);
-      case ISO8601_DATE:
-        return formatUsingPattern(ISO8601_DATE_PATTERN, (Date) modelValue);
-      case ISO8601_TIME:
-        return formatUsingPattern(ISO8601_TIME_PATTERN, (Date) modelValue);
-      case ISO8601_WITH_TIME_ZONE:
-        return formatUsing8601WithTimeZone((Date) modelValue);
-      case RFC1123:
-        return formatUsingPattern(RFC1123_PATTERN, (Date) modelValue);
-      case CUSTOM:
-        return formatUsingPattern(
-            pattern != null ? pattern : ISO8601_PATTERN, (Date) modelValue);
-    }
+    return formatter().format((Date) modelValue);
   }
 
   @Override
   public Date toModelValue(Object viewValue, ViewContext context) throws Exception {
+    return formatter().parse(viewValue.toString());
+  }
+
+  private Formatter formatter() {
+    Formatter formatter = this.formatter;
+    if (formatter == null) {
+      formatter = newFormatter();
+      this.formatter = formatter;
+    }
+    return formatter;
+  }
+
+  private Formatter newFormatter() {
+    final ZoneId zone = timeZone.toZoneId();
     switch (format) {
       default:
       case ISO8601:
-        return parseUsingPattern(ISO8601_PATTERN, viewValue.toString());
+        return new Formatter(patternFormatter(ISO8601_PATTERN, zone), zone);
       case ISO8601_DATE:
-        return parseUsingPattern(ISO8601_DATE_PATTERN, viewValue.toString());
+        return new Formatter(patternFormatter(ISO8601_DATE_PATTERN, zone), zone);
       case ISO8601_TIME:
-        return parseUsingPattern(ISO8601_TIME_PATTERN, viewValue.toString());
+        return new Formatter(patternFormatter(ISO8601_TIME_PATTERN, zone), zone);
       case ISO8601_WITH_TIME_ZONE:
-        return parseUsing8601WithTimeZone(viewValue.toString());
+        return new Formatter(
+            ISO8601_WITH_TIME_ZONE_FORMATTER,
+            ISO8601_WITH_TIME_ZONE_AND_MILLIS_FORMATTER,
+            ISO8601_WITH_TIME_ZONE_PARSER, zone);
       case RFC1123:
-        return parseUsingPattern(RFC1123_PATTERN, viewValue.toString());
+        return new Formatter(patternFormatter(RFC1123_PATTERN, zone), zone);
       case CUSTOM:
-        return parseUsingPattern(
-            pattern != null ? pattern : ISO8601_PATTERN, viewValue.toString());
+        return new Formatter(patternFormatter(
+            pattern != null ? pattern : ISO8601_PATTERN, zone), zone);
     }
   }
 
-  private String formatUsingPattern(String pattern, Date date) {
-    final DateFormat df = new SimpleDateFormat(pattern);
-    df.setTimeZone(timeZone);
-    return df.format(date);
-  }
-
-  private Date parseUsingPattern(String pattern, String text)
-      throws ParseException {
-    final DateFormat df = new SimpleDateFormat(pattern);
-    df.setTimeZone(timeZone);
-    return df.parse(text);
-  }
-
-  private String formatUsing8601WithTimeZone(Date date) {
-    final Calendar calendar = Calendar.getInstance();
-    calendar.setTime(date);
-    calendar.setTimeZone(timeZone);
-    return DatatypeConverter.printDateTime(calendar);
+  /**
+   * Creates a formatter for a {@link SimpleDateFormat} pattern.
+   * <p>
+   * Most pattern letters have the same meaning for {@link DateTimeFormatter};
+   * those that differ are translated here, so that formatted and parsed
+   * dates are the same as those of a {@link SimpleDateFormat}.
+   *
+   * @param pattern the subject pattern
+   * @param zone zone to prefer when parsing a zone name
+   * @return formatter
+   */
+  private static DateTimeFormatter patternFormatter(String pattern,
+      ZoneId zone) {
+    final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive()
+        .parseLenient();
+    final StringBuilder segment = new StringBuilder();
+    int i = 0;
+    while (i < pattern.length()) {
+      final char c = pattern.charAt(i);
+      if (c == '\'') {
+        final int end = pattern.indexOf('\'', i + 1);
+        final int next = end != -1 ? end + 1 : pattern.length();
+        segment.append(pattern, i, next);
+        i = next;
+        continue;
+      }
+      int count = 1;
+      while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+        count++;
+      }
+      if ((c == 'y' && count == 2) || c == 'z' || c == 'S' || c == 'u') {
+        builder.appendPattern(segment.toString());
+        segment.setLength(0);
+        appendTranslated(builder, c, count, zone);
+      }
+      else {
+        segment.append(pattern, i, i + count);
+      }
+      i += count;
+    }
+    builder.appendPattern(segment.toString());
+    return builder.toFormatter().withResolverStyle(ResolverStyle.LENIENT);
   }
 
-  private Date parseUsing8601WithTimeZone(String text) {
-    return DatatypeConverter.parseDateTime(text).getTime();
+  private static void appendTranslated(DateTimeFormatterBuilder builder,
+      char letter, int count, ZoneId zone) {
+    switch (letter) {
+      case 'y':
+        // two-digit years are relative to a century starting 80 years ago
+        builder.appendValueReduced(ChronoField.YEAR_OF_ERA, 2, 2,
+            LocalDate.now().minusYears(80));
+        break;
+      case 'z':
+        builder.appendZoneText(count < 4 ? TextStyle.SHORT : TextStyle.FULL,
+            Collections.singleton(zone));
+        break;
+      case 'S':
+        // milliseconds, not a fraction of a second
+        builder.appendValue(ChronoField.MILLI_OF_SECOND, count,
+            Math.max(count, 3), SignStyle.NOT_NEGATIVE);
+        break;
+      case 'u':
+        // day number of week
+        builder.appendValue(ChronoField.DAY_OF_WEEK, count);
+        break;
+      default:
+        throw new AssertionError("unexpected pattern letter: " + letter);
+    }
   }
 
   /**
@@ -229,6 +314,7 @@ public class DateTypeConverter implements ValueTypeConverter {
    */
   public void setFormat(Format format) {
     this.format = format;
+    this.formatter = null;
   }
 
   /**
@@ -245,6 +331,7 @@ public class DateTypeConverter implements ValueTypeConverter {
    */
   public void setPattern(String pattern) {
     this.pattern = pattern;
+    this.formatter = null;
   }
 
   /**
@@ -261,6 +348,7 @@ public class DateTypeConverter implements ValueTypeConverter {
    */
   public void setTimeZone(TimeZone timeZone) {
     this.timeZone = timeZone;
+    this.formatter = null;
   }
 
   /**
@@ -282,6 +370,90 @@ public class DateTypeConverter implements ValueTypeConverter {
     setTimeZone(TimeZone.getTimeZone(id));
   }
 
+  /**
+   * An immutable formatter for dates, compiled from the configuration of
+   * the converter.
+   */
+  private static class Formatter {
+
+    private final DateTimeFormatter formatter;
+    private final DateTimeFormatter millisFormatter;
+    private final DateTimeFormatter parser;
+    private final ZoneId zone;
+
+    Formatter(DateTimeFormatter formatter, ZoneId zone) {
+      this(formatter, formatter, formatter, zone);
+    }
+
+    /**
+     * Constructs a new instance.
+     * @param formatter formatter for dates that have no milliseconds
+     * @param millisFormatter formatter for dates that have milliseconds
+     * @param parser parser
+     * @param zone zone for formatted dates, and for parsed dates that do
+     *    not specify a zone
+     */
+    Formatter(DateTimeFormatter formatter, DateTimeFormatter millisFormatter,
+        DateTimeFormatter parser, ZoneId zone) {
+      this.formatter = formatter;
+      this.millisFormatter = millisFormatter;
+      this.parser = parser;
+      this.zone = zone;
+    }
+
+    String format(Date date) {
+      final ZonedDateTime dateTime = date.toInstant().atZone(zone);
+      return dateTime.getNano() == 0 ?
+          formatter.format(dateTime) : millisFormatter.format(dateTime);
+    }
+
+    Date parse(String text) throws ParseException {
+      try {
+        return toDate(parser.parse(text, new ParsePosition(0)));
+      }
+      catch (DateTimeParseException ex) {
+        final ParseException pex =
+            new ParseException(ex.getMessage(), ex.getErrorIndex());
+        pex.initCause(ex);
+        throw pex;
+      }
+    }
+
+    /**
+     * Converts a parsed date to a {@link Date}, using the same defaults as
+     * {@link SimpleDateFormat} for any fields that were not parsed.
+     * @param parsed the parsed date
+     * @return date
+     */
+    private Date toDate(TemporalAccessor parsed) {
+      LocalDate date = parsed.query(TemporalQueries.localDate());
+      if (date == null) {
+        date = LocalDate.of(
+            valueOf(parsed, ChronoField.YEAR, 1970),
+            valueOf(parsed, ChronoField.MONTH_OF_YEAR, 1),
+            valueOf(parsed, ChronoField.DAY_OF_MONTH, 1));
+      }
+      LocalTime time = parsed.query(TemporalQueries.localTime());
+      if (time == null) {
+        time = LocalTime.MIDNIGHT;
+      }
+      else {
+        date = date.plus(parsed.query(DateTimeFormatter.parsedExcessDays()));
+      }
+      ZoneId zone = parsed.query(TemporalQueries.zone());
+      if (zone == null) {
+        zone = this.zone;
+      }
+      return Date.from(ZonedDateTime.of(date, time, zone).toInstant());
+    }
+
+    private static int valueOf(TemporalAccessor parsed, ChronoField field,
+        int defaultValue) {
+      return parsed.isSupported(field) ? parsed.get(field) : defaultValue;
+    }
+
+  }
+
   /**
    * A builder that produces a {@link DateTypeConverter}.
    */
@@ -0,0 +1,71 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * A {@link ValueTypeConverter} that converts {@link Instant} objects to and
+ * from a string representation.
+ * <p>
+ * By default, the {@linkplain DateTimeFormatter#ISO_INSTANT ISO 8601 instant}
+ * representation is used.
+ *
+ * @author Carl Harris
+ */
+public class InstantTypeConverter extends TemporalTypeConverter<Instant> {
+
+  /**
+   * Constructs a new instance that uses ISO 8601 format.
+   */
+  public InstantTypeConverter() {
+    super(Instant.class, DateTimeFormatter.ISO_INSTANT);
+  }
+
+  /**
+   * Constructs an instance that uses a custom pattern.
+   * @param pattern pattern using the syntax specified for
+   *    {@link DateTimeFormatter}
+   */
+  public InstantTypeConverter(String pattern) {
+    this();
+    setPattern(pattern);
+  }
+
+  @Override
+  protected Instant from(TemporalAccessor temporal) {
+    return Instant.from(temporal);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * An instant cannot be formatted without a time zone; a formatter that
+   * does not specify a zone is configured to use UTC.
+   */
+  @Override
+  protected DateTimeFormatter prepare(DateTimeFormatter formatter) {
+    return formatter.getZone() != null ?
+        formatter : formatter.withZone(ZoneOffset.UTC);
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * A {@link ValueTypeConverter} that converts {@link OffsetDateTime} objects to and
+ * from a string representation.
+ * <p>
+ * By default, the {@linkplain DateTimeFormatter#ISO_OFFSET_DATE_TIME ISO 8601
+ * date and time with offset} representation is used.
+ *
+ * @author Carl Harris
+ */
+public class OffsetDateTimeTypeConverter extends TemporalTypeConverter<OffsetDateTime> {
+
+  /**
+   * Constructs a new instance that uses ISO 8601 format.
+   */
+  public OffsetDateTimeTypeConverter() {
+    super(OffsetDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+  }
+
+  /**
+   * Constructs an instance that uses a custom pattern.
+   * @param pattern pattern using the syntax specified for
+   *    {@link DateTimeFormatter}
+   */
+  public OffsetDateTimeTypeConverter(String pattern) {
+    this();
+    setPattern(pattern);
+  }
+
+  @Override
+  protected OffsetDateTime from(TemporalAccessor temporal) {
+    return OffsetDateTime.from(temporal);
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * An abstract base for {@link ValueTypeConverter} implementations that
+ * convert {@code java.time} objects to and from a string representation.
+ * <p>
+ * By default, a converter uses the ISO 8601 representation appropriate to its
+ * supported type. Use the {@link #setPattern(String) pattern} property to
+ * specify a custom pattern using the syntax specified for
+ * {@link DateTimeFormatter}, or the {@link #setFormatter(DateTimeFormatter)
+ * formatter} property to specify a formatter directly.
+ * <p>
+ * A converter can be safely shared by concurrent threads, once it has been
+ * configured.
+ *
+ * @param <T> supported type
+ * @author Carl Harris
+ */
+public abstract class TemporalTypeConverter<T extends TemporalAccessor>
+    implements ValueTypeConverter {
+
+  private final Class<T> supportedType;
+
+  private volatile DateTimeFormatter formatter;
+
+  /**
+   * Constructs a new instance.
+   * @param supportedType supported type
+   * @param formatter default formatter
+   */
+  protected TemporalTypeConverter(Class<T> supportedType,
+      DateTimeFormatter formatter) {
+    this.supportedType = supportedType;
+    this.formatter = formatter;
+  }
+
+  @Override
+  public boolean supports(Class<?> type) {
+    return supportedType.equals(type);
+  }
+
+  @Override
+  public Class<String> getType() {
+    return String.class;
+  }
+
+  @Override
+  public Object toViewValue(Object modelValue, ViewContext context)
+      throws Exception {
+    assert supportedType.isInstance(modelValue);
+    return formatter.format((TemporalAccessor) modelValue);
+  }
+
+  @Override
+  public T toModelValue(Object viewValue, ViewContext context)
+      throws Exception {
+    return from(formatter.parse(viewValue.toString()));
+  }
+
+  /**
+   * Obtains an instance of the supported type from a parsed value.
+   * @param temporal the parsed value
+   * @return instance of the supported type
+   */
+  protected abstract T from(TemporalAccessor temporal);
+
+  /**
+   * Prepares a formatter for use by this converter.
+   * <p>
+   * This implementation returns {@code formatter} unchanged. A subclass may
+   * override it to supply any configuration that its supported type
+   * requires.
+   *
+   * @param formatter the formatter to prepare
+   * @return prepared formatter
+   */
+  protected DateTimeFormatter prepare(DateTimeFormatter formatter) {
+    return formatter;
+  }
+
+  /**
+   * Gets the {@code formatter} property.
+   * @return property value
+   */
+  public DateTimeFormatter getFormatter() {
+    return formatter;
+  }
+
+  /**
+   * Sets the {@code formatter} property.
+   * @param formatter the property value to set
+   */
+  public void setFormatter(DateTimeFormatter formatter) {
+    if (formatter == null) {
+      throw new NullPointerException("formatter must not be null");
+    }
+    this.formatter = prepare(formatter);
+  }
+
+  /**
+   * Sets the {@code formatter} property to a formatter for the given
+   * pattern.
+   * @param pattern pattern using the syntax specified for
+   *    {@link DateTimeFormatter}
+   */
+  public void setPattern(String pattern) {
+    setFormatter(DateTimeFormatter.ofPattern(pattern));
+  }
+
+}
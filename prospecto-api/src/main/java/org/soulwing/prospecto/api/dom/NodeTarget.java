@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.dom;
+
+import org.soulwing.prospecto.api.ViewWriter;
+import org.w3c.dom.Node;
+
+/**
+ * A target for a {@link ViewWriter} that appends the view to a DOM node.
+ * <p>
+ * The root element of the view is appended as a child of the target node,
+ * which is typically an empty {@link org.w3c.dom.Document}.
+ *
+ * @author Carl Harris
+ */
+public class NodeTarget implements ViewWriter.Target {
+
+  private final Node node;
+
+  public NodeTarget(Node node) {
+    this.node = node;
+  }
+
+  public Node getNode() {
+    return node;
+  }
+
+}
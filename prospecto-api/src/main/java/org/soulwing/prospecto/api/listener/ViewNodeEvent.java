@@ -23,6 +23,10 @@ import org.soulwing.prospecto.api.template.ViewNode;
 
 /**
  * An event about a view node.
+ * <p>
+ * An event is immutable and may be retained by a listener, but the
+ * {@linkplain #getContext() context} it references is not; see the
+ * {@linkplain org.soulwing.prospecto.api.listener package description}.
  *
  * @author Carl Harris
  */
@@ -32,5 +32,16 @@
  * See the various listener subtypes in the package for a description of
  * when and under what conditions a listener of that type is invoked during the
  * view processing lifecycle.
+ * <p>
+ * Events are created only when a listener that would receive them has been
+ * registered; generating or applying a view with no listeners of a given
+ * type incurs no cost for events of that type. The same event instance may
+ * be passed to more than one listener (and to more than one method of the
+ * same listener), so listeners should not rely upon the identity of an
+ * event. Event objects are immutable and may be retained by a listener
+ * after a notification returns; however, the view context referenced by
+ * an event continues to change as the traversal proceeds, so a listener
+ * that needs the state of the context (e.g. the current view path) at the
+ * time of the notification must copy that state before returning.
  */
 package org.soulwing.prospecto.api.listener;
\ No newline at end of file
@@ -44,4 +44,21 @@ public interface ViewKeys {
   String DISCRIMINATOR_NAME = ViewKeys.PREFIX
       + ".view.discriminatorName";
 
+  /**
+   * When set to {@code true} a template generates a view whose events are
+   * produced incrementally as the view is iterated, rather than all at once
+   * when the view is generated.
+   * <p>
+   * A streaming view can be iterated only once, and the model (along with
+   * any context it requires, such as an open persistence context) must remain
+   * available until the view has been fully iterated. Listeners are notified
+   * as the corresponding events are produced.
+   * <p>
+   * When a streaming view is written by one of the framework's view writers,
+   * its events are passed to the writer as they are generated, without
+   * first being collected into the view.
+   */
+  String STREAMING_VIEWS = ViewKeys.PREFIX
+      + ".view.streaming";
+
 }
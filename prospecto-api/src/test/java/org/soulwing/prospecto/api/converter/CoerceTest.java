@@ -24,6 +24,10 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
@@ -274,6 +278,32 @@ public class CoerceTest {
     coerceAndValidate(MockValueTypeWithConstructor.class, "value", value);
   }
 
+  @Test
+  public void testCoerceStringToEnumWithUnknownName() throws Exception {
+    assertThat(Coerce.toValueOfType(MockEnum.class, "UNKNOWN"),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testCoerceObjectToValueTypeWhenValueOfRejectsValue()
+      throws Exception {
+    coerceAndValidate(MockValueTypeWithRejectingValueOf.class, "value",
+        new MockValueTypeWithRejectingValueOf("value"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCoerceToUnsupportedType() throws Exception {
+    Coerce.toValueOfType(Runnable.class, "value");
+  }
+
+  @Test
+  public void testCoerceValuesOfDifferentTypesToSameType() throws Exception {
+    coerceAndValidate(Long.class, -1, -1L);
+    coerceAndValidate(Long.class, "-1", -1L);
+    coerceAndValidate(Long.class, -1, -1L);
+    assertThat(Coerce.toValueOfType(Long.class, ""), is(nullValue()));
+  }
+
   @SuppressWarnings("unchecked")
   private <T> void coerceAndValidate(Class<T> type, Object value, T expected)
       throws Exception {
@@ -333,4 +363,115 @@ public class CoerceTest {
     }
   }
 
+  static class MockValueTypeWithRejectingValueOf {
+    private final Object value;
+
+    @SuppressWarnings("unused")
+    public static MockValueTypeWithRejectingValueOf valueOf(Object value) {
+      throw new IllegalArgumentException();
+    }
+
+    public MockValueTypeWithRejectingValueOf(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj == this
+          || obj instanceof MockValueTypeWithRejectingValueOf
+          && Objects.equals(this.value,
+          ((MockValueTypeWithRejectingValueOf) obj).value);
+    }
+  }
+
+  @Test
+  public void testDoesNotRetainApplicationClassLoader() throws Exception {
+    final WeakReference<ClassLoader> ref = coerceApplicationValue();
+    for (int i = 0; i < 50 && ref.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertThat(ref.get(), is(nullValue()));
+  }
+
+  private WeakReference<ClassLoader> coerceApplicationValue() throws Exception {
+    final ClassLoader classLoader = new ApplicationClassLoader();
+    final Class<?> type = classLoader.loadClass(
+        ApplicationValue.class.getName());
+    final Object value = Coerce.toValueOfType(type, "value");
+    assertThat(value, is(instanceOf(type)));
+    assertThat(Coerce.toValueOfType(String.class, value),
+        is(equalTo((Object) "value")));
+    return new WeakReference<>(classLoader);
+  }
+
+  public static class ApplicationValue {
+
+    private final String value;
+
+    private ApplicationValue(String value) {
+      this.value = value;
+    }
+
+    public static ApplicationValue valueOf(String value) {
+      return new ApplicationValue(value);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+
+  }
+
+  /**
+   * A class loader that defines its own copy of {@link ApplicationValue},
+   * like the class loader of an application.
+   */
+  private static class ApplicationClassLoader extends ClassLoader {
+
+    ApplicationClassLoader() {
+      super(CoerceTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve)
+        throws ClassNotFoundException {
+      if (!name.equals(ApplicationValue.class.getName())) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> type = findLoadedClass(name);
+        if (type == null) {
+          final byte[] bytes = classBytes(name);
+          type = defineClass(name, bytes, 0, bytes.length);
+        }
+        return type;
+      }
+    }
+
+    private byte[] classBytes(String name) throws ClassNotFoundException {
+      try (InputStream inputStream = getParent().getResourceAsStream(
+          name.replace('.', '/') + ".class")) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buf = new byte[4096];
+        int numRead = inputStream.read(buf);
+        while (numRead != -1) {
+          outputStream.write(buf, 0, numRead);
+          numRead = inputStream.read(buf);
+        }
+        return outputStream.toByteArray();
+      }
+      catch (IOException ex) {
+        throw new ClassNotFoundException(name, ex);
+      }
+    }
+
+  }
+
 }
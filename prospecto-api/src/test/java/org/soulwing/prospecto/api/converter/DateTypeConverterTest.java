@@ -73,6 +73,24 @@ public class DateTypeConverterTest {
     assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
   }
 
+  @Test
+  public void testConvertUsingISO8601WithTimeZoneAndMillis() throws Exception {
+    converter.setTimeZoneId("GMT");
+    converter.setFormat(DateTypeConverter.Format.ISO8601_WITH_TIME_ZONE);
+    final Date date = new Date(123);
+    final String value = (String) converter.toViewValue(date, viewContext);
+    assertThat(value, is(equalTo("1970-01-01T00:00:00.123Z")));
+    assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
+  }
+
+  @Test
+  public void testParseUsingISO8601WithTimeZoneOffset() throws Exception {
+    converter.setTimeZoneId("GMT");
+    converter.setFormat(DateTypeConverter.Format.ISO8601_WITH_TIME_ZONE);
+    assertThat(converter.toModelValue("1969-12-31T19:00:00-05:00", viewContext),
+        is(equalTo(new Date(0))));
+  }
+
   @Test
   public void testConvertUsingISO8601Date() throws Exception {
     converter.setTimeZoneId("GMT");
@@ -114,6 +132,31 @@ public class DateTypeConverterTest {
     assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
   }
 
+  @Test
+  public void testConvertUsingTwoDigitYearPattern() throws Exception {
+    converter.setTimeZoneId("GMT");
+    converter.setFormat(DateTypeConverter.Format.CUSTOM);
+    converter.setPattern("MM/dd/yy");
+    final Date date = new Date(0);
+    final String value = (String) converter.toViewValue(date, viewContext);
+    assertThat(value, is(equalTo("01/01/70")));
+    assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
+  }
+
+  @Test
+  public void testConvertAfterChangingFormat() throws Exception {
+    converter.setTimeZoneId("GMT");
+    final Date date = new Date(0);
+    assertThat((String) converter.toViewValue(date, viewContext),
+        is(equalTo("1970-01-01T00:00:00")));
+    converter.setFormat(DateTypeConverter.Format.ISO8601_DATE);
+    assertThat((String) converter.toViewValue(date, viewContext),
+        is(equalTo("1970-01-01")));
+    converter.setTimeZoneId("America/New_York");
+    assertThat((String) converter.toViewValue(date, viewContext),
+        is(equalTo("1969-12-31")));
+  }
+
   @Test
   public void testSupports() throws Exception {
     converter.setSupportedType(java.sql.Time.class);
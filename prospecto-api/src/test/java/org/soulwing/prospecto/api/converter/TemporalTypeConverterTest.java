@@ -0,0 +1,148 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * Unit tests for {@link TemporalTypeConverter} and its subtypes.
+ *
+ * @author Carl Harris
+ */
+public class TemporalTypeConverterTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ViewContext viewContext;
+
+  @Test
+  public void testConvertInstant() throws Exception {
+    final InstantTypeConverter converter = new InstantTypeConverter();
+    final Instant instant = Instant.ofEpochMilli(123);
+    final String value = (String) converter.toViewValue(instant, viewContext);
+    assertThat(value, is(equalTo("1970-01-01T00:00:00.123Z")));
+    assertThat(converter.toModelValue(value, viewContext),
+        is(equalTo(instant)));
+  }
+
+  @Test
+  public void testConvertInstantUsingPattern() throws Exception {
+    final InstantTypeConverter converter =
+        new InstantTypeConverter("yyyy-MM-dd HH:mm:ssXXX");
+    final Instant instant = Instant.ofEpochMilli(0);
+    final String value = (String) converter.toViewValue(instant, viewContext);
+    assertThat(value, is(equalTo("1970-01-01 00:00:00Z")));
+    assertThat(converter.toModelValue(value, viewContext),
+        is(equalTo(instant)));
+  }
+
+  @Test
+  public void testConvertLocalDate() throws Exception {
+    final LocalDateTypeConverter converter = new LocalDateTypeConverter();
+    final LocalDate date = LocalDate.of(1970, 1, 2);
+    final String value = (String) converter.toViewValue(date, viewContext);
+    assertThat(value, is(equalTo("1970-01-02")));
+    assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
+  }
+
+  @Test
+  public void testConvertLocalDateUsingPattern() throws Exception {
+    final LocalDateTypeConverter converter =
+        new LocalDateTypeConverter("MM/dd/yyyy");
+    final LocalDate date = LocalDate.of(1970, 1, 2);
+    final String value = (String) converter.toViewValue(date, viewContext);
+    assertThat(value, is(equalTo("01/02/1970")));
+    assertThat(converter.toModelValue(value, viewContext), is(equalTo(date)));
+  }
+
+  @Test
+  public void testConvertLocalDateTime() throws Exception {
+    final LocalDateTimeTypeConverter converter =
+        new LocalDateTimeTypeConverter();
+    final LocalDateTime dateTime = LocalDateTime.of(1970, 1, 2, 3, 4, 5);
+    final String value = (String) converter.toViewValue(dateTime, viewContext);
+    assertThat(value, is(equalTo("1970-01-02T03:04:05")));
+    assertThat(converter.toModelValue(value, viewContext),
+        is(equalTo(dateTime)));
+  }
+
+  @Test
+  public void testConvertOffsetDateTime() throws Exception {
+    final OffsetDateTimeTypeConverter converter =
+        new OffsetDateTimeTypeConverter();
+    final OffsetDateTime dateTime = OffsetDateTime.of(1970, 1, 2, 3, 4, 5, 0,
+        ZoneOffset.ofHours(-5));
+    final String value = (String) converter.toViewValue(dateTime, viewContext);
+    assertThat(value, is(equalTo("1970-01-02T03:04:05-05:00")));
+    assertThat(converter.toModelValue(value, viewContext),
+        is(equalTo(dateTime)));
+  }
+
+  @Test
+  public void testConvertZonedDateTime() throws Exception {
+    final ZonedDateTimeTypeConverter converter =
+        new ZonedDateTimeTypeConverter();
+    final ZonedDateTime dateTime = ZonedDateTime.of(1970, 1, 2, 3, 4, 5, 0,
+        ZoneId.of("America/New_York"));
+    final String value = (String) converter.toViewValue(dateTime, viewContext);
+    assertThat(value,
+        is(equalTo("1970-01-02T03:04:05-05:00[America/New_York]")));
+    assertThat(converter.toModelValue(value, viewContext),
+        is(equalTo(dateTime)));
+  }
+
+  @Test
+  public void testSetFormatter() throws Exception {
+    final LocalDateTypeConverter converter = new LocalDateTypeConverter();
+    converter.setFormatter(DateTimeFormatter.BASIC_ISO_DATE);
+    assertThat((String) converter.toViewValue(LocalDate.of(1970, 1, 2),
+        viewContext), is(equalTo("19700102")));
+  }
+
+  @Test
+  public void testSupports() throws Exception {
+    assertThat(new InstantTypeConverter().supports(Instant.class), is(true));
+    assertThat(new LocalDateTypeConverter().supports(LocalDate.class),
+        is(true));
+    assertThat(new LocalDateTypeConverter().supports(LocalDateTime.class),
+        is(false));
+    assertThat(new ZonedDateTimeTypeConverter().supports(
+        OffsetDateTime.class), is(false));
+  }
+
+}
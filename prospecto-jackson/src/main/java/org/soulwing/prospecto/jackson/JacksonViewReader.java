@@ -0,0 +1,215 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.InputStream;
+
+import org.soulwing.prospecto.ViewOptionsRegistry;
+import org.soulwing.prospecto.api.ViewInputException;
+import org.soulwing.prospecto.api.ViewReader;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.ViewDefaults;
+import org.soulwing.prospecto.api.options.ViewKeys;
+import org.soulwing.prospecto.api.text.InputStreamSource;
+import org.soulwing.prospecto.runtime.text.AbstractViewReader;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * A {@link ViewReader} that reads a view from the token stream of a
+ * Jackson {@link JsonParser}.
+ * <p>
+ * The view's events are produced using the same rules as the {@code JSON}
+ * reader. The reader consumes the single JSON value that starts at the
+ * parser's current token (or the next token, if the parser has no current
+ * token); when the view has been read, the parser is positioned at the last
+ * token of the value. As with Jackson's own tree deserializer, a parser
+ * positioned at a field name (or at the end of an object) is taken to be
+ * positioned within an object whose start token has already been consumed;
+ * the reader reads the remainder of that object.
+ * <p>
+ * A parser supplied by the caller is <em>not</em> closed. When the reader
+ * creates a parser for a source input stream, the parser is closed, but the
+ * input stream is not.
+ *
+ * @author Carl Harris
+ */
+class JacksonViewReader extends AbstractViewReader {
+
+  private final JsonFactory factory;
+  private final Source source;
+
+  private JsonParser parser;
+  private String name;
+
+  /**
+   * Constructs a new instance.
+   * @param parser source parser
+   * @param options configuration options
+   */
+  JacksonViewReader(JsonParser parser, Options options) {
+    super(options);
+    this.factory = null;
+    this.source = null;
+    this.parser = parser;
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param inputStream source input stream
+   * @param factory factory for the parser used to read the view
+   * @param options configuration options
+   */
+  JacksonViewReader(InputStream inputStream, JsonFactory factory,
+      Options options) {
+    this(new InputStreamSource(inputStream), factory, options);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param source source for the textual representation
+   * @param factory factory for the parser used to read the view
+   * @param options configuration options
+   */
+  JacksonViewReader(Source source, JsonFactory factory, Options options) {
+    super(options);
+    if (!(source instanceof InputStreamSource)) {
+      throw new IllegalArgumentException("only the "
+          + InputStreamSource.class.getSimpleName() + " source type is supported");
+    }
+    this.factory = factory;
+    this.source = source;
+  }
+
+  @Override
+  protected void onReadView() throws Exception {
+    if (factory == null) {
+      readValue();
+      return;
+    }
+    parser = factory.createParser(
+        ((InputStreamSource) source).getInputStream());
+    try {
+      readValue();
+    }
+    finally {
+      parser.close();
+    }
+  }
+
+  private void readValue() throws Exception {
+    JsonToken token = parser.getCurrentToken();
+    if (token == null) {
+      token = parser.nextToken();
+    }
+    int depth = 0;
+    if (token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+      // the start of the object was consumed before the parser was given to
+      // us (e.g. while buffering tokens to find a polymorphic type id)
+      beginObject(null);
+      depth++;
+    }
+    while (token != null) {
+      switch (token) {
+        case FIELD_NAME:
+          setName(parser.getCurrentName());
+          break;
+        case VALUE_STRING:
+          valueString();
+          break;
+        case VALUE_NUMBER_INT:
+          valueInteger();
+          break;
+        case VALUE_NUMBER_FLOAT:
+          value(getName(), parser.getDecimalValue());
+          break;
+        case VALUE_FALSE:
+          value(getName(), Boolean.FALSE);
+          break;
+        case VALUE_TRUE:
+          value(getName(), Boolean.TRUE);
+          break;
+        case VALUE_NULL:
+          nullValue(getName());
+          break;
+        case START_OBJECT:
+          beginObject(getName());
+          depth++;
+          break;
+        case START_ARRAY:
+          beginArray(getName());
+          depth++;
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          end();
+          depth--;
+          break;
+        default:
+          throw new ViewInputException("unsupported token: " + token);
+      }
+      if (depth == 0 && token != JsonToken.FIELD_NAME) break;
+      token = parser.nextToken();
+    }
+  }
+
+  private boolean isDiscriminator() {
+    return name != null && name.equals(
+        ViewOptionsRegistry.getOptions().get(
+            ViewKeys.DISCRIMINATOR_NAME, ViewDefaults.DISCRIMINATOR_NODE_NAME)
+            .toString());
+  }
+
+  private String getName() {
+    final String name = this.name;
+    this.name = null;
+    return name;
+  }
+
+  private void setName(String name) {
+    this.name = name;
+  }
+
+  private void valueString() throws Exception {
+    if (isDiscriminator()) {
+      discriminator(parser.getText());
+    }
+    else {
+      value(getName(), parser.getText());
+    }
+  }
+
+  private void valueInteger() throws Exception {
+    final Number value;
+    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+      value = parser.getBigIntegerValue();
+    }
+    else {
+      value = parser.getLongValue();
+    }
+    if (isDiscriminator()) {
+      discriminator(value);
+    }
+    else {
+      value(getName(), value);
+    }
+  }
+
+}
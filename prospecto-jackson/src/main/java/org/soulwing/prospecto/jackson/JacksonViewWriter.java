@@ -0,0 +1,341 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Map;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.xml.bind.DatatypeConverter;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.api.text.OutputStreamTarget;
+import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * A {@link ViewWriter} that writes a view using a Jackson
+ * {@link JsonGenerator}.
+ * <p>
+ * The representation is the same as that produced by the {@code JSON}
+ * writer, including the envelope, null value, date, and discriminator
+ * rules, but the view's events are passed directly to the generator.
+ * The view is written as a single JSON value, so it may be written as a
+ * property value of an enclosing object.
+ * <p>
+ * A generator supplied by the caller is flushed but is <em>not</em> closed.
+ * When the writer creates a generator for a target output stream, the
+ * generator is closed, but the output stream is not.
+ *
+ * @author Carl Harris
+ */
+class JacksonViewWriter extends AbstractViewWriter {
+
+  enum GeneratorContext {
+    OBJECT, ARRAY
+  }
+
+  private final Deque<GeneratorContext> contextStack = new LinkedList<>();
+
+  private final JsonFactory factory;
+  private final boolean isoDateTime;
+
+  private OutputStream outputStream;
+  private JsonGenerator generator;
+  private boolean enveloped;
+  private boolean firstEvent = true;
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param generator target generator
+   * @param options configuration options
+   */
+  JacksonViewWriter(View view, JsonGenerator generator, Options options) {
+    this(view, (JsonFactory) null, options);
+    this.generator = generator;
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param factory factory for the generator used to write the view
+   * @param options configuration options
+   */
+  JacksonViewWriter(View view, JsonFactory factory, Options options) {
+    super(view, options);
+    this.factory = factory;
+    this.isoDateTime = options.isEnabled(WriterKeys.USE_ISO_DATETIME);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param outputStream target output stream for the textual representation
+   * @param factory factory for the generator used to write the view
+   * @param options configuration options
+   */
+  JacksonViewWriter(View view, OutputStream outputStream, JsonFactory factory,
+      Options options) {
+    this(view, factory, options);
+    this.outputStream = outputStream;
+  }
+
+  @Override
+  public void writeView(Target target) {
+    if (factory == null || !(target instanceof OutputStreamTarget)) {
+      throw new IllegalArgumentException("this writer supports only the "
+          + OutputStreamTarget.class.getSimpleName() + " target");
+    }
+    this.outputStream = ((OutputStreamTarget) target).getOutputStream();
+    writeView();
+  }
+
+  @Override
+  protected void beforeViewEvents() throws Exception {
+    if (factory == null) return;
+    // Jackson's byte generator writes a character outside of the BMP as a
+    // pair of escaped surrogates; the JSON-P generator writes it as is
+    generator = factory.createGenerator(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    if (getOptions().isEnabled(WriterKeys.PRETTY_PRINT_OUTPUT)) {
+      generator.setPrettyPrinter(new JsonPPrettyPrinter());
+    }
+  }
+
+  @Override
+  protected void onBeginObject(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartObject(event);
+  }
+
+  @Override
+  protected void onEndObject(View.Event event) throws Exception {
+    writeEnd();
+  }
+
+  @Override
+  protected void onBeginArray(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartArray(event);
+  }
+
+  @Override
+  protected void onEndArray(View.Event event) throws Exception {
+    writeEnd();
+  }
+
+  @Override
+  protected void onValue(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onMeta(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onDiscriminator(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void afterViewEvents() throws Exception {
+    if (enveloped) {
+      writeEnd();
+    }
+    if (factory != null) {
+      generator.close();
+    }
+    else {
+      generator.flush();
+    }
+  }
+
+  private void writeStartEnvelope(View.Event event) throws IOException {
+    if (!firstEvent) return;
+    enveloped = isEnveloped(event);
+    if (!enveloped) return;
+    generator.writeStartObject();
+    contextStack.push(GeneratorContext.OBJECT);
+    for (final Map.Entry<String, Object> property : getView().envelope()) {
+      writeValue(property.getKey(), property.getValue());
+    }
+  }
+
+  private boolean isEnveloped(View.Event event) {
+    if (event.getName() == null) return false;
+    if (event.getType() == View.Event.Type.BEGIN_ARRAY) {
+      return (boolean) getOptions().get(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, true);
+    }
+    return (boolean) getOptions().get(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, false);
+  }
+
+  private void writeStartObject(View.Event event) throws IOException {
+    writeName(event.getName());
+    generator.writeStartObject();
+    contextStack.push(GeneratorContext.OBJECT);
+    firstEvent = false;
+  }
+
+  private void writeStartArray(View.Event event) throws IOException {
+    writeName(event.getName());
+    generator.writeStartArray();
+    contextStack.push(GeneratorContext.ARRAY);
+    firstEvent = false;
+  }
+
+  private void writeEnd() throws IOException {
+    if (contextStack.pop() == GeneratorContext.ARRAY) {
+      generator.writeEndArray();
+    }
+    else {
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * Writes the name of the next value, if the value is written in the
+   * context of an object.
+   * @param name name of the value (may be {@code null})
+   * @throws IOException
+   */
+  private void writeName(String name) throws IOException {
+    if (name != null && contextStack.peek() == GeneratorContext.OBJECT) {
+      generator.writeFieldName(name);
+    }
+  }
+
+  private void writeValue(String name, Object value) throws IOException {
+    writeName(name);
+    writeValue(value);
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value instanceof BigDecimal) {
+      generator.writeNumber((BigDecimal) value);
+    }
+    else if (value instanceof BigInteger) {
+      generator.writeNumber((BigInteger) value);
+    }
+    else if (value instanceof Number) {
+      if (value instanceof Double || value instanceof Float) {
+        generator.writeNumber(((Number) value).doubleValue());
+      }
+      else {
+        generator.writeNumber(((Number) value).longValue());
+      }
+    }
+    else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    }
+    else if (value instanceof Date) {
+      if (isoDateTime) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime((Date) value);
+        generator.writeString(DatatypeConverter.printDateTime(calendar));
+      }
+      else {
+        generator.writeNumber(((Date) value).getTime());
+      }
+    }
+    else if (value instanceof Calendar) {
+      if (isoDateTime) {
+        generator.writeString(
+            DatatypeConverter.printDateTime((Calendar) value));
+      }
+      else {
+        generator.writeNumber(((Calendar) value).getTimeInMillis());
+      }
+    }
+    else if (value instanceof Enum) {
+      generator.writeString(((Enum<?>) value).name());
+    }
+    else if (value == null || value.toString() == null) {
+      generator.writeNull();
+    }
+    else if (value instanceof JsonValue) {
+      writeJsonValue((JsonValue) value);
+    }
+    else {
+      generator.writeString(value.toString());
+    }
+  }
+
+  private void writeJsonValue(JsonValue value) throws IOException {
+    switch (value.getValueType()) {
+      case NULL:
+        generator.writeNull();
+        break;
+      case FALSE:
+        generator.writeBoolean(false);
+        break;
+      case TRUE:
+        generator.writeBoolean(true);
+        break;
+      case STRING:
+        generator.writeString(((JsonString) value).getString());
+        break;
+      case NUMBER:
+        if (((JsonNumber) value).isIntegral()) {
+          generator.writeNumber(((JsonNumber) value).bigIntegerValue());
+        }
+        else {
+          generator.writeNumber(((JsonNumber) value).bigDecimalValue());
+        }
+        break;
+      case OBJECT:
+        generator.writeStartObject();
+        for (final Map.Entry<String, JsonValue> entry :
+            ((JsonObject) value).entrySet()) {
+          generator.writeFieldName(entry.getKey());
+          writeJsonValue(entry.getValue());
+        }
+        generator.writeEndObject();
+        break;
+      case ARRAY:
+        generator.writeStartArray();
+        for (final JsonValue element : (JsonArray) value) {
+          writeJsonValue(element);
+        }
+        generator.writeEndArray();
+        break;
+      default:
+        throw new IllegalStateException("unrecognized value type");
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Jackson {@link CharacterEscapes} that escape characters in the same way
+ * as the generator of the JSON-P reference implementation.
+ * <p>
+ * Jackson's standard escapes differ only in that a control character that
+ * has no short escape sequence is written using upper case hexadecimal
+ * digits; these escapes use lower case digits instead.
+ *
+ * @author Carl Harris
+ */
+class JsonPCharacterEscapes extends CharacterEscapes {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int[] escapes;
+
+  JsonPCharacterEscapes() {
+    escapes = standardAsciiEscapesForJSON();
+    for (int c = 0; c < 0x20; c++) {
+      if (escapes[c] == ESCAPE_STANDARD) {
+        escapes[c] = ESCAPE_CUSTOM;
+      }
+    }
+  }
+
+  @Override
+  public int[] getEscapeCodesForAscii() {
+    return escapes;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Jackson also consults this method for each non-ASCII character; such
+   * characters are not escaped.
+   */
+  @Override
+  public SerializableString getEscapeSequence(int c) {
+    if (c >= 0x20) return null;
+    final String hex = "000" + Integer.toHexString(c);
+    return new SerializedString("\\u" + hex.substring(hex.length() - 4));
+  }
+
+}
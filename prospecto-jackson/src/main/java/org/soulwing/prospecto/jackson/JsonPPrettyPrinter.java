@@ -0,0 +1,125 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+
+/**
+ * A Jackson {@link PrettyPrinter} that produces the same layout as the
+ * pretty printing generator of the JSON-P reference implementation.
+ * <p>
+ * Each entry of an object or array is written on a new line, indented by
+ * four spaces for each level of nesting, and the closing bracket of every
+ * structure (even an empty one) is written on a new line. A name is
+ * separated from its value by a colon and a single space, and a structure
+ * at the root level is preceded by a new line.
+ * <p>
+ * A printer keeps track of the nesting level, so each generator requires
+ * its own instance.
+ *
+ * @author Carl Harris
+ */
+class JsonPPrettyPrinter implements PrettyPrinter {
+
+  private static final String INDENT = "    ";
+
+  private int level;
+
+  @Override
+  public void writeRootValueSeparator(JsonGenerator generator)
+      throws IOException {
+  }
+
+  @Override
+  public void writeStartObject(JsonGenerator generator) throws IOException {
+    writeStart(generator, '{');
+  }
+
+  @Override
+  public void writeEndObject(JsonGenerator generator, int entryCount)
+      throws IOException {
+    writeEnd(generator, '}');
+  }
+
+  @Override
+  public void writeObjectEntrySeparator(JsonGenerator generator)
+      throws IOException {
+    generator.writeRaw(',');
+    writeNewLine(generator);
+  }
+
+  @Override
+  public void writeObjectFieldValueSeparator(JsonGenerator generator)
+      throws IOException {
+    generator.writeRaw(": ");
+  }
+
+  @Override
+  public void writeStartArray(JsonGenerator generator) throws IOException {
+    writeStart(generator, '[');
+  }
+
+  @Override
+  public void writeEndArray(JsonGenerator generator, int valueCount)
+      throws IOException {
+    writeEnd(generator, ']');
+  }
+
+  @Override
+  public void writeArrayValueSeparator(JsonGenerator generator)
+      throws IOException {
+    generator.writeRaw(',');
+    writeNewLine(generator);
+  }
+
+  @Override
+  public void beforeArrayValues(JsonGenerator generator) throws IOException {
+    writeNewLine(generator);
+  }
+
+  @Override
+  public void beforeObjectEntries(JsonGenerator generator) throws IOException {
+    writeNewLine(generator);
+  }
+
+  private void writeStart(JsonGenerator generator, char c) throws IOException {
+    if (level == 0) {
+      generator.writeRaw('\n');
+    }
+    generator.writeRaw(c);
+    level++;
+  }
+
+  private void writeEnd(JsonGenerator generator, char c) throws IOException {
+    level--;
+    writeNewLine(generator);
+    generator.writeRaw(c);
+  }
+
+  private void writeNewLine(JsonGenerator generator) throws IOException {
+    generator.writeRaw('\n');
+    for (int i = 0; i < level; i++) {
+      generator.writeRaw(INDENT);
+    }
+  }
+
+}
@@ -18,28 +18,26 @@
  */
 package org.soulwing.prospecto.jackson;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
-import org.soulwing.prospecto.ViewReaderFactoryProducer;
+import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.View;
-import org.soulwing.prospecto.api.ViewReaderFactory;
+import org.soulwing.prospecto.api.options.Options;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 /**
  * A Jackson deserializer for a Prospecto {@link View}.
+ * <p>
+ * The view's events are produced directly from the Jackson parser's token
+ * stream, using the same rules as the {@code JSON} view reader.
  *
  * @author Carl Harris
  */
 public class ViewDeserializer extends StdDeserializer<View> {
 
-  private final ViewReaderFactory readerFactory =
-      ViewReaderFactoryProducer.getFactory("JSON");
+  private final Options options = ViewOptionsRegistry.getOptions();
 
   public ViewDeserializer() {
     super(View.class);
@@ -48,15 +46,7 @@ public class ViewDeserializer extends StdDeserializer<View> {
   @Override
   public View deserialize(JsonParser jsonParser,
       DeserializationContext deserializationContext) throws IOException  {
-
-    final JsonNode tree = jsonParser.readValueAsTree();
-    final ObjectMapper mapper = new ObjectMapper();
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    mapper.writeValue(outputStream, tree);
-
-    final ByteArrayInputStream inputStream =
-        new ByteArrayInputStream(outputStream.toByteArray());
-    return readerFactory.newReader(inputStream).readView();
+    return new JacksonViewReader(jsonParser, options).readView();
   }
 
 }
@@ -18,27 +18,26 @@
  */
 package org.soulwing.prospecto.jackson;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
-import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.View;
-import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.options.Options;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 /**
  * A Jackson serializer for a Prospecto {@link View}.
+ * <p>
+ * The view's events are written directly to the Jackson generator, using
+ * the same representation as the {@code JSON} view writer.
  *
  * @author Carl Harris
  */
 public class ViewSerializer extends StdSerializer<View> {
 
-  private final ViewWriterFactory writerFactory =
-      ViewWriterFactoryProducer.getFactory("JSON");
+  private final Options options = ViewOptionsRegistry.getOptions();
 
   public ViewSerializer() {
     super(View.class);
@@ -47,15 +46,7 @@ public class ViewSerializer extends StdSerializer<View> {
   @Override
   public void serialize(View view, JsonGenerator jsonGenerator,
       SerializerProvider serializerProvider) throws IOException {
-
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writerFactory.newWriter(view, outputStream).writeView();
-
-    final ObjectMapper mapper = new ObjectMapper();
-    final ByteArrayInputStream inputStream =
-        new ByteArrayInputStream(outputStream.toByteArray());
-
-    jsonGenerator.writeTree(mapper.readTree(inputStream));
+    new JacksonViewWriter(view, jsonGenerator, options).writeView();
   }
 
 }
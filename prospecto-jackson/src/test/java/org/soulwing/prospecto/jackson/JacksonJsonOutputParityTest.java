@@ -0,0 +1,153 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.soulwing.prospecto.api.View.Event.Type.BEGIN_ARRAY;
+import static org.soulwing.prospecto.api.View.Event.Type.BEGIN_OBJECT;
+import static org.soulwing.prospecto.api.View.Event.Type.DISCRIMINATOR;
+import static org.soulwing.prospecto.api.View.Event.Type.END_ARRAY;
+import static org.soulwing.prospecto.api.View.Event.Type.END_OBJECT;
+import static org.soulwing.prospecto.api.View.Event.Type.VALUE;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+import org.junit.Test;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.runtime.view.ViewBuilder;
+
+/**
+ * Verifies that the {@code JACKSON} writers produce the same bytes as
+ * the {@code JSON} writers.
+ *
+ * @author Carl Harris
+ */
+public class JacksonJsonOutputParityTest {
+
+  private final Options options = new OptionsMap();
+
+  @Test
+  public void testObject() throws Exception {
+    assertSameOutput(object());
+  }
+
+  @Test
+  public void testObjectUsingPrettyPrint() throws Exception {
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    assertSameOutput(object());
+  }
+
+  @Test
+  public void testArrayUsingPrettyPrint() throws Exception {
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    assertSameOutput(array());
+  }
+
+  @Test
+  public void testObjectIncludingNulls() throws Exception {
+    options.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+    assertSameOutput(object());
+  }
+
+  @Test
+  public void testObjectUsingIsoDatetime() throws Exception {
+    options.put(WriterKeys.USE_ISO_DATETIME, true);
+    assertSameOutput(object());
+  }
+
+  @Test
+  public void testEnvelopedObject() throws Exception {
+    options.put(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, true);
+    assertSameOutput(object());
+  }
+
+  @Test
+  public void testEnvelopedArray() throws Exception {
+    options.put(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, true);
+    assertSameOutput(array());
+  }
+
+  private void assertSameOutput(View view) throws Exception {
+    assertThat(write(JacksonViewWriterFactoryProvider.NAME, view),
+        is(equalTo(write("JSON", view))));
+  }
+
+  private String write(String providerName, View view) throws Exception {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory(providerName, options)
+        .newWriter(view, outputStream).writeView();
+    return outputStream.toString("UTF-8");
+  }
+
+  private static View object() {
+    return ViewBuilder.begin()
+        .type(BEGIN_OBJECT).name("view")
+        .type(DISCRIMINATOR).name("type").value("someType")
+        .with(values())
+        .type(BEGIN_OBJECT).name("child")
+        .type(END_OBJECT).name("child")
+        .type(BEGIN_ARRAY).name("children")
+        .type(VALUE).value(1)
+        .type(VALUE).value("two")
+        .type(END_ARRAY).name("children")
+        .type(END_OBJECT).name("view")
+        .end();
+  }
+
+  private static View array() {
+    return ViewBuilder.begin()
+        .type(BEGIN_ARRAY).name("view")
+        .type(BEGIN_OBJECT)
+        .with(values())
+        .type(END_OBJECT)
+        .type(BEGIN_ARRAY)
+        .type(END_ARRAY)
+        .type(END_ARRAY).name("view")
+        .end();
+  }
+
+  private static ViewBuilder values() {
+    return ViewBuilder.begin()
+        .type(VALUE).name("string").value("quote\" solidus/ tab\t\u0001 é")
+        .type(VALUE).name("controls")
+            .value("\\ \b\f\n\r \u001f \u007f \u2028 \ud83d\ude00")
+        .type(VALUE).name("int").value(Integer.MAX_VALUE)
+        .type(VALUE).name("long").value(Long.MIN_VALUE)
+        .type(VALUE).name("bigInteger")
+            .value(BigInteger.TEN.pow(30))
+        .type(VALUE).name("bigDecimal").value(new BigDecimal("1.50"))
+        .type(VALUE).name("double").value(0.1)
+        .type(VALUE).name("largeDouble").value(1.0E21)
+        .type(VALUE).name("float").value(0.1f)
+        .type(VALUE).name("short").value((short) -1)
+        .type(VALUE).name("boolean").value(true)
+        .type(VALUE).name("date").value(new Date(0))
+        .type(VALUE).name("null").value(null);
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.InputStream;
+
+import org.soulwing.prospecto.api.ViewReader;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.runtime.text.json.JsonViewReaderTestBase;
+
+/**
+ * Runs the JSON reader tests against the readers of
+ * {@link JacksonViewReaderFactoryProvider}.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewReaderConformanceTest extends JsonViewReaderTestBase {
+
+  @Override
+  protected ViewReader newViewReader(InputStream inputStream, Options options) {
+    return new JacksonViewReaderFactoryProvider().newFactory(options)
+        .newReader(inputStream);
+  }
+
+}
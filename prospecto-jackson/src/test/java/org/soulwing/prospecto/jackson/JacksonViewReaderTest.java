@@ -0,0 +1,117 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.hasEventSequence;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withName;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withNoName;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Unit tests for {@link JacksonViewReader}.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewReaderTest {
+
+  @Test
+  public void testReadObject() throws Exception {
+    final JsonParser parser = new JsonFactory().createParser(
+        "{\"type\":\"Sub\",\"string\":\"value\",\"integer\":42,"
+            + "\"big\":123456789012345678901234567890,\"decimal\":1.5,"
+            + "\"boolean\":false,\"null\":null}");
+
+    assertThat(read(parser), hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName()),
+        eventOfType(View.Event.Type.DISCRIMINATOR,
+            whereValue(is(equalTo("Sub")))),
+        eventOfType(View.Event.Type.VALUE, withName("string"),
+            whereValue(is(equalTo("value")))),
+        eventOfType(View.Event.Type.VALUE, withName("integer"),
+            whereValue(is(equalTo(42L)))),
+        eventOfType(View.Event.Type.VALUE, withName("big"),
+            whereValue(is(equalTo(
+                new BigInteger("123456789012345678901234567890"))))),
+        eventOfType(View.Event.Type.VALUE, withName("decimal"),
+            whereValue(is(equalTo(new BigDecimal("1.5"))))),
+        eventOfType(View.Event.Type.VALUE, withName("boolean"),
+            whereValue(is(equalTo(false)))),
+        eventOfType(View.Event.Type.VALUE, withName("null"),
+            whereValue(is(nullValue()))),
+        eventOfType(View.Event.Type.END_OBJECT, withNoName())
+    ));
+  }
+
+  @Test
+  public void testReadArray() throws Exception {
+    final JsonParser parser = new JsonFactory().createParser(
+        "[\"value\",{\"list\":[]}]");
+
+    assertThat(read(parser), hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_ARRAY, withNoName()),
+        eventOfType(View.Event.Type.VALUE, withNoName(),
+            whereValue(is(equalTo("value")))),
+        eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName()),
+        eventOfType(View.Event.Type.BEGIN_ARRAY, withName("list")),
+        eventOfType(View.Event.Type.END_ARRAY, withName("list")),
+        eventOfType(View.Event.Type.END_OBJECT, withNoName()),
+        eventOfType(View.Event.Type.END_ARRAY, withNoName())
+    ));
+  }
+
+  @Test
+  public void testReadConsumesOnlyOneValue() throws Exception {
+    final JsonParser parser = new JsonFactory().createParser(
+        "{\"view\":{\"string\":\"value\"},\"other\":true}");
+    assertThat(parser.nextToken(), is(JsonToken.START_OBJECT));
+    assertThat(parser.nextToken(), is(JsonToken.FIELD_NAME));
+    assertThat(parser.nextToken(), is(JsonToken.START_OBJECT));
+
+    assertThat(read(parser), hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName()),
+        eventOfType(View.Event.Type.VALUE, withName("string"),
+            whereValue(is(equalTo("value")))),
+        eventOfType(View.Event.Type.END_OBJECT, withNoName())
+    ));
+
+    assertThat(parser.getCurrentToken(), is(JsonToken.END_OBJECT));
+    assertThat(parser.nextToken(), is(JsonToken.FIELD_NAME));
+    assertThat(parser.getCurrentName(), is(equalTo("other")));
+  }
+
+  private View read(JsonParser parser) throws Exception {
+    return new JacksonViewReader(parser, new OptionsMap()).readView();
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.OutputStream;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.runtime.text.json.JsonViewWriterTestBase;
+
+/**
+ * Runs the JSON writer tests against the writers of
+ * {@link JacksonViewWriterFactoryProvider}.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewWriterConformanceTest extends JsonViewWriterTestBase {
+
+  @Override
+  protected ViewWriter newViewWriter(View view, OutputStream outputStream,
+      Options options) {
+    return new JacksonViewWriterFactoryProvider().newFactory(options)
+        .newWriter(view, outputStream);
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import javax.json.Json;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.runtime.view.ViewBuilder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Unit tests for {@link JacksonViewWriter}.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewWriterTest {
+
+  private final Options options = new OptionsMap();
+
+  @Test
+  public void testUnenvelopedObjectView() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT).name("view")
+        .type(View.Event.Type.DISCRIMINATOR).name("type").value("Sub")
+        .type(View.Event.Type.VALUE).name("string").value("value")
+        .type(View.Event.Type.VALUE).name("integer").value(42)
+        .type(View.Event.Type.VALUE).name("decimal").value(new BigDecimal("1.5"))
+        .type(View.Event.Type.VALUE).name("boolean").value(true)
+        .type(View.Event.Type.VALUE).name("date").value(new Date(1000))
+        .type(View.Event.Type.VALUE).name("enum").value(View.Event.Type.VALUE)
+        .type(View.Event.Type.VALUE).name("null").value(null)
+        .type(View.Event.Type.END_OBJECT).name("view")
+        .end();
+
+    assertThat(write(view), is(equalTo("{\"type\":\"Sub\","
+        + "\"string\":\"value\",\"integer\":42,\"decimal\":1.5,"
+        + "\"boolean\":true,\"date\":1000,\"enum\":\"VALUE\"}")));
+  }
+
+  @Test
+  public void testObjectViewWithNullProperties() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT).name("view")
+        .type(View.Event.Type.VALUE).name("null").value(null)
+        .type(View.Event.Type.END_OBJECT).name("view")
+        .end();
+
+    options.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+    assertThat(write(view), is(equalTo("{\"null\":null}")));
+  }
+
+  @Test
+  public void testEnvelopedObjectView() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT).name("view")
+        .type(View.Event.Type.VALUE).name("string").value("value")
+        .type(View.Event.Type.END_OBJECT).name("view")
+        .end();
+    view.envelope().putProperty("count", 1);
+
+    options.put(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, true);
+    assertThat(write(view), is(equalTo(
+        "{\"count\":1,\"view\":{\"string\":\"value\"}}")));
+  }
+
+  @Test
+  public void testEnvelopedArrayView() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_ARRAY).name("view")
+        .type(View.Event.Type.VALUE).name("element").value("value")
+        .type(View.Event.Type.BEGIN_OBJECT).name("element")
+        .type(View.Event.Type.VALUE).name("string").value("value")
+        .type(View.Event.Type.END_OBJECT).name("element")
+        .type(View.Event.Type.END_ARRAY).name("view")
+        .end();
+
+    assertThat(write(view), is(equalTo(
+        "{\"view\":[\"value\",{\"string\":\"value\"}]}")));
+  }
+
+  @Test
+  public void testUnenvelopedArrayView() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_ARRAY).name("view")
+        .type(View.Event.Type.VALUE).name("element").value("value")
+        .type(View.Event.Type.END_ARRAY).name("view")
+        .end();
+
+    options.put(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, false);
+    assertThat(write(view), is(equalTo("[\"value\"]")));
+  }
+
+  @Test
+  public void testJsonValue() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT).name("view")
+        .type(View.Event.Type.VALUE).name("json").value(
+            Json.createObjectBuilder()
+                .add("array", Json.createArrayBuilder().add(1).add(true))
+                .addNull("null")
+                .build())
+        .type(View.Event.Type.END_OBJECT).name("view")
+        .end();
+
+    assertThat(write(view), is(equalTo(
+        "{\"json\":{\"array\":[1,true],\"null\":null}}")));
+  }
+
+  private String write(View view) throws Exception {
+    final StringWriter writer = new StringWriter();
+    final JsonGenerator generator = new JsonFactory().createGenerator(writer);
+    new JacksonViewWriter(view, generator, options).writeView();
+    generator.close();
+    return writer.toString();
+  }
+
+}
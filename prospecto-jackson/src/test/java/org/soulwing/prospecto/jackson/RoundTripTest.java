@@ -37,6 +37,9 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.view.ViewBuilder;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -87,6 +90,49 @@ public class RoundTripTest {
     ));
   }
 
+  @Test
+  public void testDeserializeStartingAtFieldName() throws Exception {
+    final JsonParser parser = new JsonFactory().createParser(
+        "[{\"myValue\":\"This is a test\",\"myChild\":{\"other\":1}},2]");
+    parser.nextToken();
+    parser.nextToken();
+    parser.nextToken();
+    assertThat(parser.getCurrentToken(), is(JsonToken.FIELD_NAME));
+
+    final View view = new ViewDeserializer().deserialize(parser, null);
+
+    assertThat(view, hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_OBJECT,
+            withNoName(), whereValue(is(nullValue()))),
+        eventOfType(View.Event.Type.VALUE,
+            withName("myValue"), whereValue(is(equalTo("This is a test")))),
+        eventOfType(View.Event.Type.BEGIN_OBJECT, withName("myChild")),
+        eventOfType(View.Event.Type.VALUE,
+            withName("other"), whereValue(is(equalTo(1L)))),
+        eventOfType(View.Event.Type.END_OBJECT, withName("myChild")),
+        eventOfType(View.Event.Type.END_OBJECT,
+            withNoName(), whereValue(is(nullValue())))
+    ));
+    assertThat(parser.getCurrentToken(), is(JsonToken.END_OBJECT));
+    assertThat(parser.nextToken(), is(JsonToken.VALUE_NUMBER_INT));
+  }
+
+  @Test
+  public void testDeserializeStartingAtEndOfObject() throws Exception {
+    final JsonParser parser = new JsonFactory().createParser("[{},2]");
+    parser.nextToken();
+    parser.nextToken();
+    parser.nextToken();
+
+    final View view = new ViewDeserializer().deserialize(parser, null);
+
+    assertThat(view, hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName()),
+        eventOfType(View.Event.Type.END_OBJECT, withNoName())
+    ));
+    assertThat(parser.nextToken(), is(JsonToken.VALUE_NUMBER_INT));
+  }
+
   public static class AdaptedModel {
 
     @JsonProperty("myView")
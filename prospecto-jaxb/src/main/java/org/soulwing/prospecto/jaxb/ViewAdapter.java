@@ -18,27 +18,24 @@
  */
 package org.soulwing.prospecto.jaxb;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
 import javax.xml.bind.annotation.adapters.XmlAdapter;
-import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.soulwing.prospecto.ViewReaderFactoryProducer;
 import org.soulwing.prospecto.ViewWriterFactoryProducer;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewReaderFactory;
 import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.dom.NodeSource;
+import org.soulwing.prospecto.api.dom.NodeTarget;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 /**
  * A JAXB {@link XmlAdapter} for a Prospecto {@link View}.
+ * <p>
+ * Views are written directly to DOM elements and read directly from DOM
+ * elements, without an intermediate textual representation.
  *
  * @author Carl Harris
  */
@@ -53,38 +50,20 @@ public class ViewAdapter extends XmlAdapter<Object, View> {
   private final DocumentBuilderFactory builderFactory =
       DocumentBuilderFactory.newInstance();
 
-  private final TransformerFactory transformerFactory =
-      TransformerFactory.newInstance();
-
   public ViewAdapter() {
     builderFactory.setNamespaceAware(true);
   }
 
   @Override
   public Object marshal(View v) throws Exception {
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writerFactory.newWriter(v, outputStream).writeView();
-
-    final DocumentBuilder builder = builderFactory.newDocumentBuilder();
-
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(
-        outputStream.toByteArray());
-
-    final Document document = builder.parse(inputStream);
+    final Document document = builderFactory.newDocumentBuilder().newDocument();
+    writerFactory.newWriter(v).writeView(new NodeTarget(document));
     return document.getDocumentElement();
   }
 
   @Override
   public View unmarshal(Object v) throws Exception {
-    final Transformer transformer = transformerFactory.newTransformer();
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    transformer.transform(new DOMSource((Element) v),
-        new StreamResult(outputStream));
-
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(
-        outputStream.toByteArray());
-
-    return readerFactory.newReader(inputStream).readView();
+    return readerFactory.newReader(new NodeSource((Element) v)).readView();
   }
 
 }
@@ -39,10 +39,13 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.junit.Test;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.view.ViewBuilder;
+import org.w3c.dom.Element;
 
 /**
  * Tests for {@link ViewAdapter}.
@@ -87,6 +90,47 @@ public class ViewAdapterTest {
     ));
   }
   
+  @Test
+  public void testMarshalMatchesTextRepresentation() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT)
+            .name("myView")
+        .type(View.Event.Type.VALUE)
+            .name("myValue")
+            .value("<This & that>")
+        .type(View.Event.Type.BEGIN_ARRAY)
+            .name("myArray")
+        .type(View.Event.Type.VALUE)
+            .value(1)
+        .type(View.Event.Type.END_ARRAY)
+            .name("myArray")
+        .type(View.Event.Type.BEGIN_OBJECT)
+            .name("myChild")
+        .type(View.Event.Type.VALUE)
+            .name("myFlag")
+            .value(true)
+        .type(View.Event.Type.END_OBJECT)
+            .name("myChild")
+        .type(View.Event.Type.END_OBJECT)
+            .name("myView")
+        .end();
+
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory("XML").newWriter(view, bos)
+        .writeView();
+    final DocumentBuilderFactory builderFactory =
+        DocumentBuilderFactory.newInstance();
+    builderFactory.setNamespaceAware(true);
+    final Element expected = builderFactory.newDocumentBuilder()
+        .parse(new ByteArrayInputStream(bos.toByteArray()))
+        .getDocumentElement();
+
+    final Element actual = (Element) new ViewAdapter().marshal(view);
+    expected.normalize();
+    actual.normalize();
+    assertThat(actual.isEqualNode(expected), is(true));
+  }
+
   @XmlRootElement
   @XmlAccessorType(XmlAccessType.FIELD)
   public static class AdaptedModel {
@@ -19,14 +19,21 @@
 package org.soulwing.prospecto.jaxrs.api;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.ws.rs.core.UriBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.jaxrs.runtime.path.PathTemplate;
 
 /**
  * A template resolver that builds a URI from map of parameters.
+ * <p>
+ * Each template is compiled the first time it is resolved, and a compiled
+ * template is used to resolve the template thereafter. A template whose
+ * result would need to be encoded is resolved using a {@link UriBuilder}.
  *
  * @author Carl Harris
  */
@@ -35,9 +42,18 @@ public abstract class MapPathTemplateResolver implements PathTemplateResolver {
   private static final Logger logger =
       LoggerFactory.getLogger(MapPathTemplateResolver.class);
 
+  private static final int MAX_TEMPLATES = 256;
+
+  private final ConcurrentMap<String, PathTemplate> templates =
+      new ConcurrentHashMap<>();
+
   @Override
   public final String resolve(String template, ViewContext context) {
     Map<String, Object> templateMap = templateMap(context);
+    final String path = compiledTemplate(template).expand(templateMap);
+    if (path != null) {
+      return path;
+    }
     try {
       return UriBuilder.fromUri(template)
           .buildFromMap(templateMap)
@@ -48,6 +64,19 @@ public abstract class MapPathTemplateResolver implements PathTemplateResolver {
     }
   }
 
+  private PathTemplate compiledTemplate(String template) {
+    PathTemplate compiledTemplate = templates.get(template);
+    if (compiledTemplate == null) {
+      compiledTemplate = PathTemplate.compile(template);
+      // a decorator could produce a different template for every view;
+      // don't let the cache grow without bound
+      if (templates.size() < MAX_TEMPLATES) {
+        templates.put(template, compiledTemplate);
+      }
+    }
+    return compiledTemplate;
+  }
+
   /**
    * Creates a map of named values used to resolve placeholders in a
    * path template.
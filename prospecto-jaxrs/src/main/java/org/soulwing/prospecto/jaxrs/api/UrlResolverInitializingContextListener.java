@@ -32,12 +32,23 @@ import org.soulwing.prospecto.UrlResolverProducer;
 /**
  * A {@link ServletContextListener} that initializes the
  * {@link UrlResolverProducer}.
+ * <p>
+ * Resource discovery using an index generated at compile time is enabled by
+ * setting the {@value #USE_RESOURCE_INDEX} context parameter to
+ * {@code true}.
  *
  * @author Carl Harris
  */
 public class UrlResolverInitializingContextListener
     implements ServletContextListener {
 
+  /**
+   * Name of the context parameter that enables resource discovery using an
+   * index generated at compile time
+   */
+  public static final String USE_RESOURCE_INDEX =
+      "org.soulwing.prospecto.jaxrs.useResourceIndex";
+
   static final String APPLICATION_SERVLET_NAME = "javax.ws.rs.core.Application";
 
   @Override
@@ -51,6 +62,8 @@ public class UrlResolverInitializingContextListener
 
     properties.put("servletContext", event.getServletContext());
     properties.put("applicationPath", path);
+    properties.put("useResourceIndex",
+        event.getServletContext().getInitParameter(USE_RESOURCE_INDEX));
     UrlResolverProducer.init(properties);
   }
 
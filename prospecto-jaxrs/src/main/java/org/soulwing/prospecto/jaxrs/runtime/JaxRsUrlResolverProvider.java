@@ -23,8 +23,10 @@ import java.util.Map;
 import javax.servlet.ServletContext;
 
 import org.soulwing.prospecto.api.url.UrlResolver;
+import org.soulwing.prospecto.jaxrs.runtime.discovery.IndexReflectionService;
 import org.soulwing.prospecto.jaxrs.runtime.discovery.ReflectionResourceDiscoveryService;
 import org.soulwing.prospecto.jaxrs.runtime.discovery.ServletContextReflectionService;
+import org.soulwing.prospecto.jaxrs.runtime.index.ResourceIndex;
 import org.soulwing.prospecto.jaxrs.runtime.resolver.ConfigurableUrlResolver;
 import org.soulwing.prospecto.jaxrs.runtime.resolver.ResourceDescriptorUrlResolver;
 import org.soulwing.prospecto.spi.UrlResolverProvider;
@@ -32,6 +34,12 @@ import org.soulwing.prospecto.spi.UrlResolverProvider;
 /**
  * A {@link UrlResolverProvider} designed for use in a web application that
  * utilizes JAX-RS in a standard {@link ServletContext}.
+ * <p>
+ * By default, resources are discovered by scanning the classes of the
+ * servlet context. When the {@link #USE_RESOURCE_INDEX} property is
+ * {@code true} and a {@link ResourceIndex} generated at compile time is
+ * available from the context class loader, resources are discovered using
+ * the index instead.
  *
  * @author Carl Harris
  */
@@ -47,6 +55,13 @@ public class JaxRsUrlResolverProvider implements UrlResolverProvider {
    */
   public static final String APPLICATION_PATH = "applicationPath";
 
+  /**
+   * Configuration property that enables resource discovery using a
+   * {@link ResourceIndex} (a {@link Boolean} or a string; default is
+   * {@code false})
+   */
+  public static final String USE_RESOURCE_INDEX = "useResourceIndex";
+
   private final ResourceDiscoveryService resourceDiscoveryService;
 
   private UrlResolver resolver;
@@ -68,7 +83,9 @@ public class JaxRsUrlResolverProvider implements UrlResolverProvider {
         ServletContext.class, properties);
 
     final ReflectionService reflectionService =
-        new ServletContextReflectionService(servletContext);
+        newReflectionService(servletContext,
+            Boolean.parseBoolean(String.valueOf(
+                properties.get(USE_RESOURCE_INDEX))));
 
     ConfigurableUrlResolver resolver =
         new ResourceDescriptorUrlResolver();
@@ -81,6 +98,22 @@ public class JaxRsUrlResolverProvider implements UrlResolverProvider {
     this.resolver = resolver;
   }
 
+  private ReflectionService newReflectionService(
+      ServletContext servletContext, boolean useResourceIndex) {
+    if (!useResourceIndex) {
+      return new ServletContextReflectionService(servletContext);
+    }
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = getClass().getClassLoader();
+    }
+    final ResourceIndex index = ResourceIndex.load(classLoader);
+    if (index != null) {
+      return new IndexReflectionService(index, classLoader);
+    }
+    return new ServletContextReflectionService(servletContext);
+  }
+
   @SuppressWarnings("unchecked")
   private <T> T getProperty(String name, Class<T> type,
       Map<String, ?> properties) {
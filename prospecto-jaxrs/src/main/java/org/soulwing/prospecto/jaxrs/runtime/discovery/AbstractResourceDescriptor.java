@@ -78,7 +78,7 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
    */
   @Override
   public boolean matches(ModelPath modelPath) {
-    return matches(modelPath.asArray());
+    return matcher.matches(modelPath.asList());
   }
 
   /**
@@ -0,0 +1,104 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.discovery;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.soulwing.prospecto.jaxrs.runtime.ReflectionService;
+import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
+import org.soulwing.prospecto.jaxrs.runtime.index.ResourceIndex;
+
+/**
+ * A {@link ReflectionService} that discovers types using a
+ * {@link ResourceIndex} generated at compile time.
+ * <p>
+ * Only the types in the index are considered; since the index includes the
+ * types annotated with {@code @Path} or {@code @ModelPathSpec}, this
+ * service discovers the same resources as a service that scans the
+ * class path.
+ *
+ * @author Carl Harris
+ */
+public class IndexReflectionService extends AbstractReflectionService {
+
+  private final ResourceIndex index;
+  private final ClassLoader classLoader;
+
+  /**
+   * Constructs a new instance.
+   * @param index resource index
+   * @param classLoader class loader for the types in {@code index}
+   */
+  public IndexReflectionService(ResourceIndex index,
+      ClassLoader classLoader) {
+    this.index = index;
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation returns only the subtypes that are in the index.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+    final Set<Class<? extends T>> types = new LinkedHashSet<>();
+    for (final String typeName : index.getSubTypeNames(type.getName())) {
+      final Class<?> subtype = loadType(typeName);
+      if (type.isAssignableFrom(subtype)) {
+        types.add((Class<? extends T>) subtype);
+      }
+    }
+    return types;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation returns only the annotated types that are in the
+   * index.
+   */
+  @Override
+  public Set<Class<?>> getTypesAnnotatedWith(
+      Class<? extends Annotation> annotation) {
+    final Set<Class<?>> types = new LinkedHashSet<>();
+    for (final String typeName : index.getTypeNames()) {
+      final Class<?> type = loadType(typeName);
+      if (type.isAnnotationPresent(annotation)) {
+        types.add(type);
+      }
+    }
+    return types;
+  }
+
+  private Class<?> loadType(String typeName) {
+    try {
+      return Class.forName(typeName, false, classLoader);
+    }
+    catch (ClassNotFoundException ex) {
+      throw new ResourceConfigurationException(
+          "resource index refers to type " + typeName
+              + " which cannot be loaded; the index may be stale");
+    }
+  }
+
+}
@@ -20,7 +20,13 @@ package org.soulwing.prospecto.jaxrs.runtime.discovery;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Set;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import javax.ws.rs.Path;
 import javax.ws.rs.core.UriBuilder;
@@ -36,6 +42,16 @@ import org.soulwing.prospecto.jaxrs.api.TemplateResolver;
 
 /**
  * A concrete {@link ResourceDiscoveryService}.
+ * <p>
+ * Root resource types are introspected concurrently, using a fork/join pool
+ * whose parallelism is (at most) the number of available processors. The
+ * descriptors for each root resource type are merged in order of type name,
+ * so that the result does not depend on the order in which the introspection
+ * of each type completes. Each type is introspected using the context class
+ * loader of the thread that invoked
+ * {@link #discoverResources(String, ReflectionService)}, since the JAX-RS
+ * runtime delegate and class path scanning both depend on it, and the
+ * pool's worker threads would otherwise use the system class loader.
  *
  * @author Carl Harris
  */
@@ -45,8 +61,18 @@ public class ReflectionResourceDiscoveryService
   private static final Logger logger = LoggerFactory.getLogger(
       ReflectionResourceDiscoveryService.class);
 
+  private static final Comparator<Class<?>> TYPE_NAME_ORDER =
+      new Comparator<Class<?>>() {
+        @Override
+        public int compare(Class<?> a, Class<?> b) {
+          return a.getName().compareTo(b.getName());
+        }
+      };
+
   private final ResourceTypeIntrospector typeIntrospector;
 
+  private final int parallelism;
+
   /**
    * Constructs a new instance that will use the default type introspector.
    */
@@ -59,7 +85,19 @@ public class ReflectionResourceDiscoveryService
    * @param typeIntrospector type introspector
    */
   ReflectionResourceDiscoveryService(ResourceTypeIntrospector typeIntrospector) {
+    this(typeIntrospector, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a new instance that will use the given type introspector.
+   * @param typeIntrospector type introspector
+   * @param parallelism maximum number of root resource types to introspect
+   *    concurrently
+   */
+  ReflectionResourceDiscoveryService(ResourceTypeIntrospector typeIntrospector,
+      int parallelism) {
     this.typeIntrospector = typeIntrospector;
+    this.parallelism = parallelism;
   }
 
   @Override
@@ -68,12 +106,109 @@ public class ReflectionResourceDiscoveryService
       throws ResourceConfigurationException {
 
     logger.debug("resource discovery started");
-    final ModelPath modelPath = ModelPath.with();
-    final Set<Class<?>> rootResourceTypes =
-        reflectionService.getTypesAnnotatedWith(Path.class);
+    final long startTime = System.nanoTime();
+    final List<Class<?>> rootResourceTypes = new ArrayList<>(
+        reflectionService.getTypesAnnotatedWith(Path.class));
+    Collections.sort(rootResourceTypes, TYPE_NAME_ORDER);
+
+    final List<RootResourceTask> tasks =
+        new ArrayList<>(rootResourceTypes.size());
+    for (final Class<?> rootResourceType : rootResourceTypes) {
+      tasks.add(new RootResourceTask(rootResourceType, applicationPath,
+          reflectionService));
+    }
+
+    final Collection<ResourceDescriptor> descriptors = invokeAll(tasks);
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("resource discovery completed: found {} resources "
+          + "for {} root resource types in {} ms", descriptors.size(),
+          rootResourceTypes.size(),
+          (System.nanoTime() - startTime) / 1000000);
+    }
+    return descriptors;
+  }
+
+  private Collection<ResourceDescriptor> invokeAll(
+      List<RootResourceTask> tasks) {
     final Collection<ResourceDescriptor> descriptors = new ArrayList<>();
+    final int parallelism = Math.min(this.parallelism, tasks.size());
+    if (parallelism <= 1) {
+      for (final RootResourceTask task : tasks) {
+        descriptors.addAll(task.call());
+      }
+      return descriptors;
+    }
 
-    for (Class<?> rootResourceType : rootResourceTypes) {
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      final List<Future<Collection<ResourceDescriptor>>> results =
+          new ArrayList<>(tasks.size());
+      for (final RootResourceTask task : tasks) {
+        results.add(pool.submit(task));
+      }
+      for (final Future<Collection<ResourceDescriptor>> result : results) {
+        descriptors.addAll(result.get());
+      }
+      return descriptors;
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ResourceConfigurationException(
+          "interrupted during resource discovery");
+    }
+    catch (ExecutionException ex) {
+      throw rethrow(ex.getCause());
+    }
+    finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable ex) {
+    if (ex instanceof RuntimeException) {
+      throw (RuntimeException) ex;
+    }
+    if (ex instanceof Error) {
+      throw (Error) ex;
+    }
+    throw new RuntimeException(ex);
+  }
+
+  /**
+   * A task that introspects a root resource type.
+   */
+  private class RootResourceTask
+      implements Callable<Collection<ResourceDescriptor>> {
+
+    private final Class<?> rootResourceType;
+    private final String applicationPath;
+    private final ReflectionService reflectionService;
+    private final ClassLoader contextClassLoader =
+        Thread.currentThread().getContextClassLoader();
+
+    RootResourceTask(Class<?> rootResourceType, String applicationPath,
+        ReflectionService reflectionService) {
+      this.rootResourceType = rootResourceType;
+      this.applicationPath = applicationPath;
+      this.reflectionService = reflectionService;
+    }
+
+    @Override
+    public Collection<ResourceDescriptor> call() {
+      final Thread thread = Thread.currentThread();
+      final ClassLoader threadClassLoader = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+      try {
+        return describe();
+      }
+      finally {
+        thread.setContextClassLoader(threadClassLoader);
+      }
+    }
+
+    private Collection<ResourceDescriptor> describe() {
+      final long startTime = System.nanoTime();
       final Path path = reflectionService.getAnnotation(rootResourceType,
           Path.class);
 
@@ -86,12 +221,18 @@ public class ReflectionResourceDiscoveryService
       TemplateResolver templateResolver = reflectionService.getAnnotation(
           rootResourceType, TemplateResolver.class);
 
-      descriptors.addAll(typeIntrospector.describe(rootResourceType,
-          qualifiedPath, modelPath,
-          templateResolver, reflectionService));
+      final Collection<ResourceDescriptor> descriptors =
+          typeIntrospector.describe(rootResourceType, qualifiedPath,
+              ModelPath.with(), templateResolver, reflectionService);
+
+      if (logger.isTraceEnabled()) {
+        logger.trace("introspected root resource {} in {} ms",
+            rootResourceType.getSimpleName(),
+            (System.nanoTime() - startTime) / 1000000);
+      }
+      return descriptors;
     }
-    logger.debug("resource discovery completed");
-    return descriptors;
+
   }
 
 }
@@ -0,0 +1,211 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.glob;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of glob patterns that finds all of the patterns matching a
+ * given input in a single pass over the input.
+ * <p>
+ * Patterns are interpreted exactly as they are by {@link GlobMatcher}; each
+ * pattern is compiled into a sequence of matcher states, and the sequences
+ * of all patterns in the index are merged into a trie, so that patterns
+ * that share a prefix are matched against the input only once. At each node
+ * of the trie, the only <em>equals</em> state that can possibly match the
+ * next input token is found by lookup rather than by testing each pattern,
+ * and so the time needed to find all matches is proportional to the length
+ * of the input and the number of wildcard states in the index, rather than
+ * the number of patterns.
+ * <p>
+ * An index is not safe for concurrent modification; however once all
+ * patterns have been added, it may be safely used by concurrent threads to
+ * find matches.
+ *
+ * @param <T> pattern and input token type
+ * @param <V> type of the value associated with each pattern
+ * @author Carl Harris
+ */
+public class GlobIndex<T, V> {
+
+  private final Node<T, V> root = new Node<>();
+
+  private final T anyInputToken;
+  private final T anyInputSequenceToken;
+
+  private GlobIndex(T anyInputToken, T anyInputSequenceToken) {
+    this.anyInputToken = anyInputToken;
+    this.anyInputSequenceToken = anyInputSequenceToken;
+  }
+
+  /**
+   * Creates a new empty index.
+   * @param anyInputToken an instance of the {@code T} that will be
+   *    interpreted as the symbol used to designate <em>match-any</em>
+   * @param anyInputSequenceToken an instance of the {@code T} that will be
+   *    interpreted as the symbol used to designate <em>match-any-sequence</em>
+   * @param <T> pattern and input token type
+   * @param <V> type of the value associated with each pattern
+   * @return index
+   */
+  public static <T, V> GlobIndex<T, V> with(T anyInputToken,
+      T anyInputSequenceToken) {
+    return new GlobIndex<>(anyInputToken, anyInputSequenceToken);
+  }
+
+  /**
+   * Adds a pattern to this index.
+   * @param pattern a sequence of values of {@code T} that specify the pattern
+   *    to match
+   * @param value the value to associate with {@code pattern}
+   */
+  public void add(T[] pattern, V value) {
+    final GlobMatcher<T> matcher =
+        GlobMatcher.with(anyInputToken, anyInputSequenceToken, pattern);
+    Node<T, V> node = root;
+    for (int i = 0, max = matcher.stateCount(); i < max; i++) {
+      switch (matcher.stateType(i)) {
+        case EQUALS:
+          node = node.equalsChild(matcher.stateToken(i));
+          break;
+        case ANY:
+          if (node.any == null) {
+            node.any = new Node<>();
+          }
+          node = node.any;
+          break;
+        case ANY_SEQUENCE:
+          node = node.anySequenceChild(matcher.stateToken(i));
+          break;
+        case ANY_TRAILING_SEQUENCE:
+          if (node.trailing == null) {
+            node.trailing = new Node<>();
+          }
+          node = node.trailing;
+          break;
+        default:
+          throw new AssertionError("unrecognized state type");
+      }
+    }
+    node.values.add(value);
+  }
+
+  /**
+   * Finds the values associated with all patterns that match the given
+   * input.
+   * @param input the input to test
+   * @return list of values whose patterns match {@code input}; the order of
+   *    the values in the list is unspecified
+   */
+  public List<V> findAll(List<T> input) {
+    final List<V> matches = new ArrayList<>();
+    findAll(root, input, 0, matches);
+    return matches;
+  }
+
+  private void findAll(Node<T, V> node, List<T> input, int index,
+      List<V> matches) {
+    final int length = input.size();
+    if (index == length) {
+      // end of input: only patterns that end here (or with a trailing
+      // match-any-sequence) match
+      matches.addAll(node.values);
+      if (node.trailing != null) {
+        matches.addAll(node.trailing.values);
+      }
+      return;
+    }
+
+    final T token = input.get(index);
+
+    final Node<T, V> equals = node.equals.get(token);
+    if (equals != null) {
+      findAll(equals, input, index + 1, matches);
+    }
+
+    if (node.any != null) {
+      findAll(node.any, input, index + 1, matches);
+    }
+
+    for (final Map.Entry<T, Node<T, V>> entry : node.anySequence.entrySet()) {
+      // skip input up to the next expected token, then swallow any
+      // repeating sequence of it, just as GlobMatcher does
+      final T nextExpectedToken = entry.getKey();
+      int i = index;
+      while (i < length && !nextExpectedToken.equals(input.get(i))) {
+        i++;
+      }
+      if (i < length) {
+        i++;
+        while (i < length && nextExpectedToken.equals(input.get(i))) {
+          i++;
+        }
+        findAll(entry.getValue(), input, i, matches);
+      }
+    }
+
+    if (node.trailing != null) {
+      matches.addAll(node.trailing.values);
+    }
+  }
+
+  /**
+   * A node of the trie; each node corresponds to the sequence of matcher
+   * states along the path from the root.
+   */
+  private static class Node<T, V> {
+
+    private final List<V> values = new ArrayList<>();
+
+    private Map<T, Node<T, V>> equals = Collections.emptyMap();
+    private Map<T, Node<T, V>> anySequence = Collections.emptyMap();
+    private Node<T, V> any;
+    private Node<T, V> trailing;
+
+    Node<T, V> equalsChild(T token) {
+      if (equals.isEmpty()) {
+        equals = new HashMap<>();
+      }
+      return child(equals, token);
+    }
+
+    Node<T, V> anySequenceChild(T nextExpectedToken) {
+      if (anySequence.isEmpty()) {
+        anySequence = new HashMap<>();
+      }
+      return child(anySequence, nextExpectedToken);
+    }
+
+    private static <T, V> Node<T, V> child(Map<T, Node<T, V>> children,
+        T token) {
+      Node<T, V> child = children.get(token);
+      if (child == null) {
+        child = new Node<>();
+        children.put(token, child);
+      }
+      return child;
+    }
+
+  }
+
+}
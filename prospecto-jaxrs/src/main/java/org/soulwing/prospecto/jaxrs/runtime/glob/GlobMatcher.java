@@ -18,7 +18,7 @@
  */
 package org.soulwing.prospecto.jaxrs.runtime.glob;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -42,14 +42,43 @@ import java.util.List;
  * "?" and the <em>match any sequence</em> is "*", the {@link GlobMatcher} takes
  * on the semantics of ordinary filename globbing for string (character array)
  * inputs.
+ * <p>
+ * The pattern is compiled into a table of matcher states when the matcher
+ * is created; matching an input neither parses the pattern nor allocates
+ * any objects. A matcher is immutable and may be shared by concurrent
+ * threads.
  *
  * @author Carl Harris
  */
 public class GlobMatcher<T> {
 
-  private final T anyInputToken;
-  private final T anyInputSequenceToken;
-  private final T[] pattern;
+  /**
+   * Types of matcher states.
+   * <p>
+   * Each token in a pattern gets an associated state, and these states are
+   * considered in sequence as an input is matched to the pattern.
+   */
+  enum StateType {
+
+    /** matches the token of the state using <em>equals</em> */
+    EQUALS,
+
+    /** matches any single input token */
+    ANY,
+
+    /**
+     * skips input up to and including the token of the state, followed by
+     * any repeating sequence of the same token
+     */
+    ANY_SEQUENCE,
+
+    /** matches any remaining input at the end of the pattern */
+    ANY_TRAILING_SEQUENCE
+
+  }
+
+  private final StateType[] types;
+  private final Object[] tokens;
 
   /**
    * Constructs a new instance.
@@ -61,9 +90,36 @@ public class GlobMatcher<T> {
    *    to match
    */
   private GlobMatcher(T anyInputToken, T anyInputSequenceToken, T[] pattern) {
-    this.anyInputToken = anyInputToken;
-    this.anyInputSequenceToken = anyInputSequenceToken;
-    this.pattern = pattern;
+    final StateType[] types = new StateType[pattern.length];
+    final Object[] tokens = new Object[pattern.length];
+    int count = 0;
+    int i = 0;
+    // parse the pattern into states
+    while (i < pattern.length) {
+      T token = pattern[i++];
+      if (token.equals(anyInputToken)) {
+        types[count++] = StateType.ANY;
+      }
+      else if (token.equals(anyInputSequenceToken)) {
+        // flatten adjacent match-any-sequence symbols into a single state
+        while (token.equals(anyInputSequenceToken) && i < pattern.length) {
+          token = pattern[i++];
+        }
+        if (!token.equals(anyInputSequenceToken)) {
+          tokens[count] = token;
+          types[count++] = StateType.ANY_SEQUENCE;
+        }
+        else {
+          types[count++] = StateType.ANY_TRAILING_SEQUENCE;
+        }
+      }
+      else {
+        tokens[count] = token;
+        types[count++] = StateType.EQUALS;
+      }
+    }
+    this.types = Arrays.copyOf(types, count);
+    this.tokens = Arrays.copyOf(tokens, count);
   }
 
   public static <T> GlobMatcher<T> with(T anyInputToken, T anyInputSequenceToken,
@@ -77,7 +133,7 @@ public class GlobMatcher<T> {
    * @return {@code true} if {@code input} matches this pattern
    */
   public boolean matches(T[] input) {
-    return newMatcher().matches(input);
+    return matches(input, null, input.length);
   }
 
   /**
@@ -85,237 +141,85 @@ public class GlobMatcher<T> {
    * @param input the input to test
    * @return {@code true} if {@code input} matches this pattern
    */
-  @SuppressWarnings("unchecked")
   public boolean matches(List<T> input) {
-    return newMatcher().matches((T[]) (input.toArray()));
-  }
-
-  private InnerMatcher<T> newMatcher() {
-    return new InnerMatcher<>(anyInputToken, anyInputSequenceToken, pattern);
-  }
-
-  /**
-   * A pattern matching finite state machine.
-   * @param <T> base type
-   */
-  interface Matcher<T> {
-
-    /**
-     * Moves the matcher to the next input token and corresponding matcher
-     * state.
-     * @return next input token or {@code null} if the end of the input has been
-     *   reached
-     */
-    T next();
-
-    /**
-     * Skips to the next input token, without changing the matcher state.
-     * @return next input token or {@code null} if the end of the input has
-     *    been reached
-     */
-    T skip();
-
-    /**
-     * Terminates the pattern match, with the specified result.
-     * @param matches the result of the pattern match
-     */
-    void terminate(boolean matches);
-
-    /**
-     * Tests the given input for a match using the pattern represented by this
-     * matcher.
-     * @param input the input to test
-     * @return {@code true} if {@code input} matches the pattern
-     */
-    boolean matches(T[] input);
-
-  }
-
-  /**
-   * A state for a pattern.
-   * <p>
-   * Each token in pattern gets an associated state, and these states are
-   * considered in sequence as an input is matched to the pattern.
-   * @param <T> base type for the matcher
-   */
-  interface MatcherState<T> {
-
-    /**
-     * Attempts to match the given token from the input.
-     * @param token input token
-     * @param matcher the associated matcher
-     */
-    void matchToken(T token, Matcher<T> matcher);
-
-  }
-
-  /**
-   * A {@link MatcherState} with <em>equals</em> semantics
-   * @param <T> the base type
-   */
-  static class EqualsState<T> implements MatcherState<T> {
-
-    private final T expectedToken;
-
-    public EqualsState(T expectedToken) {
-      this.expectedToken = expectedToken;
-    }
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      if (token.equals(expectedToken)) {
-        matcher.next();
-      }
-      else {
-        matcher.terminate(false);
-      }
-    }
+    return matches(null, input, input.size());
   }
 
   /**
-   * A {@link MatcherState} with <em>match-any</em> semantics.
-   * @param <T> the base type
+   * Gets the number of states in this matcher.
+   * @return number of states
    */
-  static class MatchAnyState<T> implements MatcherState<T> {
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      matcher.next();
-    }
-
+  int stateCount() {
+    return types.length;
   }
 
   /**
-   * A {@link MatcherState} with <em>match-any-sequence</em> semantics.
-   * @param <T> the base type
+   * Gets the type of a state of this matcher.
+   * @param index index of the state
+   * @return state type
    */
-  static class MatchAnySequenceState<T> implements MatcherState<T> {
-
-    private final T nextExpectedToken;
-
-    public MatchAnySequenceState(T nextExpectedToken) {
-      this.nextExpectedToken = nextExpectedToken;
-    }
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      if (nextExpectedToken.equals(token)) {
-        T nextToken = matcher.next();
-        // while in the same state, swallow any repeating sequence of the
-        // next expected token; this allows "*T" to match a sequence such as "TT"
-        while (nextExpectedToken.equals(nextToken)) {
-          nextToken = matcher.skip();
-        }
-      }
-      else {
-        matcher.skip();
-      }
-    }
-
+  StateType stateType(int index) {
+    return types[index];
   }
 
   /**
-   * A {@link MatcherState} for the special case of <em>match-any-sequence</em>
-   * semantics at the end of the pattern.
+   * Gets the token of a state of this matcher.
+   * @param index index of the state
+   * @return the token to match for a state of type {@link StateType#EQUALS}
+   *    or {@link StateType#ANY_SEQUENCE}, otherwise {@code null}
    */
-  static class MatchAnyTrailingSequence<T> implements MatcherState<T> {
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      matcher.terminate(true);
-    }
-
+  @SuppressWarnings("unchecked")
+  T stateToken(int index) {
+    return (T) tokens[index];
   }
 
   /**
-   * A simple finite state machine implementation of {@link Matcher}.
+   * Tests an input given either as an array or as a list.
+   * @param array input array or {@code null} if the input is a list
+   * @param list input list (used only if {@code array} is {@code null})
+   * @param length length of the input
+   * @return {@code true} if the input matches this pattern
    */
-  static class InnerMatcher<T> implements Matcher<T> {
-
-    private final List<MatcherState<T>> states = new ArrayList<>();
-
-    private T[] input;
-    private int stateIndex;
-    private int inputIndex;
-    private boolean done;
-
-    /**
-     * Constructs a new instance.
-     * @param anyInputToken an instance of the {@code T} that will be
-     *    interpreted as the symbol used to designate <em>match-any</em>
-     * @param anyInputSequenceToken an instance of the {@code T} that will be
-     *    interpreted as the symbol used to designate <em>match-any-sequence</em>
-     * @param pattern a sequence of values of {@code T} that specify the pattern
-     *    to match
-     */
-    InnerMatcher(T anyInputToken, T anyInputSequenceToken, T[] pattern) {
-      int i = 0;
-      // parse the pattern into states
-      while (i < pattern.length) {
-        T token = pattern[i++];
-        if (token.equals(anyInputToken)) {
-          states.add(new MatchAnyState<T>());
-        }
-        else if (token.equals(anyInputSequenceToken)) {
-          // flatten adjacent match-any-sequence symbols into a single state
-          while (token.equals(anyInputSequenceToken) && i < pattern.length) {
-            token = pattern[i++];
+  private boolean matches(Object[] array, List<T> list, int length) {
+    final int count = types.length;
+    int state = 0;
+    int index = 0;
+    while (index < length && state < count) {
+      final Object token = array != null ? array[index] : list.get(index);
+      switch (types[state]) {
+        case EQUALS:
+          if (!token.equals(tokens[state])) return false;
+          index++;
+          state++;
+          break;
+        case ANY:
+          index++;
+          state++;
+          break;
+        case ANY_SEQUENCE:
+          final Object nextExpectedToken = tokens[state];
+          index++;
+          if (nextExpectedToken.equals(token)) {
+            state++;
+            // swallow any repeating sequence of the next expected token;
+            // this allows "*T" to match a sequence such as "TT"
+            while (index < length && nextExpectedToken.equals(
+                array != null ? array[index] : list.get(index))) {
+              index++;
+            }
           }
-          states.add(!token.equals(anyInputSequenceToken) ?
-              new MatchAnySequenceState<T>(token)
-                  : new MatchAnyTrailingSequence<T>());
-        }
-        else {
-          states.add(new EqualsState<T>(token));
-        }
+          break;
+        case ANY_TRAILING_SEQUENCE:
+          return true;
+        default:
+          throw new AssertionError("unrecognized state type");
       }
     }
-
-    @Override
-    public T next() {
-      T nextToken = skip();
-      stateIndex++;
-      if (stateIndex == states.size()) {
-        done = true;
-      }
-      return nextToken;
+    if (index == length && state < count
+        && types[state] == StateType.ANY_TRAILING_SEQUENCE) {
+      state++;
     }
-
-    @Override
-    public T skip() {
-      inputIndex++;
-      if (inputIndex == input.length) {
-        done = true;
-        return null;
-      }
-      return input[inputIndex];
-    }
-
-    @Override
-    public void terminate(boolean matches) {
-      done = true;
-      if (matches) {
-        inputIndex = input.length;
-        stateIndex = states.size();
-      }
-    }
-
-    @Override
-    public boolean matches(T[] input) {
-      this.input = input;
-      stateIndex = 0;
-      inputIndex = 0;
-      done = inputIndex == input.length || stateIndex == states.size();
-      while (!done) {
-        states.get(stateIndex).matchToken(input[inputIndex], this);
-      }
-      if (inputIndex == input.length && stateIndex < states.size()
-          && states.get(stateIndex) instanceof MatchAnyTrailingSequence) {
-        stateIndex++;
-      }
-      return inputIndex == input.length && stateIndex == states.size();
-    }
-
+    return index == length && state == count;
   }
 
 }
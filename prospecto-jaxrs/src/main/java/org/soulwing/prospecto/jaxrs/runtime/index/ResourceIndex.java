@@ -0,0 +1,234 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
+
+/**
+ * An index of the JAX-RS resource types of an application.
+ * <p>
+ * An index is generated at compile time by {@link ResourceIndexProcessor}
+ * and stored as a class path resource named {@link #RESOURCE_NAME}. It
+ * identifies the root resource types (those annotated with {@code @Path})
+ * and the types annotated with {@code @ModelPathSpec}, along with the
+ * supertypes of each, so that resources can be discovered without scanning
+ * the class path.
+ * <p>
+ * The index is a UTF-8 text file with one type on each line. A line of the
+ * form {@code root <type>} identifies a root resource type, and a line of
+ * the form {@code type <type> <supertype>...} identifies an annotated type
+ * and its supertypes. Types are identified by binary name. Blank lines and
+ * lines that begin with {@code #} are ignored.
+ *
+ * @author Carl Harris
+ */
+public class ResourceIndex {
+
+  /**
+   * Name of the class path resource that contains an index.
+   */
+  public static final String RESOURCE_NAME =
+      "META-INF/prospecto/jaxrs-resources";
+
+  private static final String ROOT = "root";
+  private static final String TYPE = "type";
+
+  private final Set<String> rootTypeNames = new TreeSet<>();
+  private final Map<String, Set<String>> supertypeNames = new TreeMap<>();
+
+  /**
+   * Loads the index from all resources named {@link #RESOURCE_NAME} that
+   * are visible to the given class loader.
+   * @param classLoader the class loader to search
+   * @return index or {@code null} if no index resource is visible to
+   *    {@code classLoader}
+   * @throws ResourceConfigurationException if an index resource cannot be
+   *    read
+   */
+  public static ResourceIndex load(ClassLoader classLoader)
+      throws ResourceConfigurationException {
+    try {
+      final Enumeration<URL> resources =
+          classLoader.getResources(RESOURCE_NAME);
+      if (!resources.hasMoreElements()) return null;
+      final ResourceIndex index = new ResourceIndex();
+      while (resources.hasMoreElements()) {
+        final URL resource = resources.nextElement();
+        try (Reader reader = new InputStreamReader(resource.openStream(),
+            StandardCharsets.UTF_8)) {
+          index.read(reader, resource.toString());
+        }
+      }
+      return index;
+    }
+    catch (IOException ex) {
+      throw new ResourceConfigurationException(
+          "failed to read resource index: " + ex);
+    }
+  }
+
+  /**
+   * Adds a root resource type to this index.
+   * @param typeName binary name of the root resource type
+   */
+  public void addRootType(String typeName) {
+    rootTypeNames.add(typeName);
+  }
+
+  /**
+   * Adds an annotated type to this index.
+   * @param typeName binary name of the type
+   * @param supertypeNames binary names of all of the supertypes of the type
+   */
+  public void addType(String typeName, Collection<String> supertypeNames) {
+    Set<String> names = this.supertypeNames.get(typeName);
+    if (names == null) {
+      names = new TreeSet<>();
+      this.supertypeNames.put(typeName, names);
+    }
+    names.addAll(supertypeNames);
+  }
+
+  /**
+   * Tests whether this index is empty.
+   * @return {@code true} if this index identifies no types
+   */
+  public boolean isEmpty() {
+    return rootTypeNames.isEmpty() && supertypeNames.isEmpty();
+  }
+
+  /**
+   * Gets the names of the root resource types in this index.
+   * @return set of binary type names
+   */
+  public Set<String> getRootTypeNames() {
+    return Collections.unmodifiableSet(rootTypeNames);
+  }
+
+  /**
+   * Gets the names of all types in this index.
+   * @return set of binary type names
+   */
+  public Set<String> getTypeNames() {
+    final Set<String> typeNames = new LinkedHashSet<>(rootTypeNames);
+    typeNames.addAll(supertypeNames.keySet());
+    return typeNames;
+  }
+
+  /**
+   * Gets the names of the supertypes of an annotated type in this index.
+   * @param typeName binary name of the annotated type
+   * @return set of binary type names or {@code null} if {@code typeName}
+   *    is not an annotated type in this index
+   */
+  Set<String> getSupertypeNames(String typeName) {
+    return supertypeNames.get(typeName);
+  }
+
+  /**
+   * Gets the names of the annotated types in this index that are subtypes
+   * of the given type.
+   * @param typeName binary name of the supertype
+   * @return set of binary type names
+   */
+  public Set<String> getSubTypeNames(String typeName) {
+    final Set<String> subtypeNames = new LinkedHashSet<>();
+    for (final Map.Entry<String, Set<String>> entry :
+        supertypeNames.entrySet()) {
+      if (entry.getValue().contains(typeName)) {
+        subtypeNames.add(entry.getKey());
+      }
+    }
+    return subtypeNames;
+  }
+
+  /**
+   * Reads index entries from the given reader, adding them to this index.
+   * @param reader the source reader
+   * @param source description of the source, used in error messages
+   * @throws IOException
+   * @throws ResourceConfigurationException if the source is not a valid
+   *    index
+   */
+  void read(Reader reader, String source) throws IOException {
+    final BufferedReader in = new BufferedReader(reader);
+    String line = in.readLine();
+    int lineNumber = 1;
+    while (line != null) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        final String[] tokens = line.split("\\s+");
+        if (tokens[0].equals(ROOT) && tokens.length == 2) {
+          addRootType(tokens[1]);
+        }
+        else if (tokens[0].equals(TYPE) && tokens.length >= 2) {
+          final Set<String> names = new TreeSet<>();
+          for (int i = 2; i < tokens.length; i++) {
+            names.add(tokens[i]);
+          }
+          addType(tokens[1], names);
+        }
+        else {
+          throw new ResourceConfigurationException("invalid resource index "
+              + "entry at line " + lineNumber + " of " + source);
+        }
+      }
+      line = in.readLine();
+      lineNumber++;
+    }
+  }
+
+  /**
+   * Writes the entries of this index to the given writer.
+   * @param writer the target writer
+   * @throws IOException
+   */
+  public void write(Writer writer) throws IOException {
+    writer.write("# generated by " + ResourceIndexProcessor.class.getName()
+        + "\n");
+    for (final String typeName : rootTypeNames) {
+      writer.write(ROOT + " " + typeName + "\n");
+    }
+    for (final Map.Entry<String, Set<String>> entry :
+        supertypeNames.entrySet()) {
+      writer.write(TYPE + " " + entry.getKey());
+      for (final String supertypeName : entry.getValue()) {
+        writer.write(" " + supertypeName);
+      }
+      writer.write("\n");
+    }
+  }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.index;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
+
+/**
+ * An annotation processor that generates a {@link ResourceIndex} for the
+ * JAX-RS resource types of an application.
+ * <p>
+ * The processor is not registered as a service, so it never runs merely
+ * because this library is on the compile class path; it must be named
+ * explicitly, and it generates an index only when the {@value #INDEX_OPTION}
+ * option is {@code true}.
+ * <ul>
+ *   <li>Using Maven, add this module to the {@code annotationProcessorPaths}
+ *   of the compiler plugin, name this class in its
+ *   {@code annotationProcessors}, and add
+ *   {@code -Aprospecto.jaxrs.resourceIndex=true} to its
+ *   {@code compilerArgs}.</li>
+ *   <li>Using Gradle, add this module to the {@code annotationProcessor}
+ *   configuration, and add {@code -Aprospecto.jaxrs.resourceIndex=true} to
+ *   the {@code options.compilerArgs} of the compile task.</li>
+ *   <li>Using {@code javac} directly, specify this module using
+ *   {@code -processorpath}, this class using {@code -processor}, and
+ *   {@code -Aprospecto.jaxrs.resourceIndex=true}.</li>
+ * </ul>
+ * <p>
+ * Resource discovery uses the index only when it is enabled at runtime (see
+ * {@link org.soulwing.prospecto.jaxrs.runtime.JaxRsUrlResolverProvider#USE_RESOURCE_INDEX});
+ * all of the resource types of such an application must be compiled with
+ * this processor.
+ * <p>
+ * An index that exists in the class output location is merged with the
+ * types seen in the current compilation, so that compiling a subset of an
+ * application's sources does not discard the other types. Entries for types
+ * that were compiled again (and so were seen or not seen as annotated types)
+ * are replaced, and entries for types that no longer exist are dropped.
+ *
+ * @author Carl Harris
+ */
+// all root elements are needed (not just annotated ones), so that merging
+// with a previous index can replace the entries of every compiled type
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ResourceIndexProcessor.INDEX_OPTION)
+public class ResourceIndexProcessor extends AbstractProcessor {
+
+  /**
+   * Processor option that enables generation of the index
+   */
+  public static final String INDEX_OPTION = "prospecto.jaxrs.resourceIndex";
+
+  static final String PATH = "javax.ws.rs.Path";
+
+  static final String MODEL_PATH_SPEC =
+      "org.soulwing.prospecto.jaxrs.api.ModelPathSpec";
+
+  private final ResourceIndex index = new ResourceIndex();
+
+  private final Set<String> compiledTypeNames = new HashSet<>();
+
+  private ResourceIndex previousIndex;
+  private boolean started;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations,
+      RoundEnvironment roundEnv) {
+    if (!Boolean.parseBoolean(processingEnv.getOptions().get(INDEX_OPTION))) {
+      return false;
+    }
+    if (!started) {
+      previousIndex = readIndex();
+      started = true;
+    }
+    for (final TypeElement type :
+        ElementFilter.typesIn(roundEnv.getRootElements())) {
+      addCompiledType(type);
+    }
+    for (final TypeElement type : annotatedTypes(PATH, roundEnv)) {
+      index.addRootType(binaryName(type));
+    }
+    for (final TypeElement type : annotatedTypes(MODEL_PATH_SPEC, roundEnv)) {
+      index.addType(binaryName(type), supertypeNames(type));
+    }
+    if (roundEnv.processingOver()) {
+      final ResourceIndex mergedIndex = mergedIndex();
+      if (previousIndex != null || !mergedIndex.isEmpty()) {
+        writeIndex(mergedIndex);
+      }
+    }
+    return false;
+  }
+
+  private void addCompiledType(TypeElement type) {
+    compiledTypeNames.add(binaryName(type));
+    for (final TypeElement nestedType :
+        ElementFilter.typesIn(type.getEnclosedElements())) {
+      addCompiledType(nestedType);
+    }
+  }
+
+  private ResourceIndex mergedIndex() {
+    if (previousIndex == null) return index;
+    final ResourceIndex mergedIndex = new ResourceIndex();
+    for (final String typeName : previousIndex.getRootTypeNames()) {
+      if (isRetained(typeName)) {
+        mergedIndex.addRootType(typeName);
+      }
+    }
+    for (final String typeName : previousIndex.getTypeNames()) {
+      final Set<String> supertypeNames =
+          previousIndex.getSupertypeNames(typeName);
+      if (supertypeNames != null && isRetained(typeName)) {
+        mergedIndex.addType(typeName, supertypeNames);
+      }
+    }
+    for (final String typeName : index.getRootTypeNames()) {
+      mergedIndex.addRootType(typeName);
+    }
+    for (final String typeName : index.getTypeNames()) {
+      final Set<String> supertypeNames = index.getSupertypeNames(typeName);
+      if (supertypeNames != null) {
+        mergedIndex.addType(typeName, supertypeNames);
+      }
+    }
+    return mergedIndex;
+  }
+
+  /**
+   * Tests whether an entry of the previous index should be retained.
+   * @param typeName binary name of the subject type
+   * @return {@code true} if the type was not compiled in this compilation
+   *    and still exists
+   */
+  private boolean isRetained(String typeName) {
+    return !compiledTypeNames.contains(typeName)
+        && processingEnv.getElementUtils().getTypeElement(
+            typeName.replace('$', '.')) != null;
+  }
+
+  private Set<TypeElement> annotatedTypes(String annotationName,
+      RoundEnvironment roundEnv) {
+    final Set<TypeElement> types = new HashSet<>();
+    final TypeElement annotation =
+        processingEnv.getElementUtils().getTypeElement(annotationName);
+    if (annotation == null) return types;
+    for (final Element element :
+        roundEnv.getElementsAnnotatedWith(annotation)) {
+      if (isType(element)) {
+        types.add((TypeElement) element);
+      }
+    }
+    return types;
+  }
+
+  private boolean isType(Element element) {
+    final ElementKind kind = element.getKind();
+    return kind == ElementKind.CLASS || kind == ElementKind.INTERFACE
+        || kind == ElementKind.ENUM;
+  }
+
+  private Set<String> supertypeNames(TypeElement type) {
+    final Set<String> names = new TreeSet<>();
+    final Deque<TypeMirror> supertypes = new ArrayDeque<>(
+        processingEnv.getTypeUtils().directSupertypes(type.asType()));
+    while (!supertypes.isEmpty()) {
+      final TypeMirror supertype = supertypes.pop();
+      if (supertype.getKind() != TypeKind.DECLARED) continue;
+      final TypeElement element =
+          (TypeElement) ((DeclaredType) supertype).asElement();
+      final String name = binaryName(element);
+      if (!name.equals(Object.class.getName()) && names.add(name)) {
+        supertypes.addAll(
+            processingEnv.getTypeUtils().directSupertypes(supertype));
+      }
+    }
+    return names;
+  }
+
+  private String binaryName(TypeElement type) {
+    return processingEnv.getElementUtils().getBinaryName(type).toString();
+  }
+
+  private ResourceIndex readIndex() {
+    try {
+      final FileObject file = processingEnv.getFiler().getResource(
+          StandardLocation.CLASS_OUTPUT, "", ResourceIndex.RESOURCE_NAME);
+      final ResourceIndex previousIndex = new ResourceIndex();
+      try (Reader reader = new InputStreamReader(file.openInputStream(),
+          StandardCharsets.UTF_8)) {
+        previousIndex.read(reader, file.toUri().toString());
+      }
+      return previousIndex;
+    }
+    catch (IOException ex) {
+      // no index from a previous compilation
+      return null;
+    }
+    catch (ResourceConfigurationException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "ignoring invalid resource index: " + ex.getMessage());
+      return null;
+    }
+  }
+
+  private void writeIndex(ResourceIndex index) {
+    try {
+      final FileObject file = processingEnv.getFiler().createResource(
+          StandardLocation.CLASS_OUTPUT, "", ResourceIndex.RESOURCE_NAME);
+      try (Writer writer = new OutputStreamWriter(file.openOutputStream(),
+          StandardCharsets.UTF_8)) {
+        index.write(writer);
+      }
+    }
+    catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "failed to write resource index: " + ex);
+    }
+  }
+
+}
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.jaxrs.api.ModelPathSpec;
 import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModel;
 import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModelSequence;
@@ -41,10 +42,10 @@ public class ModelPath {
     ANY_SEQUENCE;
   }
 
-  private final List<Class<?>> path = new ArrayList<>();
+  private final List<Class<?>> path;
 
   private ModelPath(List<Class<?>> path) {
-    this.path.addAll(path);
+    this.path = path;
   }
 
   /**
@@ -53,6 +54,20 @@ public class ModelPath {
    * @return model path
    */
   public static ModelPath with(List<Class<?>> path) {
+    return new ModelPath(new ArrayList<>(path));
+  }
+
+  /**
+   * Creates a new path object with the given unmodifiable sequence of
+   * model types.
+   * <p>
+   * Unlike {@link #with(List)}, the path uses the given list without
+   * copying it, so this method must be used only with a list that is never
+   * changed (such as {@link ViewContext#currentModelPath()}).
+   * @param path unmodifiable sequence of model types
+   * @return model path
+   */
+  public static ModelPath withSnapshot(List<Class<?>> path) {
     return new ModelPath(path);
   }
 
@@ -62,7 +77,7 @@ public class ModelPath {
    * @return model path
    */
   public static ModelPath with(Class<?>... path) {
-    return new ModelPath(Arrays.asList(path));
+    return with(Arrays.asList(path));
   }
 
   /**
@@ -0,0 +1,199 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A resource path template that has been parsed into a sequence of literal
+ * segments and variable slots.
+ * <p>
+ * A compiled template expands a template by appending its literal segments
+ * and the values of its variables to a string builder, without parsing
+ * the template as a URI. This produces the same result as a JAX-RS
+ * {@code UriBuilder} only when no part of the result needs to be encoded,
+ * so expansion is supported only when the literal segments of the
+ * template and the values of its variables consist of characters that are
+ * never encoded in a URI path. Otherwise, {@link #expand(Map)} returns
+ * {@code null} and the template should be expanded by a
+ * {@code UriBuilder}.
+ * <p>
+ * A template is immutable and may be shared by concurrent threads.
+ *
+ * @author Carl Harris
+ */
+public class PathTemplate {
+
+  private static final boolean[] VALUE_CHARS = new boolean[128];
+  private static final boolean[] LITERAL_CHARS = new boolean[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      VALUE_CHARS[c] = true;
+    }
+    for (char c = 'A'; c <= 'Z'; c++) {
+      VALUE_CHARS[c] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      VALUE_CHARS[c] = true;
+    }
+    for (final char c : "-._~".toCharArray()) {
+      VALUE_CHARS[c] = true;
+    }
+    System.arraycopy(VALUE_CHARS, 0, LITERAL_CHARS, 0, VALUE_CHARS.length);
+    LITERAL_CHARS['/'] = true;
+    LITERAL_CHARS[':'] = true;
+  }
+
+  private final String template;
+  private final String[] literals;
+  private final String[] names;
+  private final int length;
+
+  private PathTemplate(String template, String[] literals, String[] names) {
+    this.template = template;
+    this.literals = literals;
+    this.names = names;
+    int length = 0;
+    if (literals != null) {
+      for (final String literal : literals) {
+        length += literal.length();
+      }
+    }
+    this.length = length;
+  }
+
+  /**
+   * Compiles the given path template.
+   * @param template the template to compile; variables are designated using
+   *    the JAX-RS syntax, {@code {name}} or {@code {name: regex}}
+   * @return compiled template
+   */
+  public static PathTemplate compile(String template) {
+    final List<String> literals = new ArrayList<>();
+    final List<String> names = new ArrayList<>();
+    final int length = template.length();
+    int start = 0;
+    int i = 0;
+    while (i < length) {
+      final char c = template.charAt(i);
+      if (c == '{') {
+        literals.add(template.substring(start, i));
+        final int end = endOfVariable(template, i);
+        if (end == -1) {
+          return new PathTemplate(template, null, null);
+        }
+        names.add(variableName(template, i + 1, end));
+        i = end + 1;
+        start = i;
+      }
+      else if (c < LITERAL_CHARS.length && LITERAL_CHARS[c]) {
+        i++;
+      }
+      else {
+        return new PathTemplate(template, null, null);
+      }
+    }
+    literals.add(template.substring(start));
+    return new PathTemplate(template,
+        literals.toArray(new String[literals.size()]),
+        names.toArray(new String[names.size()]));
+  }
+
+  /**
+   * Finds the brace that ends the variable that begins at the given index,
+   * allowing for braces nested in a regular expression.
+   * @param template the subject template
+   * @param index index of the opening brace
+   * @return index of the closing brace or -1 if the variable is not closed
+   */
+  private static int endOfVariable(String template, int index) {
+    int depth = 0;
+    for (int i = index, max = template.length(); i < max; i++) {
+      final char c = template.charAt(i);
+      if (c == '{') {
+        depth++;
+      }
+      else if (c == '}' && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String variableName(String template, int start, int end) {
+    final int colon = template.indexOf(':', start);
+    return template.substring(start, colon != -1 && colon < end ? colon : end)
+        .trim();
+  }
+
+  /**
+   * Gets the template from which this template was compiled.
+   * @return template
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Tests whether this template can be expanded without encoding any of
+   * its literal segments.
+   * @return {@code true} if this template can be expanded by
+   *    {@link #expand(Map)}
+   */
+  public boolean isExpandable() {
+    return literals != null;
+  }
+
+  /**
+   * Expands this template using the given values.
+   * @param values map of values for the template's variables
+   * @return expanded template, or {@code null} if the template or one of
+   *    the values it uses would need to be encoded, or if a value is missing
+   */
+  public String expand(Map<String, ?> values) {
+    if (literals == null) return null;
+    final StringBuilder sb = new StringBuilder(length + 16 * names.length);
+    sb.append(literals[0]);
+    for (int i = 0; i < names.length; i++) {
+      final Object value = values.get(names[i]);
+      if (value == null) return null;
+      final String s = value.toString();
+      if (!isValue(s)) return null;
+      sb.append(s).append(literals[i + 1]);
+    }
+    return sb.toString();
+  }
+
+  private static boolean isValue(String s) {
+    for (int i = 0, max = s.length(); i < max; i++) {
+      final char c = s.charAt(i);
+      if (c >= VALUE_CHARS.length || !VALUE_CHARS[c]) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+}
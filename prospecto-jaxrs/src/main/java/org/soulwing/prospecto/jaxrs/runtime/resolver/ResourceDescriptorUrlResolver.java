@@ -24,10 +24,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,10 +39,19 @@ import org.soulwing.prospecto.jaxrs.api.AmbiguousPathResolutionException;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceDescriptor;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceNotFoundException;
+import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModel;
+import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModelSequence;
+import org.soulwing.prospecto.jaxrs.runtime.glob.GlobIndex;
 import org.soulwing.prospecto.jaxrs.runtime.path.ModelPath;
 
 /**
  * A simple {@link UrlResolver} backed by a set of resource descriptors.
+ * <p>
+ * When the resolver is validated, the model paths of its descriptors are
+ * compiled into a {@link GlobIndex}, so that the descriptors matching a
+ * given model path can be found without testing each descriptor. The best
+ * matching descriptor for each model path is retained, so that it is found
+ * only once for each distinct model path.
  *
  * @author Carl Harris
  */
@@ -53,6 +63,11 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   private final Set<ResourceDescriptor> descriptors =
       new HashSet<>();
 
+  private final Map<ModelPath, ResourceDescriptor> bestMatches =
+      new ConcurrentHashMap<>();
+
+  private volatile GlobIndex<Class<?>, ResourceDescriptor> index;
+
   /**
    * {@inheritDoc}
    */
@@ -66,6 +81,8 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   public void addDescriptor(ResourceDescriptor descriptor) {
     logger.debug("{}", descriptor);
     descriptors.add(descriptor);
+    index = null;
+    bestMatches.clear();
   }
 
   /**
@@ -73,32 +90,48 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
    */
   @Override
   public void validate() throws ResourceConfigurationException {
-    if (findDuplicatedPaths(createPathList())) {
+    if (findDuplicatedPaths()) {
       throw new ResourceConfigurationException(
           "found duplicate resource descriptors");
     }
+    index = createIndex();
+    bestMatches.clear();
   }
 
-  private boolean findDuplicatedPaths(List<ModelPath> paths) {
-    Set<ModelPath> pathSet = new HashSet<>(paths.size());
-    pathSet.addAll(paths);
-    if (pathSet.size() == paths.size()) return false;
+  private GlobIndex<Class<?>, ResourceDescriptor> createIndex() {
+    final GlobIndex<Class<?>, ResourceDescriptor> index =
+        GlobIndex.with(AnyModel.class, AnyModelSequence.class);
+    for (ResourceDescriptor descriptor : descriptors) {
+      index.add(descriptor.modelPath().asArray(), descriptor);
+    }
+    return index;
+  }
 
-    Map<ModelPath, Set<ResourceDescriptor>> pathMap = new HashMap<>();
+  private boolean findDuplicatedPaths() {
+    final Map<ModelPath, ResourceDescriptor> paths =
+        new HashMap<>(2 * descriptors.size());
+    Map<ModelPath, List<ResourceDescriptor>> duplicates = null;
     for (ResourceDescriptor descriptor : descriptors) {
       final ModelPath modelPath = descriptor.modelPath();
-      Set<ResourceDescriptor> descriptorSet = pathMap.get(modelPath);
-      if (descriptorSet == null) {
-        descriptorSet = new HashSet<>();
-        pathMap.put(modelPath, descriptorSet);
+      final ResourceDescriptor first = paths.putIfAbsent(modelPath,
+          descriptor);
+      if (first == null) continue;
+      if (duplicates == null) {
+        duplicates = new LinkedHashMap<>();
       }
-      descriptorSet.add(descriptor);
+      List<ResourceDescriptor> duplicateList = duplicates.get(modelPath);
+      if (duplicateList == null) {
+        duplicateList = new ArrayList<>();
+        duplicateList.add(first);
+        duplicates.put(modelPath, duplicateList);
+      }
+      duplicateList.add(descriptor);
     }
 
-    for (ModelPath path : pathMap.keySet()) {
-      final Set<ResourceDescriptor> descriptors = pathMap.get(path);
-      if (descriptors.size() <= 1) continue;
-      for (ResourceDescriptor descriptor : descriptors) {
+    if (duplicates == null) return false;
+
+    for (List<ResourceDescriptor> duplicateList : duplicates.values()) {
+      for (ResourceDescriptor descriptor : duplicateList) {
         logger.error("DUPLICATE: {}", descriptor);
       }
     }
@@ -106,21 +139,18 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
     return true;
   }
 
-  private List<ModelPath> createPathList() {
-    List<ModelPath> paths = new LinkedList<>();
-    for (ResourceDescriptor descriptor : descriptors) {
-      paths.add(descriptor.modelPath());
-    }
-    return paths;
-  }
-
   /**
    * {@inheritDoc}
    */
   @Override
   public String resolve(ViewNode node, ViewContext context) {
-    final ResourceDescriptor descriptor = findBestMatch(
-        ModelPath.with(context.currentModelPath()));
+    final ModelPath modelPath =
+        ModelPath.withSnapshot(context.currentModelPath());
+    ResourceDescriptor descriptor = bestMatches.get(modelPath);
+    if (descriptor == null) {
+      descriptor = findBestMatch(modelPath);
+      bestMatches.put(modelPath, descriptor);
+    }
     final String urlTemplate =
         context.getUrlDecorators().decorate(descriptor.path(), node, context);
     return descriptor.templateResolver().resolve(urlTemplate, context);
@@ -245,6 +275,18 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   }
 
   private List<ResourceDescriptor> findAllMatches(ModelPath modelPath) {
+    final GlobIndex<Class<?>, ResourceDescriptor> index = this.index;
+    if (index != null) {
+      final List<ResourceDescriptor> matches =
+          index.findAll(modelPath.asList());
+      if (logger.isTraceEnabled()) {
+        for (ResourceDescriptor descriptor : matches) {
+          logger.trace("{} matches {}", modelPath, descriptor);
+        }
+      }
+      return matches;
+    }
+
     List<ResourceDescriptor> matches = new ArrayList<>();
     for (ResourceDescriptor descriptor : descriptors) {
       if (descriptor.matches(modelPath)) {
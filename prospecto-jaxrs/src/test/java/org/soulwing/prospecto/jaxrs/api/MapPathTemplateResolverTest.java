@@ -0,0 +1,87 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.UriBuilder;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * Unit tests for {@link MapPathTemplateResolver}.
+ *
+ * @author Carl Harris
+ */
+public class MapPathTemplateResolverTest {
+
+  private static final String[] TEMPLATES = {
+      "/players/{id}",
+      "/teams/{teamId}/players/{id: [0-9]+}",
+      "http://localhost:8080/teams/{teamId}",
+      "/teams/{name}",
+      "/teams/{teamId}/players?sort={name}",
+  };
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ViewContext viewContext;
+
+  private final Map<String, Object> values = new HashMap<>();
+
+  private final MapPathTemplateResolver resolver =
+      new MapPathTemplateResolver() {
+        @Override
+        protected Map<String, Object> templateMap(ViewContext context) {
+          return values;
+        }
+      };
+
+  @Test
+  public void testResolveSameAsUriBuilder() throws Exception {
+    values.put("id", 42L);
+    values.put("teamId", "team-1");
+    values.put("name", "a name/with ;reserved% characters");
+    for (final String template : TEMPLATES) {
+      final String expected =
+          UriBuilder.fromUri(template).buildFromMap(values).toString();
+      // resolve twice, to use both a new and a cached compiled template
+      assertThat(resolver.resolve(template, viewContext),
+          is(equalTo(expected)));
+      assertThat(resolver.resolve(template, viewContext),
+          is(equalTo(expected)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testResolveWhenValueMissing() throws Exception {
+    resolver.resolve("/players/{id}", viewContext);
+  }
+
+}
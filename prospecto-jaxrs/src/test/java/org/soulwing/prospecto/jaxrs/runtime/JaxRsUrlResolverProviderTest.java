@@ -18,6 +18,9 @@
  */
 package org.soulwing.prospecto.jaxrs.runtime;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -35,6 +38,9 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.soulwing.prospecto.jaxrs.runtime.discovery.IndexReflectionService;
+import org.soulwing.prospecto.jaxrs.runtime.discovery.ServletContextReflectionService;
+import org.soulwing.prospecto.jaxrs.runtime.index.ResourceIndex;
 
 /**
  * Unit tests for {@link JaxRsUrlResolverProvider}.
@@ -111,6 +117,65 @@ public class JaxRsUrlResolverProviderTest {
     provider.getResolver();
   }
 
+  @Test
+  public void testInitIgnoresResourceIndexByDefault() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(servletContext).getRealPath("/WEB-INF/classes");
+        will(returnValue(webInfClasses.toString()));
+        allowing(servletContext).getResourcePaths("/WEB-INF/lib");
+        will(returnValue(Collections.emptySet()));
+        oneOf(discoveryService).discoverResources(with(PATH),
+            with(any(ServletContextReflectionService.class)));
+        will(returnValue(Collections.emptyList()));
+      }
+    });
+
+    final Map<String, Object> properties = new HashMap<>();
+    properties.put(JaxRsUrlResolverProvider.APPLICATION_PATH, PATH);
+    properties.put(JaxRsUrlResolverProvider.SERVLET_CONTEXT, servletContext);
+    initWithResourceIndex(properties);
+  }
+
+  @Test
+  public void testInitUsingResourceIndex() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(discoveryService).discoverResources(with(PATH),
+            with(any(IndexReflectionService.class)));
+        will(returnValue(Collections.emptyList()));
+      }
+    });
+
+    final Map<String, Object> properties = new HashMap<>();
+    properties.put(JaxRsUrlResolverProvider.APPLICATION_PATH, PATH);
+    properties.put(JaxRsUrlResolverProvider.SERVLET_CONTEXT, servletContext);
+    properties.put(JaxRsUrlResolverProvider.USE_RESOURCE_INDEX, "true");
+    initWithResourceIndex(properties);
+  }
+
+  private void initWithResourceIndex(Map<String, Object> properties)
+      throws Exception {
+    final Path indexFile = webInfClasses.resolve(ResourceIndex.RESOURCE_NAME);
+    Files.createDirectories(indexFile.getParent());
+    Files.write(indexFile, "root some.Resource\n".getBytes(
+        StandardCharsets.UTF_8));
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader contextClassLoader = thread.getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] { webInfClasses.toUri().toURL() }, null)) {
+      thread.setContextClassLoader(classLoader);
+      provider.init(properties);
+    }
+    finally {
+      thread.setContextClassLoader(contextClassLoader);
+      Files.delete(indexFile);
+      Files.delete(indexFile.getParent());
+      Files.delete(indexFile.getParent().getParent());
+    }
+  }
+
   @Test(expected = RuntimeException.class)
   public void testGetResolverWhenNotInitialized() throws Exception {
     provider.getResolver();
@@ -0,0 +1,87 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.discovery;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+
+import javax.ws.rs.Path;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.prospecto.jaxrs.api.ModelPathSpec;
+import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
+import org.soulwing.prospecto.jaxrs.runtime.index.ResourceIndex;
+
+/**
+ * Unit tests for {@link IndexReflectionService}.
+ *
+ * @author Carl Harris
+ */
+public class IndexReflectionServiceTest {
+
+  private final ResourceIndex index = new ResourceIndex();
+
+  private IndexReflectionService service;
+
+  @Before
+  public void setUp() throws Exception {
+    index.addRootType(MockRootResource.class.getName());
+    index.addType(MockSubResource.class.getName(),
+        Collections.singleton(MockBaseResource.class.getName()));
+    service = new IndexReflectionService(index, getClass().getClassLoader());
+  }
+
+  @Test
+  public void testGetTypesAnnotatedWith() throws Exception {
+    assertThat(service.getTypesAnnotatedWith(Path.class),
+        contains((Object) MockRootResource.class));
+    assertThat(service.getTypesAnnotatedWith(ModelPathSpec.class),
+        contains((Object) MockSubResource.class));
+  }
+
+  @Test
+  public void testGetSubTypesOf() throws Exception {
+    assertThat(service.getSubTypesOf(MockBaseResource.class),
+        contains((Object) MockSubResource.class));
+    assertThat(service.getSubTypesOf(MockRootResource.class), is(empty()));
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testWhenIndexIsStale() throws Exception {
+    index.addRootType("org.example.NoSuchResource");
+    service.getTypesAnnotatedWith(Path.class);
+  }
+
+  @Path("/root")
+  public static class MockRootResource {
+  }
+
+  public static class MockBaseResource {
+  }
+
+  @ModelPathSpec(Object.class)
+  public static class MockSubResource extends MockBaseResource {
+  }
+
+}
@@ -20,14 +20,25 @@ package org.soulwing.prospecto.jaxrs.runtime.discovery;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import javax.ws.rs.Path;
 
 import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.concurrent.Synchroniser;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -51,7 +62,11 @@ public class ReflectionResourceDiscoveryServiceTest {
   public static final String RESOURCE_PATH = "resourcePath";
 
   @Rule
-  public final JUnitRuleMockery context = new JUnitRuleMockery();
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {
+    {
+      setThreadingPolicy(new Synchroniser());
+    }
+  };
 
   @Mock
   private ReflectionService reflectionService;
@@ -62,6 +77,9 @@ public class ReflectionResourceDiscoveryServiceTest {
   @Mock
   private ResourceDescriptor descriptor;
 
+  @Mock
+  private ResourceDescriptor otherDescriptor;
+
   @Mock
   private ConfigurableUrlResolver resolver;
 
@@ -101,9 +119,106 @@ public class ReflectionResourceDiscoveryServiceTest {
         contains(descriptor));
   }
 
+  @Test
+  public void testDiscoverResourcesConcurrently() throws Exception {
+    service = new ReflectionResourceDiscoveryService(typeIntrospector, 2);
+
+    context.checking(new Expectations() {
+      {
+        oneOf(reflectionService).getTypesAnnotatedWith(Path.class);
+        will(returnValue(new LinkedHashSet<>(Arrays.<Class<?>>asList(
+            OtherMockResource.class, MockResource.class))));
+
+        oneOf(reflectionService).getAnnotation(MockResource.class, Path.class);
+        will(returnValue(AnnotationUtils.pathAnnotation(RESOURCE_PATH)));
+
+        oneOf(reflectionService).getAnnotation(OtherMockResource.class,
+            Path.class);
+        will(returnValue(AnnotationUtils.pathAnnotation("other")));
+
+        oneOf(reflectionService).getAnnotation(MockResource.class,
+            TemplateResolver.class);
+        will(returnValue(templateResolver));
+
+        oneOf(reflectionService).getAnnotation(OtherMockResource.class,
+            TemplateResolver.class);
+        will(returnValue(null));
+
+        oneOf(typeIntrospector).describe(MockResource.class,
+            APPLICATION_PATH + "/" + RESOURCE_PATH, ModelPath.with(),
+            templateResolver, reflectionService);
+        will(returnValue(Collections.singletonList(descriptor)));
+
+        oneOf(typeIntrospector).describe(OtherMockResource.class,
+            APPLICATION_PATH + "/other", ModelPath.with(),
+            null, reflectionService);
+        will(returnValue(Collections.singletonList(otherDescriptor)));
+      }
+    });
+
+    assertThat(service.discoverResources(APPLICATION_PATH, reflectionService),
+        contains(descriptor, otherDescriptor));
+  }
+
+  @Test
+  public void testDiscoverResourcesConcurrentlyUsesContextClassLoader()
+      throws Exception {
+    service = new ReflectionResourceDiscoveryService(typeIntrospector, 2);
+    final ClassLoader contextClassLoader =
+        new URLClassLoader(new URL[0], getClass().getClassLoader());
+    final List<ClassLoader> taskClassLoaders =
+        Collections.synchronizedList(new ArrayList<ClassLoader>());
+
+    final Action recordContextClassLoader = new CustomAction(
+        "record context class loader") {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        taskClassLoaders.add(Thread.currentThread().getContextClassLoader());
+        return Collections.emptyList();
+      }
+    };
+
+    context.checking(new Expectations() {
+      {
+        oneOf(reflectionService).getTypesAnnotatedWith(Path.class);
+        will(returnValue(new LinkedHashSet<>(Arrays.<Class<?>>asList(
+            OtherMockResource.class, MockResource.class))));
+
+        allowing(reflectionService).getAnnotation(
+            with(any(Class.class)), with(Path.class));
+        will(returnValue(AnnotationUtils.pathAnnotation(RESOURCE_PATH)));
+
+        allowing(reflectionService).getAnnotation(
+            with(any(Class.class)), with(TemplateResolver.class));
+        will(returnValue(null));
+
+        exactly(2).of(typeIntrospector).describe(with(any(Class.class)),
+            with(any(String.class)), with(any(ModelPath.class)),
+            with(aNull(TemplateResolver.class)), with(reflectionService));
+        will(recordContextClassLoader);
+      }
+    });
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader threadClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    try {
+      service.discoverResources(APPLICATION_PATH, reflectionService);
+    }
+    finally {
+      thread.setContextClassLoader(threadClassLoader);
+    }
+
+    assertThat(taskClassLoaders, contains(
+        sameInstance(contextClassLoader), sameInstance(contextClassLoader)));
+  }
+
   public static class MockResource {
   }
 
+  public static class OtherMockResource {
+  }
+
   public static class MockTemplateResolver implements PathTemplateResolver {
     @Override
     public String resolve(String template, ViewContext context)
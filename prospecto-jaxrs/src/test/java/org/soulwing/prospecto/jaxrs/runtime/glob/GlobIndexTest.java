@@ -0,0 +1,134 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.glob;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link GlobIndex}.
+ *
+ * @author Carl Harris
+ */
+public class GlobIndexTest {
+
+  private final GlobIndex<Character, String> index =
+      GlobIndex.with('?', '*');
+
+  @Test
+  public void testEmptyIndex() throws Exception {
+    assertThat(index.findAll(input("")), is(empty()));
+    assertThat(index.findAll(input("abc")), is(empty()));
+  }
+
+  @Test
+  public void testExactMatch() throws Exception {
+    add("abc", "ab", "abd");
+    assertThat(index.findAll(input("")), is(empty()));
+    assertThat(index.findAll(input("a")), is(empty()));
+    assertThat(index.findAll(input("ab")), containsInAnyOrder("ab"));
+    assertThat(index.findAll(input("abc")), containsInAnyOrder("abc"));
+    assertThat(index.findAll(input("abcd")), is(empty()));
+  }
+
+  @Test
+  public void testWildcardMatch() throws Exception {
+    add("abc", "?bc", "a?", "*", "a*", "*c", "a*c", "b*");
+    assertThat(index.findAll(input("")), containsInAnyOrder("*"));
+    assertThat(index.findAll(input("abc")),
+        containsInAnyOrder("abc", "?bc", "*", "a*", "*c", "a*c"));
+    assertThat(index.findAll(input("ab")),
+        containsInAnyOrder("a?", "*", "a*"));
+  }
+
+  @Test
+  public void testSamePatternWithDifferentValues() throws Exception {
+    index.add(pattern("a*"), "first");
+    index.add(pattern("a*"), "second");
+    assertThat(index.findAll(input("abc")),
+        containsInAnyOrder("first", "second"));
+  }
+
+  @Test
+  public void testMatchesSameAsLegacyGlobMatcher() throws Exception {
+    final Random random = new Random(0);
+    for (int i = 0; i < 500; i++) {
+      final GlobIndex<Character, String> index = GlobIndex.with('?', '*');
+      final List<String> patterns = new ArrayList<>();
+      for (int j = 0; j < 20; j++) {
+        final String pattern = randomString(random, "ab?*");
+        patterns.add(pattern);
+        index.add(pattern(pattern), pattern);
+      }
+      for (int j = 0; j < 20; j++) {
+        final String input = randomString(random, "abc");
+        final Set<String> expected = new HashSet<>();
+        for (final String pattern : patterns) {
+          if (LegacyGlobMatcher.with('?', '*', pattern(pattern))
+              .matches(pattern(input))) {
+            expected.add(pattern);
+          }
+        }
+        assertThat("patterns matching '" + input + "' in " + patterns,
+            new HashSet<>(index.findAll(input(input))),
+            is(equalTo(expected)));
+      }
+    }
+  }
+
+  private void add(String... patterns) {
+    for (final String pattern : patterns) {
+      index.add(pattern(pattern), pattern);
+    }
+  }
+
+  private static String randomString(Random random, String alphabet) {
+    final StringBuilder sb = new StringBuilder();
+    final int length = random.nextInt(6);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+
+  private static List<Character> input(String s) {
+    return Arrays.asList(pattern(s));
+  }
+
+  private static Character[] pattern(String s) {
+    final Character[] tokens = new Character[s.length()];
+    for (int i = 0; i < s.length(); i++) {
+      tokens[i] = s.charAt(i);
+    }
+    return tokens;
+  }
+
+}
@@ -21,6 +21,11 @@ package org.soulwing.prospecto.jaxrs.runtime.glob;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Test;
 
 /**
@@ -85,6 +90,76 @@ public class GlobMatcherTest {
     assertThat(matcher("*d").matches(stringToArray("dddd")), is(true));
   }
 
+  @Test
+  public void testMatchesList() throws Exception {
+    assertThat(matcher("a*d").matches(Arrays.asList(stringToArray("abcd"))),
+        is(true));
+    assertThat(matcher("a*d").matches(Arrays.asList(stringToArray("abc"))),
+        is(false));
+  }
+
+  @Test
+  public void testMatchesSameAsLegacyMatcher() throws Exception {
+    final List<String> patterns = allStrings("ab?*", 5);
+    final List<String> inputs = allStrings("abc", 6);
+    for (final String pattern : patterns) {
+      final GlobMatcher<Character> matcher = matcher(pattern);
+      final LegacyGlobMatcher<Character> legacyMatcher =
+          LegacyGlobMatcher.with('?', '*', stringToArray(pattern));
+      for (final String input : inputs) {
+        final boolean expected = legacyMatcher.matches(stringToArray(input));
+        assertThat("'" + pattern + "' matches '" + input + "'",
+            matcher.matches(stringToArray(input)), is(expected));
+        assertThat("'" + pattern + "' matches '" + input + "'",
+            matcher.matches(Arrays.asList(stringToArray(input))),
+            is(expected));
+      }
+    }
+  }
+
+  @Test
+  public void testRandomMatchesSameAsLegacyMatcher() throws Exception {
+    final Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      final String pattern = randomString(random, "abc?*", 12);
+      final String input = randomString(random, "abc", 16);
+      assertThat("'" + pattern + "' matches '" + input + "'",
+          matcher(pattern).matches(stringToArray(input)),
+          is(LegacyGlobMatcher.with('?', '*', stringToArray(pattern))
+              .matches(stringToArray(input))));
+    }
+  }
+
+  /**
+   * Creates a list of all strings over the given alphabet, up to the given
+   * length.
+   */
+  private List<String> allStrings(String alphabet, int maxLength) {
+    final List<String> strings = new ArrayList<>();
+    strings.add("");
+    int start = 0;
+    for (int length = 1; length <= maxLength; length++) {
+      final int end = strings.size();
+      for (int i = start; i < end; i++) {
+        for (int j = 0; j < alphabet.length(); j++) {
+          strings.add(strings.get(i) + alphabet.charAt(j));
+        }
+      }
+      start = end;
+    }
+    return strings;
+  }
+
+  private String randomString(Random random, String alphabet,
+      int maxLength) {
+    final StringBuilder sb = new StringBuilder();
+    final int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+
   private GlobMatcher<Character> matcher(String pattern) {
     return GlobMatcher.<Character>with('?', '*', stringToArray(pattern));
   }
@@ -0,0 +1,233 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ResourceIndexProcessor}.
+ * <p>
+ * These tests compile sources using the system Java compiler with the
+ * processor enabled, and then examine the generated index.
+ *
+ * @author Carl Harris
+ */
+public class ResourceIndexProcessorTest {
+
+  private static final String ROOT_RESOURCE =
+      "package test;\n"
+      + "@javax.ws.rs.Path(\"/root\")\n"
+      + "public class RootResource {}\n";
+
+  private static final String OTHER_RESOURCE =
+      "package test;\n"
+      + "@javax.ws.rs.Path(\"/other\")\n"
+      + "public class OtherResource {}\n";
+
+  private static final String UNANNOTATED_ROOT_RESOURCE =
+      "package test;\n"
+      + "public class RootResource {}\n";
+
+  private static final String BASE_RESOURCE =
+      "package test;\n"
+      + "public abstract class BaseResource {}\n";
+
+  private static final String SUB_RESOURCE =
+      "package test;\n"
+      + "@org.soulwing.prospecto.jaxrs.api.ModelPathSpec(Object.class)\n"
+      + "public class SubResource extends BaseResource {\n"
+      + "  @org.soulwing.prospecto.jaxrs.api.ModelPathSpec(Object.class)\n"
+      + "  public static class Nested extends BaseResource {}\n"
+      + "}\n";
+
+  private Path sourceDirectory;
+  private Path classesDirectory;
+
+  @Before
+  public void setUp() throws Exception {
+    sourceDirectory = Files.createTempDirectory("sources");
+    classesDirectory = Files.createTempDirectory("classes");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    delete(sourceDirectory);
+    delete(classesDirectory);
+  }
+
+  @Test
+  public void testNoIndexWhenNotEnabled() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    compile(false, "RootResource");
+    assertThat(readIndex(), is(nullValue()));
+  }
+
+  @Test
+  public void testNotDiscoveredOnClassPath() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    compile(true, false, "RootResource");
+    assertThat(readIndex(), is(nullValue()));
+  }
+
+  @Test
+  public void testGeneratesIndex() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    writeSource("BaseResource", BASE_RESOURCE);
+    writeSource("SubResource", SUB_RESOURCE);
+    compile(true, "RootResource", "BaseResource", "SubResource");
+
+    final ResourceIndex index = readIndex();
+    assertThat(index, is(not(nullValue())));
+    assertThat(index.getRootTypeNames(), contains("test.RootResource"));
+    assertThat(index.getSubTypeNames("test.BaseResource"),
+        containsInAnyOrder("test.SubResource", "test.SubResource$Nested"));
+  }
+
+  @Test
+  public void testRetainsTypesNotCompiled() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    writeSource("OtherResource", OTHER_RESOURCE);
+    compile(true, "RootResource", "OtherResource");
+    compile(true, "OtherResource");
+
+    assertThat(readIndex().getRootTypeNames(),
+        contains("test.OtherResource", "test.RootResource"));
+  }
+
+  @Test
+  public void testDropsTypesThatNoLongerExist() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    writeSource("OtherResource", OTHER_RESOURCE);
+    compile(true, "RootResource", "OtherResource");
+    Files.delete(classesDirectory.resolve("test/RootResource.class"));
+    compile(true, "OtherResource");
+
+    assertThat(readIndex().getRootTypeNames(),
+        contains("test.OtherResource"));
+  }
+
+  @Test
+  public void testDropsTypesThatAreNoLongerAnnotated() throws Exception {
+    writeSource("RootResource", ROOT_RESOURCE);
+    writeSource("OtherResource", OTHER_RESOURCE);
+    compile(true, "RootResource", "OtherResource");
+    writeSource("RootResource", UNANNOTATED_ROOT_RESOURCE);
+    compile(true, "RootResource");
+
+    assertThat(readIndex().getRootTypeNames(),
+        contains("test.OtherResource"));
+  }
+
+  private void writeSource(String name, String source) throws IOException {
+    final Path path = sourceDirectory.resolve("test/" + name + ".java");
+    Files.createDirectories(path.getParent());
+    Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void compile(boolean enabled, String... names) throws IOException {
+    compile(enabled, true, names);
+  }
+
+  private void compile(boolean enabled, boolean explicit, String... names)
+      throws IOException {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      final List<File> files = new ArrayList<>();
+      for (final String name : names) {
+        files.add(sourceDirectory.resolve("test/" + name + ".java").toFile());
+      }
+      final Iterable<? extends JavaFileObject> sources =
+          fileManager.getJavaFileObjectsFromFiles(files);
+
+      final List<String> options = new ArrayList<>(Arrays.asList(
+          "-d", classesDirectory.toString(),
+          "-classpath", System.getProperty("java.class.path")
+              + File.pathSeparator + classesDirectory));
+      if (enabled) {
+        options.add("-A" + ResourceIndexProcessor.INDEX_OPTION + "=true");
+      }
+
+      final JavaCompiler.CompilationTask task = compiler.getTask(null,
+          fileManager, null, options, null, sources);
+      if (explicit) {
+        task.setProcessors(Collections.singletonList(
+            new ResourceIndexProcessor()));
+      }
+      assertThat(task.call(), is(true));
+    }
+  }
+
+  private ResourceIndex readIndex() throws IOException {
+    final Path path = classesDirectory.resolve(ResourceIndex.RESOURCE_NAME);
+    if (!Files.exists(path)) return null;
+    final ResourceIndex index = new ResourceIndex();
+    try (Reader reader = Files.newBufferedReader(path,
+        StandardCharsets.UTF_8)) {
+      index.read(reader, path.toString());
+    }
+    return index;
+  }
+
+  private static void delete(Path directory) throws IOException {
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+          throws IOException {
+        Files.delete(file);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(Path dir, IOException ex)
+          throws IOException {
+        Files.delete(dir);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+}
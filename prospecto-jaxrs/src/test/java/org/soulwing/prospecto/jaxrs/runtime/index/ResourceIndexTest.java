@@ -0,0 +1,103 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
+
+/**
+ * Unit tests for {@link ResourceIndex}.
+ *
+ * @author Carl Harris
+ */
+public class ResourceIndexTest {
+
+  private final ResourceIndex index = new ResourceIndex();
+
+  @Test
+  public void testEmpty() throws Exception {
+    assertThat(index.isEmpty(), is(true));
+    index.addRootType("Root");
+    assertThat(index.isEmpty(), is(false));
+  }
+
+  @Test
+  public void testGetTypeNames() throws Exception {
+    index.addRootType("Root");
+    index.addType("Type", Collections.<String>emptySet());
+    assertThat(index.getRootTypeNames(), contains("Root"));
+    assertThat(index.getTypeNames(), contains("Root", "Type"));
+  }
+
+  @Test
+  public void testGetSubTypeNames() throws Exception {
+    index.addType("Sub1", Arrays.asList("Base", "Marker"));
+    index.addType("Sub2", Collections.singleton("Base"));
+    assertThat(index.getSubTypeNames("Base"),
+        containsInAnyOrder("Sub1", "Sub2"));
+    assertThat(index.getSubTypeNames("Marker"), contains("Sub1"));
+    assertThat(index.getSubTypeNames("Other"), is(empty()));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    index.addRootType("Root");
+    index.addType("Sub$1", Arrays.asList("Base", "Marker"));
+    final StringWriter writer = new StringWriter();
+    index.write(writer);
+
+    final ResourceIndex other = new ResourceIndex();
+    other.read(new StringReader(writer.toString()), "test");
+    assertThat(other.getRootTypeNames(), contains("Root"));
+    assertThat(other.getTypeNames(), contains("Root", "Sub$1"));
+    assertThat(other.getSubTypeNames("Marker"), contains("Sub$1"));
+  }
+
+  @Test
+  public void testReadIgnoresCommentsAndBlankLines() throws Exception {
+    index.read(new StringReader("# comment\n\n  root Root  \n"), "test");
+    assertThat(index.getTypeNames(), contains("Root"));
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testReadInvalidEntry() throws Exception {
+    index.read(new StringReader("root\n"), "test");
+  }
+
+  @Test
+  public void testLoadWhenNoIndex() throws Exception {
+    final ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+    assertThat(ResourceIndex.load(classLoader), is(nullValue()));
+  }
+
+}
@@ -23,6 +23,10 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 /**
@@ -41,6 +45,16 @@ public class ModelPathTest {
         contains((Class) Integer.class, Long.class));
   }
 
+  @Test
+  public void testWithSnapshot() throws Exception {
+    final List<Class<?>> path = Collections.unmodifiableList(
+        Arrays.<Class<?>>asList(Integer.class, Long.class));
+    assertThat(ModelPath.withSnapshot(path),
+        is(equalTo(ModelPath.with(Integer.class, Long.class))));
+    assertThat(ModelPath.withSnapshot(path).asList(),
+        contains((Class) Integer.class, Long.class));
+  }
+
   @Test
   public void testConcat() throws Exception {
     assertThat(ModelPath.with(Integer.class)
@@ -0,0 +1,102 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PathTemplate}.
+ *
+ * @author Carl Harris
+ */
+public class PathTemplateTest {
+
+  private final Map<String, Object> values = new HashMap<>();
+
+  @Test
+  public void testExpandLiteral() throws Exception {
+    assertThat(PathTemplate.compile("").expand(values), is(equalTo("")));
+    assertThat(PathTemplate.compile("/teams").expand(values),
+        is(equalTo("/teams")));
+  }
+
+  @Test
+  public void testExpandVariables() throws Exception {
+    values.put("id", 42L);
+    values.put("teamId", "team-1");
+    assertThat(PathTemplate.compile("/teams/{teamId}/players/{id}")
+        .expand(values), is(equalTo("/teams/team-1/players/42")));
+    assertThat(PathTemplate.compile("{id}{id}").expand(values),
+        is(equalTo("4242")));
+  }
+
+  @Test
+  public void testExpandVariableWithRegex() throws Exception {
+    values.put("id", 42);
+    assertThat(PathTemplate.compile("/players/{ id : [0-9]{1,3} }")
+        .expand(values), is(equalTo("/players/42")));
+  }
+
+  @Test
+  public void testExpandAbsoluteTemplate() throws Exception {
+    values.put("id", 42);
+    assertThat(PathTemplate.compile("http://localhost:8080/players/{id}")
+        .expand(values), is(equalTo("http://localhost:8080/players/42")));
+  }
+
+  @Test
+  public void testExpandWhenValueMissing() throws Exception {
+    assertThat(PathTemplate.compile("/players/{id}").expand(values),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testExpandWhenValueNeedsEncoding() throws Exception {
+    values.put("id", "a b");
+    values.put("path", "a/b");
+    assertThat(PathTemplate.compile("/players/{id}").expand(values),
+        is(nullValue()));
+    assertThat(PathTemplate.compile("/players/{path}").expand(values),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testExpandWhenTemplateNeedsEncoding() throws Exception {
+    values.put("id", 42);
+    assertThat(PathTemplate.compile("/all players/{id}").isExpandable(),
+        is(false));
+    assertThat(PathTemplate.compile("/players/{id}?q").expand(values),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testExpandWhenVariableNotClosed() throws Exception {
+    assertThat(PathTemplate.compile("/players/{id").isExpandable(),
+        is(false));
+  }
+
+}
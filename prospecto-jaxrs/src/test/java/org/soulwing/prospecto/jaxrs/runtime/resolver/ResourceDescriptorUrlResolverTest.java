@@ -107,6 +107,74 @@ public class ResourceDescriptorUrlResolverTest {
         is(equalTo(RESOLVED_PATH)));
   }
 
+  @Test
+  public void testResolveRetainsBestMatch() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(viewContext).currentModelPath();
+        will(returnValue(Collections.singletonList(Object.class)));
+        oneOf(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        exactly(2).of(descriptor).path();
+        will(returnValue(PATH));
+        exactly(2).of(viewContext).getUrlDecorators();
+        will(returnValue(decorators));
+        exactly(2).of(decorators).decorate(PATH, viewNode, viewContext);
+        will(returnValue(DECORATED_PATH));
+        exactly(2).of(descriptor).templateResolver();
+        will(returnValue(templateResolver));
+        exactly(2).of(templateResolver).resolve(DECORATED_PATH, viewContext);
+        will(returnValue(RESOLVED_PATH));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(RESOLVED_PATH)));
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(RESOLVED_PATH)));
+  }
+
+  @Test
+  public void testResolveAfterValidate() throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    context.checking(new Expectations() {
+      {
+        oneOf(viewContext).currentModelPath();
+        will(returnValue(Arrays.asList(Object.class, Integer.class)));
+
+        allowing(descriptor1).modelPath();
+        will(returnValue(ModelPath.with(Object.class, Integer.class)));
+        allowing(descriptor2).modelPath();
+        will(returnValue(ModelPath.with(Object.class, Long.class)));
+
+        oneOf(descriptor1).templateResolver();
+        will(returnValue(templateResolver));
+
+        oneOf(descriptor1).path();
+        will(returnValue(PATH));
+
+        oneOf(viewContext).getUrlDecorators();
+        will(returnValue(decorators));
+        oneOf(decorators).decorate(PATH, viewNode, viewContext);
+        will(returnValue(DECORATED_PATH));
+
+        oneOf(templateResolver).resolve(DECORATED_PATH, viewContext);
+        will(returnValue(RESOLVED_PATH));
+      }
+    });
+
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    resolver.validate();
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(RESOLVED_PATH)));
+  }
+
   @Test(expected = AmbiguousPathResolutionException.class)
   public void testResolveWhenAmbiguous() throws Exception {
     final ResourceDescriptor descriptor1 =
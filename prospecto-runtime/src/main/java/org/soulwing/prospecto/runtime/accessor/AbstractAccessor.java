@@ -41,6 +41,26 @@ abstract class AbstractAccessor
   private final AccessType accessType;
   private final EnumSet<AccessMode> supportedModes;
 
+  /**
+   * Accessors for subtypes of the model type, so that each subtype is
+   * introspected at most once for this accessor.
+   */
+  private final ClassValue<Accessor> subtypeAccessors =
+      new ClassValue<Accessor>() {
+        @Override
+        protected Accessor computeValue(Class<?> type) {
+          try {
+            return newAccessor(type, name);
+          }
+          catch (RuntimeException ex) {
+            throw ex;
+          }
+          catch (Exception ex) {
+            throw new SubtypeAccessorException(ex);
+          }
+        }
+      };
+
   AbstractAccessor(Class<?> modelType, String name,
       AccessType accessType, EnumSet<AccessMode> supportedModes) {
     this.modelType = modelType;
@@ -81,7 +101,12 @@ abstract class AbstractAccessor
 
   @Override
   public Accessor forSubtype(Class<?> subtype) throws Exception {
-    return newAccessor(subtype, name);
+    try {
+      return subtypeAccessors.get(subtype);
+    }
+    catch (SubtypeAccessorException ex) {
+      throw (Exception) ex.getCause();
+    }
   }
 
   protected abstract Accessor newAccessor(Class<?> type, String name)
@@ -113,4 +138,15 @@ abstract class AbstractAccessor
     return getDataType().isAssignableFrom(descriptor.getAssociateType());
   }
 
+  /**
+   * Carries a checked exception out of {@link #subtypeAccessors}.
+   */
+  private static class SubtypeAccessorException extends RuntimeException {
+
+    SubtypeAccessorException(Exception cause) {
+      super(cause);
+    }
+
+  }
+
 }
@@ -19,13 +19,19 @@
 package org.soulwing.prospecto.runtime.accessor;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.EnumSet;
 
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.AccessType;
 
 /**
- * An accessor that directly accesses fields via the Reflection API.
+ * An accessor that directly accesses fields.
+ * <p>
+ * The field is accessed using functions produced by {@link MemberHandles}
+ * when possible, otherwise via the Reflection API. The Reflection API is
+ * also used for a target or value of the wrong type, so that it is reported
+ * as it would be by {@link Field#get} or {@link Field#set}.
  *
  * @author Carl Harris
  */
@@ -33,12 +39,16 @@ class FieldAccessor extends AbstractAccessor {
 
 
   private final Field field;
+  private final MemberHandles.Getter getterHandle;
+  private final MemberHandles.Setter setterHandle;
 
   public FieldAccessor(Class<?> modelType, String name, Field field) {
     super(modelType, name, AccessType.FIELD, EnumSet.allOf(AccessMode.class)
     );
     this.field = field;
     field.setAccessible(true);
+    this.getterHandle = MemberHandles.getter(field);
+    this.setterHandle = MemberHandles.setter(field);
   }
 
   @Override
@@ -53,12 +63,38 @@ class FieldAccessor extends AbstractAccessor {
 
   @Override
   protected Object onGet(Object source) throws IllegalAccessException {
-    return field.get(source);
+    if (getterHandle == null
+        || !field.getDeclaringClass().isInstance(source)) {
+      return field.get(source);
+    }
+    try {
+      return getterHandle.get(source);
+    }
+    catch (RuntimeException | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new UndeclaredThrowableException(ex);
+    }
   }
 
   @Override
   protected void onSet(Object target, Object value) throws IllegalAccessException {
-    field.set(target, value);
+    if (setterHandle == null
+        || !field.getDeclaringClass().isInstance(target)
+        || !MemberHandles.isAssignable(field.getType(), value)) {
+      field.set(target, value);
+      return;
+    }
+    try {
+      setterHandle.set(target, value);
+    }
+    catch (RuntimeException | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new UndeclaredThrowableException(ex);
+    }
   }
 
 }
@@ -0,0 +1,245 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A factory for functions that read and write model properties without
+ * using reflective invocation.
+ * <p>
+ * A public method of a public type that is visible to this class is invoked
+ * through a function generated using {@link LambdaMetafactory}, which the
+ * JIT compiler can inline like an ordinary method call. Other methods, and
+ * all fields, are invoked through a {@link MethodHandle}.
+ * <p>
+ * Each factory method returns {@code null} if the member cannot be accessed
+ * in this manner (e.g. a static member or a final field), or if the system
+ * property named by {@link #REFLECTIVE_ACCESS} is set to {@code true}; the
+ * accessor then falls back to using the Reflection API.
+ * <p>
+ * A function performs no checks or conversions on its arguments. An accessor
+ * should pass only a non-null target that is an instance of the member's
+ * declaring class and a value that satisfies {@link #isAssignable}, and
+ * otherwise use the Reflection API, which reports a wrong or missing target
+ * or value in the usual way. Any exception thrown by a function that is given
+ * such arguments was thrown by the member itself.
+ *
+ * @author Carl Harris
+ */
+final class MemberHandles {
+
+  /**
+   * Name of a system property which, when set to {@code true}, causes all
+   * accessors to use the Reflection API.
+   */
+  static final String REFLECTIVE_ACCESS =
+      "org.soulwing.prospecto.accessor.reflective";
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  /**
+   * A function that reads the value of a model property.
+   */
+  interface Getter {
+    Object get(Object source) throws Throwable;
+  }
+
+  /**
+   * A function that writes the value of a model property.
+   */
+  interface Setter {
+    void set(Object target, Object value) throws Throwable;
+  }
+
+  private MemberHandles() {
+  }
+
+  /**
+   * Creates a getter that invokes the given accessor method.
+   * @param method the subject method (may be {@code null})
+   * @return getter or {@code null}
+   */
+  static Getter getter(Method method) {
+    if (!isSupported(method)) return null;
+    try {
+      if (isLinkable(method)) {
+        return (Getter) LambdaMetafactory.metafactory(LOOKUP, "get",
+            MethodType.methodType(Getter.class), GETTER_TYPE,
+            LOOKUP.unreflect(method),
+            MethodType.methodType(method.getReturnType(),
+                method.getDeclaringClass()).wrap()).getTarget().invoke();
+      }
+      return new HandleGetter(LOOKUP.unreflect(method).asType(GETTER_TYPE));
+    }
+    catch (Throwable ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates a setter that invokes the given mutator method.
+   * @param method the subject method (may be {@code null})
+   * @return setter or {@code null}
+   */
+  static Setter setter(Method method) {
+    if (!isSupported(method)) return null;
+    try {
+      if (isLinkable(method)) {
+        return (Setter) LambdaMetafactory.metafactory(LOOKUP, "set",
+            MethodType.methodType(Setter.class), SETTER_TYPE,
+            LOOKUP.unreflect(method),
+            MethodType.methodType(void.class, method.getDeclaringClass(),
+                MethodType.methodType(method.getParameterTypes()[0])
+                    .wrap().returnType())).getTarget().invoke();
+      }
+      return new HandleSetter(LOOKUP.unreflect(method).asType(SETTER_TYPE));
+    }
+    catch (Throwable ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates a getter that reads the given field.
+   * @param field the subject field
+   * @return getter or {@code null}
+   */
+  static Getter getter(Field field) {
+    if (!isSupported(field)) return null;
+    try {
+      return new HandleGetter(
+          LOOKUP.unreflectGetter(field).asType(GETTER_TYPE));
+    }
+    catch (Throwable ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates a setter that writes the given field.
+   * @param field the subject field
+   * @return setter or {@code null}
+   */
+  static Setter setter(Field field) {
+    if (!isSupported(field)
+        || Modifier.isFinal(field.getModifiers())) return null;
+    try {
+      return new HandleSetter(
+          LOOKUP.unreflectSetter(field).asType(SETTER_TYPE));
+    }
+    catch (Throwable ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Tests whether a value can be passed to a function for a parameter of
+   * the given type without conversion.
+   * @param type the parameter type
+   * @param value the subject value (may be {@code null})
+   * @return {@code true} if {@code value} is a non-null instance of
+   *    {@code type} (or of its wrapper type if {@code type} is primitive),
+   *    or is {@code null} and {@code type} is a reference type
+   */
+  static boolean isAssignable(Class<?> type, Object value) {
+    if (value == null) return !type.isPrimitive();
+    if (type.isPrimitive()) {
+      type = MethodType.methodType(type).wrap().returnType();
+    }
+    return type.isInstance(value);
+  }
+
+  private static boolean isSupported(Method method) {
+    return method != null
+        && !Boolean.getBoolean(REFLECTIVE_ACCESS)
+        && !Modifier.isStatic(method.getModifiers());
+  }
+
+  private static boolean isSupported(Field field) {
+    return !Boolean.getBoolean(REFLECTIVE_ACCESS)
+        && !Modifier.isStatic(field.getModifiers());
+  }
+
+  /**
+   * Determines whether a generated function can invoke the given method
+   * directly; this requires that the method can be found using this class'
+   * access rights, and that its declaring class is visible to this class'
+   * class loader.
+   */
+  private static boolean isLinkable(Method method) {
+    final Class<?> type = method.getDeclaringClass();
+    try {
+      if (Class.forName(type.getName(), false,
+          MemberHandles.class.getClassLoader()) != type) {
+        return false;
+      }
+      LOOKUP.findVirtual(type, method.getName(), MethodType.methodType(
+          method.getReturnType(), method.getParameterTypes()));
+      return true;
+    }
+    catch (ClassNotFoundException | NoSuchMethodException
+        | IllegalAccessException ex) {
+      return false;
+    }
+  }
+
+  private static class HandleGetter implements Getter {
+
+    private final MethodHandle handle;
+
+    HandleGetter(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public Object get(Object source) throws Throwable {
+      return (Object) handle.invokeExact(source);
+    }
+
+  }
+
+  private static class HandleSetter implements Setter {
+
+    private final MethodHandle handle;
+
+    HandleSetter(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void set(Object target, Object value) throws Throwable {
+      handle.invokeExact(target, value);
+    }
+
+  }
+
+}
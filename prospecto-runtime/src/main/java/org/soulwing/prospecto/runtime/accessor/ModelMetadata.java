@@ -0,0 +1,166 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Introspected metadata for a model type.
+ * <p>
+ * Metadata for each type is computed once and shared by all users for the
+ * life of the type's class loader, so that building many templates (or
+ * accessors for many subtypes) over the same model types does not repeat
+ * JavaBeans introspection. Metadata is not cached for the JDK types, or for
+ * other types loaded by an ancestor of the class loader of this class, since
+ * a value attached to such a type would retain this class (and its loader)
+ * for the life of the JVM. Instances are immutable and safe for concurrent
+ * use.
+ *
+ * @author Carl Harris
+ */
+final class ModelMetadata {
+
+  private static final ClassValue<ModelMetadata> METADATA =
+      new ClassValue<ModelMetadata>() {
+        @Override
+        protected ModelMetadata computeValue(Class<?> type) {
+          try {
+            return new ModelMetadata(type);
+          }
+          catch (IntrospectionException ex) {
+            throw new MetadataException(ex);
+          }
+        }
+      };
+
+  private final Map<String, PropertyDescriptor> properties;
+  private final Map<String, Field> fields;
+
+  private ModelMetadata(Class<?> type) throws IntrospectionException {
+    this.properties = properties(type);
+    this.fields = fields(type);
+  }
+
+  /**
+   * Gets the metadata for the given model type.
+   * @param type the subject type
+   * @return metadata for {@code type}
+   * @throws IntrospectionException if an error occurs in introspecting
+   *    {@code type}
+   */
+  static ModelMetadata of(Class<?> type) throws IntrospectionException {
+    if (!isCacheable(type)) {
+      return new ModelMetadata(type);
+    }
+    try {
+      return METADATA.get(type);
+    }
+    catch (MetadataException ex) {
+      throw (IntrospectionException) ex.getCause();
+    }
+  }
+
+  /**
+   * Tests whether metadata for the given type may be cached.
+   * @param type the subject type
+   * @return {@code true} if {@code type} was loaded neither by the bootstrap
+   *    class loader nor by an ancestor of the class loader of this class
+   */
+  private static boolean isCacheable(Class<?> type) {
+    final ClassLoader classLoader = type.getClassLoader();
+    if (classLoader == null) return false;
+    final ClassLoader ownLoader = ModelMetadata.class.getClassLoader();
+    ClassLoader loader = ownLoader != null ? ownLoader.getParent() : null;
+    while (loader != null) {
+      if (loader == classLoader) return false;
+      loader = loader.getParent();
+    }
+    return true;
+  }
+
+  private static Map<String, PropertyDescriptor> properties(Class<?> type)
+      throws IntrospectionException {
+    final PropertyDescriptor[] descriptors =
+        Introspector.getBeanInfo(type).getPropertyDescriptors();
+    final Map<String, PropertyDescriptor> properties =
+        new HashMap<>(descriptors.length * 2);
+    for (final PropertyDescriptor descriptor : descriptors) {
+      properties.put(descriptor.getName(), descriptor);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
+  private static Map<String, Field> fields(Class<?> type) {
+    final Map<String, Field> fields = new HashMap<>();
+    final Class<?> superclass = type.getSuperclass();
+    if (superclass != null && superclass != Object.class) {
+      fields.putAll(isCacheable(superclass) ?
+          METADATA.get(superclass).fields : fields(superclass));
+    }
+    for (final Field field : type.getDeclaredFields()) {
+      fields.put(field.getName(), field);
+    }
+    return Collections.unmodifiableMap(fields);
+  }
+
+  /**
+   * Gets the descriptor for a JavaBeans property of the model type.
+   * <p>
+   * As with {@link Introspector#getBeanInfo(Class)}, the properties of an
+   * interface type do not include those of its super-interfaces.
+   *
+   * @param name name of the property
+   * @return descriptor or {@code null} if the type has no such property
+   */
+  PropertyDescriptor getPropertyDescriptor(String name) {
+    return properties.get(name);
+  }
+
+  /**
+   * Gets a field of the model type.
+   * <p>
+   * A field declared by the type hides a field of the same name declared by
+   * any of its superclasses.
+   *
+   * @param name name of the field
+   * @return field or {@code null} if neither the type nor any of its
+   *    superclasses declares a field with the given name
+   */
+  Field getField(String name) {
+    return fields.get(name);
+  }
+
+  /**
+   * Carries an introspection exception out of {@link #METADATA}.
+   */
+  private static class MetadataException extends RuntimeException {
+
+    MetadataException(IntrospectionException cause) {
+      super(cause);
+    }
+
+  }
+
+}
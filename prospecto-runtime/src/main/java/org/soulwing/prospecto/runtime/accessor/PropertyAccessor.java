@@ -26,7 +26,13 @@ import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.AccessType;
 
 /**
- * A accessor that uses JavaBeans-style accessor methods via the Reflection API.
+ * A accessor that uses JavaBeans-style accessor methods.
+ * <p>
+ * The methods are invoked using functions produced by {@link MemberHandles}
+ * when possible, otherwise via the Reflection API. The Reflection API is
+ * also used for a target or value of the wrong type, so that the resulting
+ * {@link IllegalArgumentException} or {@link NullPointerException} is not
+ * mistaken for an exception thrown by the method.
  *
  * @author Carl Harris
  */
@@ -34,18 +40,24 @@ class PropertyAccessor extends AbstractAccessor {
 
   private final Method getter;
   private final Method setter;
+  private final Class<?> valueType;
+  private final MemberHandles.Getter getterHandle;
+  private final MemberHandles.Setter setterHandle;
 
   public PropertyAccessor(Class<?> modelType, String name,
       Method getter, Method setter, EnumSet<AccessMode> supportedModes) {
     super(modelType, name, AccessType.PROPERTY, supportedModes);
     this.getter = getter;
     this.setter = setter;
+    this.valueType = setter != null ? setter.getParameterTypes()[0] : null;
     if (getter != null) {
       this.getter.setAccessible(true);
     }
     if (setter != null) {
       this.setter.setAccessible(true);
     }
+    this.getterHandle = MemberHandles.getter(getter);
+    this.setterHandle = MemberHandles.setter(setter);
   }
 
   @Override
@@ -61,13 +73,33 @@ class PropertyAccessor extends AbstractAccessor {
   @Override
   protected Object onGet(Object source)
       throws IllegalAccessException, InvocationTargetException {
-    return getter.invoke(source);
+    if (getterHandle == null
+        || !getter.getDeclaringClass().isInstance(source)) {
+      return getter.invoke(source);
+    }
+    try {
+      return getterHandle.get(source);
+    }
+    catch (Throwable ex) {
+      throw new InvocationTargetException(ex);
+    }
   }
 
   @Override
   protected void onSet(Object target, Object value)
       throws IllegalAccessException, InvocationTargetException {
-    setter.invoke(target, value);
+    if (setterHandle == null
+        || !setter.getDeclaringClass().isInstance(target)
+        || !MemberHandles.isAssignable(valueType, value)) {
+      setter.invoke(target, value);
+      return;
+    }
+    try {
+      setterHandle.set(target, value);
+    }
+    catch (Throwable ex) {
+      throw new InvocationTargetException(ex);
+    }
   }
 
 }
@@ -19,7 +19,6 @@
 package org.soulwing.prospecto.runtime.accessor;
 
 import java.beans.IntrospectionException;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -37,22 +36,18 @@ import org.soulwing.prospecto.api.AccessMode;
 class ReflectionAccessorFactory {
 
   static Accessor field(Class<?> ownerClass, String name)
-      throws NoSuchFieldException {
+      throws NoSuchFieldException, IntrospectionException {
     return new FieldAccessor(ownerClass, name,
         findField(ownerClass, name));
   }
 
   private static Field findField(Class<?> ownerClass, String name)
-      throws NoSuchFieldException {
-    try {
-      return ownerClass.getDeclaredField(name);
-    }
-    catch (NoSuchFieldException ex) {
-      if (ownerClass.getSuperclass() != null) {
-        return findField(ownerClass.getSuperclass(), name);
-      }
-      throw ex;
+      throws NoSuchFieldException, IntrospectionException {
+    final Field field = ModelMetadata.of(ownerClass).getField(name);
+    if (field == null) {
+      throw new NoSuchFieldException(name);
     }
+    return field;
   }
 
   static Accessor property(Class<?> declaringClass, String name)
@@ -112,20 +107,17 @@ class ReflectionAccessorFactory {
   private static PropertyDescriptor findDescriptor(Class<?> type, String name,
       AccessMode accessMode)
       throws IntrospectionException {
-    final PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
-        .getPropertyDescriptors();
-    for (final PropertyDescriptor descriptor : descriptors) {
-      if (descriptor.getName().equals(name)
-          && satisfiesAccessMode(descriptor, accessMode)) {
-        return descriptor;
-      }
+    final PropertyDescriptor descriptor =
+        ModelMetadata.of(type).getPropertyDescriptor(name);
+    if (descriptor != null && satisfiesAccessMode(descriptor, accessMode)) {
+      return descriptor;
     }
 
     if (type.isInterface()) {
       for (final Class<?> interfaceType : type.getInterfaces()) {
-        PropertyDescriptor descriptor =
+        PropertyDescriptor interfaceDescriptor =
             findDescriptor(interfaceType, name, AccessMode.READ);
-        if (descriptor != null) return descriptor;
+        if (interfaceDescriptor != null) return interfaceDescriptor;
       }
     }
 
@@ -43,7 +43,9 @@ class ValueApplicatorSupport {
 
   private final ViewNode node;
 
-  private Class<?> type;
+  // applicators are shared by concurrent requests; convertValues is written
+  // before the volatile write of type, so a non-null type implies it is set
+  private volatile Class<?> type;
   private boolean convertValues;
 
   ValueApplicatorSupport(ViewNode node) {
@@ -52,9 +54,11 @@ class ValueApplicatorSupport {
 
   Object consumeValue(View.Event triggerEvent, Deque<View.Event> events,
       ScopedViewContext context) throws Exception {
+    Class<?> type = this.type;
     if (type == null) {
       type = type(node);
       convertValues = isConvertible(type);
+      this.type = type;
     }
     switch (triggerEvent.getType()) {
       case VALUE: {
@@ -18,21 +18,34 @@
  */
 package org.soulwing.prospecto.runtime.association;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.association.AssociationDescriptor;
 import org.soulwing.prospecto.api.association.AssociationManager;
+import org.soulwing.prospecto.runtime.util.CopyOnWriteList;
 
 /**
- * A {@link AssociationManagerService} backed by a {@link LinkedList}.
+ * A {@link AssociationManagerService} backed by a list.
  *
  * @author Carl Harris
  */
 public class LinkedListAssociationManagerService
     implements AssociationManagerService {
 
-  private final List<AssociationManager> managers = new LinkedList<>();
+  private final CopyOnWriteList<AssociationManager> managers;
+
+  public LinkedListAssociationManagerService() {
+    this.managers = new CopyOnWriteList<>();
+  }
+
+  /**
+   * Constructs a new instance with the same managers as another instance.
+   * @param source the source instance
+   */
+  public LinkedListAssociationManagerService(
+      LinkedListAssociationManagerService source) {
+    this.managers = new CopyOnWriteList<>(source.managers);
+  }
 
   @Override
   @SuppressWarnings("unchecked")
@@ -19,12 +19,17 @@
 package org.soulwing.prospecto.runtime.context;
 
 import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.discriminator.SimpleClassNameDiscriminatorStrategy;
-import org.soulwing.prospecto.api.scope.MutableScope;
+import org.soulwing.prospecto.api.scope.Scope;
 
 /**
  * A {@link ScopedViewContextFactory} that produces {@link ConcreteViewContext}
  * instances.
+ * <p>
+ * A new context shares the collaborators of its source context (see
+ * {@link ConcreteViewContext#ConcreteViewContext(ViewContext)}), so creating
+ * a context for each view doesn't copy the source context's configuration.
  *
  * @author Carl Harris
  */
@@ -39,9 +44,36 @@ public class ConcreteScopedViewContextFactory
   @Override
   public ScopedViewContext newContext(ViewContext source) {
     final ConcreteViewContext viewContext = new ConcreteViewContext(source);
-    final MutableScope scope = viewContext.appendScope();
-    scope.put(new SimpleClassNameDiscriminatorStrategy());
+    viewContext.getScopes().append(new DefaultDiscriminatorScope());
     return viewContext;
   }
 
+  /**
+   * A scope that provides the default discriminator strategy.
+   * <p>
+   * The strategy is created only if it is needed; most views don't use
+   * a discriminator.
+   */
+  private static class DefaultDiscriminatorScope implements Scope {
+
+    private DiscriminatorStrategy strategy;
+
+    @Override
+    public <T> T get(Class<T> type) {
+      if (!type.isAssignableFrom(SimpleClassNameDiscriminatorStrategy.class)) {
+        return null;
+      }
+      if (strategy == null) {
+        strategy = new SimpleClassNameDiscriminatorStrategy();
+      }
+      return type.cast(strategy);
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+      return null;
+    }
+
+  }
+
 }
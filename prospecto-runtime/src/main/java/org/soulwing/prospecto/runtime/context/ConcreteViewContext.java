@@ -18,12 +18,12 @@
  */
 package org.soulwing.prospecto.runtime.context;
 
-import java.util.ArrayList;
-import java.util.Deque;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.options.Options;
@@ -46,7 +46,6 @@ import org.soulwing.prospecto.runtime.reference.ReferenceResolverService;
 import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
 import org.soulwing.prospecto.runtime.scope.LinkedListScopes;
 import org.soulwing.prospecto.runtime.url.LinkedListUrlDecorators;
-import org.soulwing.prospecto.runtime.util.StringUtil;
 
 /**
  * A {@link ScopedViewContext} implementation.
@@ -56,67 +55,99 @@ import org.soulwing.prospecto.runtime.util.StringUtil;
  */
 class ConcreteViewContext implements ScopedViewContext {
 
-  private final Scopes scopes = new LinkedListScopes();
+  private final LinkedListScopes scopes;
 
-  private final NotifiableViewListeners listeners =
-      new LinkedListNotifiableViewListeners();
+  private final LinkedListNotifiableViewListeners listeners;
 
-  private final KeyTypeConverterService keyTypeConverters =
-      new LinkedListKeyTypeConverterService();
+  private final LinkedListKeyTypeConverterService keyTypeConverters;
 
-  private final ValueTypeConverterService valueTypeConverters =
-      new LinkedListValueTypeConverterService();
+  private final LinkedListValueTypeConverterService valueTypeConverters;
 
-  private final ReferenceResolverService referenceResolvers =
-      new LinkedListReferenceResolverService();
+  private final LinkedListReferenceResolverService referenceResolvers;
 
-  private final AssociationManagerService collectionManagers =
-      new LinkedListAssociationManagerService();
+  private final LinkedListAssociationManagerService collectionManagers;
 
-  private final ObjectFactoryService objectFactories =
-      new LinkedListObjectFactoryService();
+  private final LinkedListObjectFactoryService objectFactories;
 
-  private final UrlDecorators urlDecorators =
-      new LinkedListUrlDecorators();
+  private final LinkedListUrlDecorators urlDecorators;
 
   private final Options options;
 
-  private static class ScopeFrame extends ConcreteMutableScope {
+  private final List<ScopeFrame> stackFrames = new StackFrameList();
 
-    private final String name;
-    private final Class<?> modelClass;
+  private ScopeFrame[] scopeStack = new ScopeFrame[16];
 
-    ScopeFrame(String name, Class<?> modelClass) {
-      this.name = name;
-      this.modelClass = modelClass;
-    }
-
-    public String getName() {
-      return name;
-    }
-
-    public Class<?> getModelClass() {
-      return modelClass;
-    }
-
-  }
-
-  private final Deque<ScopeFrame> scopeStack = new LinkedList<>();
+  private int depth;
 
   ConcreteViewContext(Options options) {
     this.options = options;
-  }
-
+    this.scopes = new LinkedListScopes();
+    this.listeners = new LinkedListNotifiableViewListeners();
+    this.keyTypeConverters = new LinkedListKeyTypeConverterService();
+    this.valueTypeConverters = new LinkedListValueTypeConverterService();
+    this.referenceResolvers = new LinkedListReferenceResolverService();
+    this.collectionManagers = new LinkedListAssociationManagerService();
+    this.objectFactories = new LinkedListObjectFactoryService();
+    this.urlDecorators = new LinkedListUrlDecorators();
+  }
+
+  /**
+   * Constructs a copy of a source context.
+   * <p>
+   * If the source is a {@link ConcreteViewContext}, the copy shares the
+   * source's scopes, listeners, converters, and other collaborators, copying
+   * each collection only when it is next changed in either context.
+   * Otherwise the collections of the source context are copied.
+   *
+   * @param source the source context
+   */
   ConcreteViewContext(ViewContext source) {
-    this(source.getOptions());
-    this.scopes.toList().addAll(source.getScopes().toList());
-    this.listeners.toList().addAll(source.getListeners().toList());
-    this.valueTypeConverters.toList().addAll(source.getValueTypeConverters().toList());
-    this.referenceResolvers.toList().addAll(source.getReferenceResolvers().toList());
-    this.collectionManagers.toList().addAll(source.getAssociationManagers().toList());
-    this.objectFactories.toList().addAll(source.getObjectFactories().toList());
-    this.urlDecorators.toList().addAll(source.getUrlDecorators().toList());
-    this.scopeStack.addAll(source.getStackFrames());
+    this.options = source.getOptions();
+    if (source instanceof ConcreteViewContext) {
+      final ConcreteViewContext context = (ConcreteViewContext) source;
+      this.scopes = new LinkedListScopes(context.scopes);
+      this.listeners =
+          new LinkedListNotifiableViewListeners(context.listeners);
+      this.keyTypeConverters =
+          new LinkedListKeyTypeConverterService(context.keyTypeConverters);
+      this.valueTypeConverters =
+          new LinkedListValueTypeConverterService(context.valueTypeConverters);
+      this.referenceResolvers =
+          new LinkedListReferenceResolverService(context.referenceResolvers);
+      this.collectionManagers =
+          new LinkedListAssociationManagerService(context.collectionManagers);
+      this.objectFactories =
+          new LinkedListObjectFactoryService(context.objectFactories);
+      this.urlDecorators = new LinkedListUrlDecorators(context.urlDecorators);
+    }
+    else {
+      this.scopes = new LinkedListScopes();
+      this.listeners = new LinkedListNotifiableViewListeners();
+      this.keyTypeConverters = new LinkedListKeyTypeConverterService();
+      this.valueTypeConverters = new LinkedListValueTypeConverterService();
+      this.referenceResolvers = new LinkedListReferenceResolverService();
+      this.collectionManagers = new LinkedListAssociationManagerService();
+      this.objectFactories = new LinkedListObjectFactoryService();
+      this.urlDecorators = new LinkedListUrlDecorators();
+      this.scopes.toList().addAll(source.getScopes().toList());
+      this.listeners.toList().addAll(source.getListeners().toList());
+      this.keyTypeConverters.toList().addAll(
+          source.getKeyTypeConverters().toList());
+      this.valueTypeConverters.toList().addAll(
+          source.getValueTypeConverters().toList());
+      this.referenceResolvers.toList().addAll(
+          source.getReferenceResolvers().toList());
+      this.collectionManagers.toList().addAll(
+          source.getAssociationManagers().toList());
+      this.objectFactories.toList().addAll(
+          source.getObjectFactories().toList());
+      this.urlDecorators.toList().addAll(source.getUrlDecorators().toList());
+    }
+    final List<ScopeFrame> frames = source.getStackFrames();
+    for (int i = frames.size() - 1; i >= 0; i--) {
+      push(null, null);
+      topFrame().reset(frames.get(i));
+    }
   }
 
   @Override
@@ -183,41 +214,41 @@ class ConcreteViewContext implements ScopedViewContext {
     return options;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned list is an unmodifiable snapshot which is not affected
+   * by subsequent changes to the scope stack.
+   */
   @Override
   public List<String> currentViewPath() {
-    final List<String> nodes = new ArrayList<>();
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (frames.hasNext()) {
-      final ScopeFrame frame = frames.next();
-      if (frame.getName() != null) {
-        nodes.add(frame.getName());
-      }
-    }
-    return nodes;
+    return depth > 0 ?
+        scopeStack[depth - 1].getViewPath() : ScopePath.<String>empty();
   }
 
   @Override
   public String currentViewPathAsString() {
-    return PATH_DELIMITER + StringUtil.join(currentViewPath(), PATH_DELIMITER);
+    final ScopePath<String> path = depth > 0 ?
+        scopeStack[depth - 1].getViewPath() : ScopePath.<String>empty();
+    return path.asString();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned list is an unmodifiable snapshot which is not affected
+   * by subsequent changes to the scope stack.
+   */
   @Override
   public List<Class<?>> currentModelPath() {
-    final List<Class<?>> nodes = new ArrayList<>();
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (frames.hasNext()) {
-      final ScopeFrame frame = frames.next();
-      if (frame.getModelClass() != null) {
-        nodes.add(frame.getModelClass());
-      }
-    }
-    return nodes;
+    return depth > 0 ?
+        scopeStack[depth - 1].getModelPath() : ScopePath.<Class<?>>empty();
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<T> getStackFrames() {
-    return (List<T>) scopeStack;
+    return (List<T>) stackFrames;
   }
 
   @Override
@@ -228,7 +259,18 @@ class ConcreteViewContext implements ScopedViewContext {
 
   @Override
   public void push(String name, Class<?> modelType) {
-    scopeStack.push(new ScopeFrame(name, modelType));
+    if (depth == scopeStack.length) {
+      scopeStack = Arrays.copyOf(scopeStack, 2 * depth);
+    }
+    final ScopeFrame parent = depth > 0 ? scopeStack[depth - 1] : null;
+    final ScopeFrame frame = scopeStack[depth];
+    if (frame != null) {
+      frame.reset(name, modelType, parent);
+    }
+    else {
+      scopeStack[depth] = new ScopeFrame(name, modelType, parent);
+    }
+    depth++;
   }
 
   @Override
@@ -238,7 +280,11 @@ class ConcreteViewContext implements ScopedViewContext {
 
   @Override
   public void pop() {
-    scopeStack.pop();
+    if (depth == 0) {
+      throw new NoSuchElementException();
+    }
+    // discard references to the frame's contents, but keep the frame
+    scopeStack[--depth].reset(null, null);
   }
 
   @Override
@@ -254,9 +300,8 @@ class ConcreteViewContext implements ScopedViewContext {
   @Override
   public <T> T getOptional(Class<T> type) {
     T obj = null;
-    final Iterator<ScopeFrame> frames = scopeStack.iterator();
-    while (obj == null && frames.hasNext()) {
-      obj = frames.next().get(type);
+    for (int i = depth - 1; obj == null && i >= 0; i--) {
+      obj = scopeStack[i].get(type);
     }
     if (obj == null) {
       final Iterator<Scope> scopes = this.scopes.toList().iterator();
@@ -280,9 +325,8 @@ class ConcreteViewContext implements ScopedViewContext {
   @Override
   public <T> T getOptional(String name, Class<T> type) {
     T obj = null;
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (obj == null && frames.hasNext()) {
-      obj = frames.next().get(name, type);
+    for (int i = 0; obj == null && i < depth; i++) {
+      obj = scopeStack[i].get(name, type);
     }
     if (obj == null) {
       final Iterator<Scope> scopes = this.scopes.toList().iterator();
@@ -319,10 +363,10 @@ class ConcreteViewContext implements ScopedViewContext {
   }
 
   private ScopeFrame topFrame() {
-    if (scopeStack.isEmpty()) {
+    if (depth == 0) {
       throw new IllegalStateException("scope stack is empty");
     }
-    return scopeStack.peek();
+    return scopeStack[depth - 1];
   }
 
   @Override
@@ -330,5 +374,26 @@ class ConcreteViewContext implements ScopedViewContext {
     return new ConcreteViewContext(this);
   }
 
+  /**
+   * An unmodifiable view of the frames on the scope stack, with the topmost
+   * frame first.
+   */
+  private class StackFrameList extends AbstractList<ScopeFrame> {
+
+    @Override
+    public ScopeFrame get(int index) {
+      if (index < 0 || index >= depth) {
+        throw new IndexOutOfBoundsException();
+      }
+      return scopeStack[depth - 1 - index];
+    }
+
+    @Override
+    public int size() {
+      return depth;
+    }
+
+  }
+
 }
 
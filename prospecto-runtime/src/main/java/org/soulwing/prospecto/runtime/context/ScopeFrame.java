@@ -0,0 +1,193 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.context;
+
+import java.util.Map;
+
+import org.soulwing.prospecto.api.scope.MutableScope;
+import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
+
+/**
+ * A frame on the scope stack of a {@link ConcreteViewContext}.
+ * <p>
+ * Most frames hold no more than a single object (the model object for the
+ * corresponding view node), so a frame holds its first object inline. A
+ * full {@link ConcreteMutableScope} is allocated only when the frame must
+ * hold named objects or more than one object.
+ * <p>
+ * A frame is reused by its context each time a frame is pushed at the same
+ * depth of the stack.
+ *
+ * @author Carl Harris
+ */
+class ScopeFrame implements MutableScope {
+
+  private String name;
+  private Class<?> modelClass;
+  private Object model;
+  private ConcreteMutableScope scope;
+  private ScopePath<String> viewPath;
+  private ScopePath<Class<?>> modelPath;
+
+  ScopeFrame(String name, Class<?> modelClass) {
+    reset(name, modelClass);
+  }
+
+  ScopeFrame(String name, Class<?> modelClass, ScopeFrame parent) {
+    reset(name, modelClass, parent);
+  }
+
+  /**
+   * Resets this frame to an empty frame with the given name and model class.
+   * @param name frame name
+   * @param modelClass model class
+   */
+  final void reset(String name, Class<?> modelClass) {
+    reset(name, modelClass, null);
+  }
+
+  /**
+   * Resets this frame to an empty frame with the given name and model class,
+   * whose view and model paths extend the paths of the given parent frame.
+   * @param name frame name
+   * @param modelClass model class
+   * @param parent the frame beneath this frame on the stack (which may be
+   *    {@code null} if this is the bottommost frame)
+   */
+  final void reset(String name, Class<?> modelClass, ScopeFrame parent) {
+    this.name = name;
+    this.modelClass = modelClass;
+    this.model = null;
+    this.scope = null;
+    if (parent != null) {
+      this.viewPath = parent.viewPath.with(name);
+      this.modelPath = parent.modelPath.with(modelClass);
+    }
+    else {
+      this.viewPath = ScopePath.<String>empty().with(name);
+      this.modelPath = ScopePath.<Class<?>>empty().with(modelClass);
+    }
+  }
+
+  /**
+   * Resets this frame to a copy of the name, model class, paths, and
+   * contents of the given frame.
+   * @param frame the frame to copy
+   */
+  void reset(ScopeFrame frame) {
+    reset(frame.name, frame.modelClass);
+    this.viewPath = frame.viewPath;
+    this.modelPath = frame.modelPath;
+    this.model = frame.model;
+    if (frame.scope != null) {
+      this.scope = new ConcreteMutableScope();
+      this.scope.putAll(frame.scope);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Class<?> getModelClass() {
+    return modelClass;
+  }
+
+  /**
+   * Gets the path of view node names from the bottom of the stack through
+   * this frame.
+   * @return view path
+   */
+  ScopePath<String> getViewPath() {
+    return viewPath;
+  }
+
+  /**
+   * Gets the path of model types from the bottom of the stack through
+   * this frame.
+   * @return model path
+   */
+  ScopePath<Class<?>> getModelPath() {
+    return modelPath;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Class<T> type) {
+    if (scope != null) return scope.get(type);
+    if (type == null) throw new NullPointerException("type is required");
+    return model != null && type.isAssignableFrom(model.getClass()) ?
+        (T) model : null;
+  }
+
+  @Override
+  public <T> T get(String name, Class<T> type) {
+    if (scope != null) return scope.get(name, type);
+    if (name == null) throw new NullPointerException("name is required");
+    if (type == null) throw new NullPointerException("type is required");
+    return null;
+  }
+
+  @Override
+  public void put(Object obj) {
+    if (scope == null && (model == null || model.equals(obj))) {
+      if (obj == null) {
+        throw new NullPointerException("value must not be null");
+      }
+      model = obj;
+      return;
+    }
+    scope().put(obj);
+  }
+
+  @Override
+  public Object put(String name, Object obj) {
+    return scope().put(name, obj);
+  }
+
+  @Override
+  public void putAll(Iterable<?> objs) {
+    scope().putAll(objs);
+  }
+
+  @Override
+  public void putAll(Map<String, ?> objs) {
+    scope().putAll(objs);
+  }
+
+  @Override
+  public boolean remove(Object obj) {
+    if (scope != null) return scope.remove(obj);
+    if (model == null || !model.equals(obj)) return false;
+    model = null;
+    return true;
+  }
+
+  private ConcreteMutableScope scope() {
+    if (scope == null) {
+      scope = new ConcreteMutableScope();
+      if (model != null) {
+        scope.put(model);
+        model = null;
+      }
+    }
+    return scope;
+  }
+
+}
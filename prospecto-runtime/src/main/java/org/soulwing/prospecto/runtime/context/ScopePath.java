@@ -0,0 +1,124 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.context;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * A persistent, immutable path of view node names or model types.
+ * <p>
+ * A path is a node that refers to the path of its parent, so that extending
+ * a path and returning to its parent are both constant time operations, and
+ * a path can be shared by any number of scope frames (or contexts) without
+ * copying. The array of elements used for random access and the string
+ * representation are computed when first needed, and retained for the
+ * life of the path.
+ *
+ * @author Carl Harris
+ */
+class ScopePath<E> extends AbstractList<E> implements RandomAccess {
+
+  private static final ScopePath<?> EMPTY = new ScopePath<>(null, null);
+
+  private final ScopePath<E> parent;
+  private final E element;
+  private final int size;
+
+  private volatile Object[] elements;
+  private volatile String string;
+
+  private ScopePath(ScopePath<E> parent, E element) {
+    this.parent = parent;
+    this.element = element;
+    this.size = parent != null ? parent.size + 1 : 0;
+  }
+
+  /**
+   * Gets the empty path.
+   * @param <E> element type
+   * @return empty path
+   */
+  @SuppressWarnings("unchecked")
+  static <E> ScopePath<E> empty() {
+    return (ScopePath<E>) EMPTY;
+  }
+
+  /**
+   * Creates a path consisting of this path followed by the given element.
+   * @param element the element to append (which may be {@code null})
+   * @return this path if {@code element} is {@code null}, otherwise a new
+   *    path whose parent is this path
+   */
+  ScopePath<E> with(E element) {
+    return element != null ? new ScopePath<>(this, element) : this;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return (E) elements()[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return elements().clone();
+  }
+
+  private Object[] elements() {
+    Object[] elements = this.elements;
+    if (elements == null) {
+      elements = new Object[size];
+      ScopePath<E> path = this;
+      for (int i = size - 1; i >= 0; i--) {
+        elements[i] = path.element;
+        path = path.parent;
+      }
+      this.elements = elements;
+    }
+    return elements;
+  }
+
+  /**
+   * Gets the string representation of this path as a sequence of names
+   * each preceded by {@link ViewContext#PATH_DELIMITER}.
+   * @return path string; the delimiter alone if this path is empty
+   */
+  String asString() {
+    String string = this.string;
+    if (string == null) {
+      string = size == 0 ? String.valueOf(ViewContext.PATH_DELIMITER)
+          : (size == 1 ? "" : parent.asString())
+              + ViewContext.PATH_DELIMITER + element;
+      this.string = string;
+    }
+    return string;
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.converter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of resolved converters.
+ * <p>
+ * A key for which no converter is resolved is cached as well, so that a
+ * failed resolution is not repeated.
+ *
+ * @param <K> key type
+ * @param <C> converter type
+ * @author Carl Harris
+ */
+abstract class ConverterCache<K, C> {
+
+  private static final Object NONE = new Object();
+
+  private final Map<K, Object> converters = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the converter for the given key, resolving it if necessary.
+   * @param key the subject key
+   * @return converter or {@code null} if no converter was resolved for
+   *    {@code key}
+   */
+  @SuppressWarnings("unchecked")
+  C get(K key) {
+    Object converter = converters.get(key);
+    if (converter == null) {
+      converter = resolve(key);
+      if (converter == null) {
+        converter = NONE;
+      }
+      converters.put(key, converter);
+    }
+    return converter != NONE ? (C) converter : null;
+  }
+
+  /**
+   * Resolves the converter for the given key.
+   * @param key the subject key
+   * @return converter or {@code null} if there is no converter for
+   *    {@code key}
+   */
+  abstract C resolve(K key);
+
+}
@@ -18,7 +18,9 @@
  */
 package org.soulwing.prospecto.runtime.converter;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.converter.Coerce;
@@ -27,7 +29,7 @@ import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.util.SimpleLinkedList;
 
 /**
- * A {@link KeyTypeConverterService} backed by a {@link LinkedList}.
+ * A {@link KeyTypeConverterService} backed by a list.
  *
  * @author Carl Harris
  */
@@ -35,6 +37,29 @@ public class LinkedListKeyTypeConverterService
     extends SimpleLinkedList<KeyTypeConverter>
     implements KeyTypeConverterService {
 
+  private volatile ConverterCache<Class<?>, KeyTypeConverter> converters;
+
+  /**
+   * Constructs a new instance with no converters.
+   */
+  public LinkedListKeyTypeConverterService() {
+    this.converters = converterCache(Collections.<KeyTypeConverter>emptyList());
+  }
+
+  /**
+   * Constructs a new instance with the same converters as another instance.
+   * <p>
+   * The new instance shares the converters and the resolved converter cache
+   * of {@code source} until either instance is changed.
+   *
+   * @param source the source instance
+   */
+  public LinkedListKeyTypeConverterService(
+      LinkedListKeyTypeConverterService source) {
+    super(source);
+    this.converters = source.converters;
+  }
+
   @Override
   public String toViewKey(Object model, ViewNode node, ViewContext context)
       throws Exception {
@@ -47,7 +72,7 @@ public class LinkedListKeyTypeConverterService
       return localConverter.toViewKey(model, context);
     }
 
-    final KeyTypeConverter converter = findConverter(model.getClass());
+    final KeyTypeConverter converter = converters.get(model.getClass());
     if (converter != null) {
       return converter.toViewKey(model, context);
     }
@@ -67,7 +92,7 @@ public class LinkedListKeyTypeConverterService
       return localConverter.toModelKey(value, context);
     }
 
-    final KeyTypeConverter converter = findConverter(type);
+    final KeyTypeConverter converter = converters.get(type);
     if (converter != null) {
       return converter.toModelKey(value, context);
     }
@@ -75,13 +100,34 @@ public class LinkedListKeyTypeConverterService
     return Coerce.toValueOfType(type, value);
   }
 
-  private KeyTypeConverter findConverter(Class<?> type) {
-    for (final KeyTypeConverter converter : toList()) {
-      if (converter.supports(type)) {
-        return converter;
+  @Override
+  protected void changed() {
+    converters = converterCache(new ArrayList<>(toList()));
+  }
+
+  /**
+   * Creates a cache of the converters resolved from the given list.
+   * <p>
+   * The cache resolves converters from its own copy of the list, so that it
+   * remains valid for any instance that shares it, after this instance is
+   * changed.
+   *
+   * @param converters the converters from which to resolve
+   * @return converter cache
+   */
+  private static ConverterCache<Class<?>, KeyTypeConverter> converterCache(
+      final List<KeyTypeConverter> converters) {
+    return new ConverterCache<Class<?>, KeyTypeConverter>() {
+      @Override
+      KeyTypeConverter resolve(Class<?> type) {
+        for (final KeyTypeConverter converter : converters) {
+          if (converter.supports(type)) {
+            return converter;
+          }
+        }
+        return null;
       }
-    }
-    return null;
+    };
   }
 
 }
@@ -18,7 +18,9 @@
  */
 package org.soulwing.prospecto.runtime.converter;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.converter.Coerce;
@@ -27,7 +29,7 @@ import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.util.SimpleLinkedList;
 
 /**
- * A {@link ValueTypeConverterService} backed by a {@link LinkedList}.
+ * A {@link ValueTypeConverterService} backed by a list.
  *
  * @author Carl Harris
  */
@@ -35,6 +37,30 @@ public class LinkedListValueTypeConverterService
     extends SimpleLinkedList<ValueTypeConverter>
     implements ValueTypeConverterService {
 
+  private volatile ConverterCache<Class<?>, ValueTypeConverter> converters;
+
+  /**
+   * Constructs a new instance with no converters.
+   */
+  public LinkedListValueTypeConverterService() {
+    this.converters =
+        converterCache(Collections.<ValueTypeConverter>emptyList());
+  }
+
+  /**
+   * Constructs a new instance with the same converters as another instance.
+   * <p>
+   * The new instance shares the converters and the resolved converter cache
+   * of {@code source} until either instance is changed.
+   *
+   * @param source the source instance
+   */
+  public LinkedListValueTypeConverterService(
+      LinkedListValueTypeConverterService source) {
+    super(source);
+    this.converters = source.converters;
+  }
+
   @Override
   public Object toViewValue(Object model, ViewNode node, ViewContext context)
       throws Exception {
@@ -45,7 +71,7 @@ public class LinkedListValueTypeConverterService
       return localConverter.toViewValue(model, context);
     }
 
-    final ValueTypeConverter converter = findConverter(model.getClass());
+    final ValueTypeConverter converter = converters.get(model.getClass());
     if (converter != null) {
       return converter.toViewValue(model, context);
     }
@@ -64,7 +90,7 @@ public class LinkedListValueTypeConverterService
           Coerce.toValueOfType(localConverter.getType(), value), context);
     }
 
-    final ValueTypeConverter converter = findConverter(type);
+    final ValueTypeConverter converter = converters.get(type);
     if (converter != null) {
       return converter.toModelValue(
           Coerce.toValueOfType(converter.getType(), value), context);
@@ -73,13 +99,34 @@ public class LinkedListValueTypeConverterService
     return Coerce.toValueOfType(type, value);
   }
 
-  private ValueTypeConverter findConverter(Class<?> type) {
-    for (final ValueTypeConverter converter : toList()) {
-      if (converter.supports(type)) {
-        return converter;
+  @Override
+  protected void changed() {
+    converters = converterCache(new ArrayList<>(toList()));
+  }
+
+  /**
+   * Creates a cache of the converters resolved from the given list.
+   * <p>
+   * The cache resolves converters from its own copy of the list, so that it
+   * remains valid for any instance that shares it, after this instance is
+   * changed.
+   *
+   * @param converters the converters from which to resolve
+   * @return converter cache
+   */
+  private static ConverterCache<Class<?>, ValueTypeConverter> converterCache(
+      final List<ValueTypeConverter> converters) {
+    return new ConverterCache<Class<?>, ValueTypeConverter>() {
+      @Override
+      ValueTypeConverter resolve(Class<?> type) {
+        for (final ValueTypeConverter converter : converters) {
+          if (converter.supports(type)) {
+            return converter;
+          }
+        }
+        return null;
       }
-    }
-    return null;
+    };
   }
 
 }
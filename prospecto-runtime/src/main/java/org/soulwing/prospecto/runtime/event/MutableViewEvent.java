@@ -0,0 +1,85 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.event;
+
+import org.soulwing.prospecto.api.View;
+
+/**
+ * A {@link View.Event} whose attributes can be replaced.
+ * <p>
+ * Allows a single event object to be used to deliver a sequence of events
+ * to a recipient that does not retain the events it receives.
+ *
+ * @author Carl Harris
+ */
+public class MutableViewEvent implements View.Event {
+
+  private Type type;
+  private String name;
+  private String namespace;
+  private Object value;
+
+  /**
+   * Replaces the attributes of this event.
+   * @param type event type
+   * @param name name; may be {@code null}
+   * @param namespace namespace; may be {@code null}
+   * @param value value; may be {@code null}
+   * @return this event
+   */
+  public MutableViewEvent set(Type type, String name, String namespace,
+      Object value) {
+    this.type = type;
+    this.name = name;
+    this.namespace = namespace;
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public Type getType() {
+    return type;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getNamespace() {
+    return namespace;
+  }
+
+  @Override
+  public Object getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "MutableViewEvent{" +
+        "type=" + type +
+        ", name=" + name +
+        ", namespace=" + namespace +
+        ", value=" + value +
+        '}';
+  }
+
+}
@@ -12,6 +12,17 @@ import org.soulwing.prospecto.runtime.util.SimpleLinkedList;
 public class LinkedListObjectFactoryService
     extends SimpleLinkedList<ObjectFactory> implements ObjectFactoryService {
 
+  public LinkedListObjectFactoryService() {
+  }
+
+  /**
+   * Constructs a new instance with the same factories as another instance.
+   * @param source the source instance
+   */
+  public LinkedListObjectFactoryService(LinkedListObjectFactoryService source) {
+    super(source);
+  }
+
   @Override
   public Object newInstance(Class<?> type) throws Exception {
     for (final ObjectFactory strategy : toList()) {
@@ -18,11 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.List;
-
 import org.soulwing.prospecto.api.UndefinedValue;
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.MetaNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.listener.TransformationService;
@@ -43,8 +39,8 @@ abstract class AbstractMetaGenerator<N extends MetaNode>
   }
 
   @Override
-  final List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  final NodeFrame onGenerate(Object owner, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
 
     final Object modelValue = node.getHandler().produceValue(node, owner,
         context);
@@ -52,14 +48,15 @@ abstract class AbstractMetaGenerator<N extends MetaNode>
     final Object transformedValue = transformationService.valueToExtract(
         owner, modelValue, node, context);
 
-    if (transformedValue == UndefinedValue.INSTANCE) {
-      return Collections.emptyList();
+    if (transformedValue != UndefinedValue.INSTANCE) {
+      addEvent(transformedValue, cursor);
     }
 
-    return Collections.singletonList(newEvent(transformedValue));
+    return null;
   }
 
-  abstract View.Event newEvent(Object value);
+  abstract void addEvent(Object value, ViewEventSink sink)
+      throws Exception;
 
 }
 
@@ -18,7 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.List;
 
 import org.soulwing.prospecto.api.View;
@@ -26,6 +25,7 @@ import org.soulwing.prospecto.api.listener.ViewMode;
 import org.soulwing.prospecto.api.listener.ViewNodeEvent;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
 
 /**
  * An abstract base for {@link ViewEventGenerator} implementations.
@@ -42,20 +42,29 @@ abstract class AbstractViewEventGenerator<N extends ViewNode>
   }
 
   @Override
-  public final List<View.Event> generate(Object model, ScopedViewContext context)
-      throws Exception {
-    final ViewNodeEvent nodeEvent = new ViewNodeEvent(
-        ViewMode.GENERATE, node, model, context);
-    if (context.getListeners().shouldVisitNode(nodeEvent)) {
+  public final void generate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
+    final NotifiableViewListeners listeners = context.getListeners();
+    final ViewNodeEvent nodeEvent = listeners.hasNodeListeners() ?
+        new ViewNodeEvent(ViewMode.GENERATE, node, model, context) : null;
+    if (nodeEvent == null || listeners.shouldVisitNode(nodeEvent)) {
       push(model, context);
-      final List<View.Event> viewEvents = onGenerate(model, context);
-      context.getListeners().nodeVisited(nodeEvent);
-      pop(context);
-      return viewEvents;
+      final NodeFrame frame = onGenerate(model, context, cursor);
+      if (frame != null) {
+        frame.nodeEvent = nodeEvent;
+        cursor.push(frame);
+      }
+      else {
+        visited(nodeEvent, context);
+      }
     }
-    else {
-      return Collections.emptyList();
+  }
+
+  private void visited(ViewNodeEvent nodeEvent, ScopedViewContext context) {
+    if (nodeEvent != null) {
+      context.getListeners().nodeVisited(nodeEvent);
     }
+    pop(context);
   }
 
   void push(Object model, ScopedViewContext context) {
@@ -67,7 +76,85 @@ abstract class AbstractViewEventGenerator<N extends ViewNode>
     context.pop();
   }
 
-  abstract List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception;
+  /**
+   * Generates the events for this generator's node.
+   * @param model the associated model
+   * @param context view context
+   * @param cursor cursor that receives the generated events
+   * @return a frame that will generate the remaining events for the node
+   *    or {@code null} if all events for the node were added to
+   *    {@code cursor}
+   * @throws Exception
+   */
+  abstract NodeFrame onGenerate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception;
+
+  /**
+   * A frame that generates the remaining events for this generator's node.
+   * <p>
+   * When the frame completes, listeners are notified that the node was
+   * visited and the node's scope frame is popped from the context stack.
+   */
+  abstract class NodeFrame extends ViewEventCursor.Frame {
+
+    final ScopedViewContext context;
+
+    private ViewNodeEvent nodeEvent;
+
+    NodeFrame(ScopedViewContext context) {
+      this.context = context;
+    }
+
+    @Override
+    final boolean resume(ViewEventCursor cursor) throws Exception {
+      if (step(cursor)) return true;
+      visited(nodeEvent, context);
+      return false;
+    }
+
+    /**
+     * Performs the next step of generation for the node.
+     * @param cursor the subject cursor
+     * @return {@code true} if there are more steps
+     * @throws Exception
+     * @see ViewEventCursor.Frame#resume(ViewEventCursor)
+     */
+    abstract boolean step(ViewEventCursor cursor) throws Exception;
+
+  }
+
+  /**
+   * A frame that generates the events for a sequence of child generators,
+   * followed by an optional closing event for this generator's node.
+   */
+  class ChildrenFrame extends NodeFrame {
+
+    private final List<ViewEventGenerator> children;
+    private final Object model;
+    private final View.Event.Type endType;
+
+    private int index;
+
+    ChildrenFrame(List<ViewEventGenerator> children, Object model,
+        View.Event.Type endType, ScopedViewContext context) {
+      super(context);
+      this.children = children;
+      this.model = model;
+      this.endType = endType;
+    }
+
+    @Override
+    boolean step(ViewEventCursor cursor) throws Exception {
+      if (index < children.size()) {
+        children.get(index++).generate(model, context, cursor);
+        return true;
+      }
+      if (endType != null) {
+        cursor.add(endType, node.getName(), node.getNamespace(), null);
+      }
+      return false;
+    }
+
+  }
 
 }
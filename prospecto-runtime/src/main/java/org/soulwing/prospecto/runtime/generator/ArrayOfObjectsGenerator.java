@@ -18,9 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
@@ -33,6 +31,7 @@ import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
 import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
 
 /**
  * A generator for the events associated with an array-of-objects node.
@@ -59,60 +58,97 @@ class ArrayOfObjectsGenerator
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
     if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
+      return null;
     }
 
     final Iterator<?> i = node.iterator(model);
     if (i == null) {
-      return Collections.singletonList((View.Event)
-          new ConcreteViewEvent(View.Event.Type.VALUE, node.getName(),
-              node.getNamespace(), null));
+      cursor.add(View.Event.Type.VALUE, node.getName(),
+          node.getNamespace(), null);
+      return null;
     }
 
-    final List<View.Event> viewEvents = new LinkedList<>();
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY,
-        node.getName(), node.getNamespace()));
+    cursor.add(View.Event.Type.BEGIN_ARRAY,
+        node.getName(), node.getNamespace(), null);
 
-    int index = 0;
-    while (i.hasNext()) {
+    return new ElementsFrame(model, i, context);
+  }
+
+  /**
+   * A frame that generates the events for each element of the array, one
+   * element (or child of an element) per step.
+   */
+  private class ElementsFrame extends NodeFrame {
+
+    private final Object model;
+    private final Iterator<?> i;
+
+    private int index;
+    private boolean inElement;
+    private Object elementModel;
+    private int childIndex;
+
+    ElementsFrame(Object model, Iterator<?> i, ScopedViewContext context) {
+      super(context);
+      this.model = model;
+      this.i = i;
+    }
+
+    @Override
+    boolean step(ViewEventCursor cursor) throws Exception {
+      if (inElement) {
+        if (childIndex < children.size()) {
+          children.get(childIndex++).generate(elementModel, context, cursor);
+          return true;
+        }
+
+        cursor.add(View.Event.Type.END_OBJECT,
+            node.getElementName(), node.getNamespace(), null);
+        context.pop();
+        inElement = false;
+        elementModel = null;
+        return true;
+      }
+
+      if (!i.hasNext()) {
+        cursor.add(View.Event.Type.END_ARRAY,
+            node.getName(), node.getNamespace(), null);
+        return false;
+      }
 
       final Object elementModel = i.next();
 
       context.push(index++);
       context.put(elementModel);
 
-      final ViewNodePropertyEvent elementEvent = new ViewNodePropertyEvent(
-          ViewMode.GENERATE, node, model, elementModel, context);
-
-      final Object transformedModel =
-          context.getListeners().didExtractValue(elementEvent);
+      final NotifiableViewListeners listeners = context.getListeners();
+      final Object transformedModel = listeners.hasPropertyInterceptors() ?
+          listeners.didExtractValue(new ViewNodePropertyEvent(
+              ViewMode.GENERATE, node, model, elementModel, context)) :
+          elementModel;
 
-      if (transformedModel != UndefinedValue.INSTANCE) {
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-            node.getElementName(), node.getNamespace()));
-
-        if (discriminatorEventService.isDiscriminatorNeeded(node)) {
-          viewEvents.add(discriminatorEventService.newDiscriminatorEvent(node,
-              transformedModel.getClass(), context));
-        }
+      if (transformedModel == UndefinedValue.INSTANCE) {
+        context.pop();
+        return true;
+      }
 
-        for (final ViewEventGenerator child : children) {
-          viewEvents.addAll(child.generate(transformedModel, context));
-        }
+      cursor.add(View.Event.Type.BEGIN_OBJECT,
+          node.getElementName(), node.getNamespace(), null);
 
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-            node.getElementName(), node.getNamespace()));
+      if (discriminatorEventService.isDiscriminatorNeeded(node)) {
+        cursor.add(discriminatorEventService.newDiscriminatorEvent(node,
+            transformedModel.getClass(), context));
       }
 
-      context.pop();
+      inElement = true;
+      this.elementModel = transformedModel;
+      childIndex = 0;
+      return true;
     }
 
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY,
-        node.getName(), node.getNamespace()));
-
-    return viewEvents;
   }
+
 }
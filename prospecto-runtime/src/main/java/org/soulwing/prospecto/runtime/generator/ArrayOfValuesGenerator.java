@@ -18,10 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.View;
@@ -54,34 +51,57 @@ class ArrayOfValuesGenerator
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object owner, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
 
     if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
+      return null;
     }
 
     final Iterator<?> i = node.iterator(owner);
-    final List<View.Event> events = new LinkedList<>();
 
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY,
-        node.getName(), node.getNamespace()));
+    cursor.add(View.Event.Type.BEGIN_ARRAY,
+        node.getName(), node.getNamespace(), null);
+
+    return new ElementsFrame(owner, i, context);
+  }
+
+  /**
+   * A frame that generates the events for each element of the array, one
+   * element per step.
+   */
+  private class ElementsFrame extends NodeFrame {
+
+    private final Object owner;
+    private final Iterator<?> i;
+
+    private int index;
+
+    ElementsFrame(Object owner, Iterator<?> i, ScopedViewContext context) {
+      super(context);
+      this.owner = owner;
+      this.i = i;
+    }
+
+    @Override
+    boolean step(ViewEventCursor cursor) throws Exception {
+      if (!i.hasNext()) {
+        cursor.add(View.Event.Type.END_ARRAY,
+            node.getName(), node.getNamespace(), null);
+        return false;
+      }
 
-    int index = 0;
-    while (i.hasNext()) {
       context.push(index++);
       final Object value = i.next();
       final Object transformedValue = transformationService.valueToExtract(
           owner, value, node, context);
       context.pop();
 
-      events.addAll(generatorSupport.valueEvents(
-          node.getElementName(), transformedValue, context));
+      generatorSupport.valueEvents(node.getElementName(), transformedValue,
+          context, cursor);
+      return true;
     }
 
-    events.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY,
-        node.getName(), node.getNamespace()));
-
-    return events;
   }
+
 }
@@ -18,13 +18,11 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.EnvelopeNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * A generator for the events associated with an envelope node.
@@ -42,21 +40,13 @@ class EnvelopeGenerator extends AbstractViewEventGenerator<EnvelopeNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> events = new LinkedList<>();
+  NodeFrame onGenerate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
+    cursor.add(View.Event.Type.BEGIN_OBJECT,
+        node.getName(), node.getNamespace(), null);
 
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-        node.getName(), node.getNamespace()));
-
-    for (final ViewEventGenerator child : children) {
-      events.addAll(child.generate(model, context));
-    }
-
-    events.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-        node.getName(), node.getNamespace()));
-
-    return events;
+    return new ChildrenFrame(children, model, View.Event.Type.END_OBJECT,
+        context);
   }
 
   @Override
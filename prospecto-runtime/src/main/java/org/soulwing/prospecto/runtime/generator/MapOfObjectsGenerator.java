@@ -18,9 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +32,7 @@ import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
 import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
 
 /**
  * A generator for the events associated with a map-of-objects node.
@@ -60,24 +59,68 @@ class MapOfObjectsGenerator
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
     if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
+      return null;
     }
 
     final Iterator<Map.Entry<?, ?>> i = node.iterator(model);
     if (i == null) {
-      return Collections.singletonList(
-          new ConcreteViewEvent(View.Event.Type.VALUE, node.getName(),
-              node.getNamespace(), null));
+      cursor.add(View.Event.Type.VALUE, node.getName(),
+          node.getNamespace(), null);
+      return null;
     }
 
-    final List<View.Event> viewEvents = new LinkedList<>();
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-        node.getName(), node.getNamespace()));
+    cursor.add(View.Event.Type.BEGIN_OBJECT,
+        node.getName(), node.getNamespace(), null);
 
-    while (i.hasNext()) {
+    return new EntriesFrame(model, i, context);
+  }
+
+  /**
+   * A frame that generates the events for each entry of the map, one
+   * entry (or child of an entry) per step.
+   */
+  private class EntriesFrame extends NodeFrame {
+
+    private final Object model;
+    private final Iterator<Map.Entry<?, ?>> i;
+
+    private boolean inEntry;
+    private String key;
+    private Object entryModel;
+    private int childIndex;
+
+    EntriesFrame(Object model, Iterator<Map.Entry<?, ?>> i,
+        ScopedViewContext context) {
+      super(context);
+      this.model = model;
+      this.i = i;
+    }
+
+    @Override
+    boolean step(ViewEventCursor cursor) throws Exception {
+      if (inEntry) {
+        if (childIndex < children.size()) {
+          children.get(childIndex++).generate(entryModel, context, cursor);
+          return true;
+        }
+
+        cursor.add(View.Event.Type.END_OBJECT,
+            key, node.getNamespace(), null);
+        context.pop();
+        inEntry = false;
+        key = null;
+        entryModel = null;
+        return true;
+      }
+
+      if (!i.hasNext()) {
+        cursor.add(View.Event.Type.END_OBJECT,
+            node.getName(), node.getNamespace(), null);
+        return false;
+      }
 
       final Map.Entry<?, ?> entry = i.next();
 
@@ -86,38 +129,37 @@ class MapOfObjectsGenerator
         context.put(entry.getValue());
       }
 
-      final ViewNodePropertyEvent elementEvent = new ViewNodePropertyEvent(
-          ViewMode.GENERATE, node, model, entry, context);
-
-      final Map.Entry<?, ?> transformedEntry = (Map.Entry<?, ?>)
-          context.getListeners().didExtractValue(elementEvent);
+      final NotifiableViewListeners listeners = context.getListeners();
+      final Map.Entry<?, ?> transformedEntry =
+          listeners.hasPropertyInterceptors() ?
+              (Map.Entry<?, ?>) listeners.didExtractValue(
+                  new ViewNodePropertyEvent(ViewMode.GENERATE, node,
+                      model, entry, context)) :
+              entry;
 
       final String key = context.getKeyTypeConverters().toViewKey(
           transformedEntry.getKey(), node, context);
 
-      if (transformedEntry.getValue() != UndefinedValue.INSTANCE) {
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-            key, node.getNamespace()));
-
-        if (discriminatorEventService.isDiscriminatorNeeded(node)) {
-          viewEvents.add(discriminatorEventService.newDiscriminatorEvent(node,
-              transformedEntry.getValue().getClass(), context));
-        }
+      if (transformedEntry.getValue() == UndefinedValue.INSTANCE) {
+        context.pop();
+        return true;
+      }
 
-        for (final ViewEventGenerator child : children) {
-          viewEvents.addAll(child.generate(transformedEntry.getValue(), context));
-        }
+      cursor.add(View.Event.Type.BEGIN_OBJECT,
+          key, node.getNamespace(), null);
 
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-            key, node.getNamespace()));
+      if (discriminatorEventService.isDiscriminatorNeeded(node)) {
+        cursor.add(discriminatorEventService.newDiscriminatorEvent(node,
+            transformedEntry.getValue().getClass(), context));
       }
 
-      context.pop();
+      inEntry = true;
+      this.key = key;
+      entryModel = transformedEntry.getValue();
+      childIndex = 0;
+      return true;
     }
 
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-        node.getName(), node.getNamespace()));
-
-    return viewEvents;
   }
+
 }
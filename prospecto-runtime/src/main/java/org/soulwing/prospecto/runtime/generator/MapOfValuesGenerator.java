@@ -18,10 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
 import org.soulwing.prospecto.api.AccessMode;
@@ -55,35 +52,56 @@ class MapOfValuesGenerator
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object owner, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
 
     if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
+      return null;
     }
 
     final Iterator<Map.Entry<?, ?>> i = node.iterator(owner);
-    final List<View.Event> events = new LinkedList<>();
 
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-        node.getName(), node.getNamespace()));
+    cursor.add(View.Event.Type.BEGIN_OBJECT,
+        node.getName(), node.getNamespace(), null);
+
+    return new EntriesFrame(owner, i, context);
+  }
+
+  /**
+   * A frame that generates the events for each entry of the map, one
+   * entry per step.
+   */
+  private class EntriesFrame extends NodeFrame {
+
+    private final Object owner;
+    private final Iterator<Map.Entry<?, ?>> i;
+
+    EntriesFrame(Object owner, Iterator<Map.Entry<?, ?>> i,
+        ScopedViewContext context) {
+      super(context);
+      this.owner = owner;
+      this.i = i;
+    }
+
+    @Override
+    boolean step(ViewEventCursor cursor) throws Exception {
+      if (!i.hasNext()) {
+        cursor.add(View.Event.Type.END_OBJECT,
+            node.getName(), node.getNamespace(), null);
+        return false;
+      }
 
-    while (i.hasNext()) {
       final Map.Entry<?, ?> entry = i.next();
       context.push(entry.getKey());
       final Map.Entry<String, ?> transformedValue =
           transformationService.pairToExtract(owner, entry, node, context);
       context.pop();
 
-      events.addAll(generatorSupport.valueEvents(transformedValue.getKey(),
-          transformedValue.getValue(), context));
-
+      generatorSupport.valueEvents(transformedValue.getKey(),
+          transformedValue.getValue(), context, cursor);
+      return true;
     }
 
-    events.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-        node.getName(), node.getNamespace()));
-
-    return events;
   }
 
 }
@@ -20,7 +20,6 @@ package org.soulwing.prospecto.runtime.generator;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.MetaNode;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 import org.soulwing.prospecto.runtime.listener.ConcreteTransformationService;
 import org.soulwing.prospecto.runtime.listener.TransformationService;
 
@@ -39,9 +38,9 @@ class MetaGenerator extends AbstractMetaGenerator<MetaNode> {
     super(node, transformationService);
   }
 
-  View.Event newEvent(Object value) {
-    return new ConcreteViewEvent(View.Event.Type.META, node.getName(),
-        node.getNamespace(), value);
+  @Override
+  void addEvent(Object value, ViewEventSink sink) throws Exception {
+    sink.add(View.Event.Type.META, node.getName(), node.getNamespace(), value);
   }
 
 }
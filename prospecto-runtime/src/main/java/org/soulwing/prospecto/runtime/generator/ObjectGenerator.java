@@ -18,8 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
@@ -29,7 +27,6 @@ import org.soulwing.prospecto.api.template.ObjectNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * A generator for the events associated with an object node.
@@ -54,32 +51,27 @@ class ObjectGenerator extends AbstractViewEventGenerator<ObjectNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> viewEvents = new LinkedList<>();
+  NodeFrame onGenerate(Object owner, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
     final Object model = node.getAllowedModes().contains(AccessMode.READ) ?
         node.getObject(owner) : UndefinedValue.INSTANCE;
 
-    if (model == UndefinedValue.INSTANCE) return Collections.emptyList();
+    if (model == UndefinedValue.INSTANCE) return null;
 
-    if (model != null) {
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-          node.getName(), node.getNamespace()));
-      if (discriminatorEventService.isDiscriminatorNeeded(node)) {
-        viewEvents.add(discriminatorEventService.newDiscriminatorEvent(node,
-            model.getClass(), context));
-      }
-      for (final ViewEventGenerator child : children) {
-        viewEvents.addAll(child.generate(model, context));
-      }
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-          node.getName(), node.getNamespace()));
+    if (model == null) {
+      cursor.add(View.Event.Type.VALUE,
+          node.getName(), node.getNamespace(), null);
+      return null;
     }
-    else {
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.VALUE,
-          node.getName(), node.getNamespace(), null));
+
+    cursor.add(View.Event.Type.BEGIN_OBJECT,
+        node.getName(), node.getNamespace(), null);
+    if (discriminatorEventService.isDiscriminatorNeeded(node)) {
+      cursor.add(discriminatorEventService.newDiscriminatorEvent(node,
+          model.getClass(), context));
     }
-    return viewEvents;
+    return new ChildrenFrame(children, model, View.Event.Type.END_OBJECT,
+        context);
   }
 
 }
@@ -18,15 +18,11 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.SpliceNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * A generator for the events associated with a splice node.
@@ -40,34 +36,32 @@ class SpliceGenerator extends AbstractViewEventGenerator<SpliceNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object parentModel, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object parentModel, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
 
     final View view = node.getHandler().generate(node, context);
 
-    if (view == null) return Collections.emptyList();
-
-    final List<View.Event> events = new LinkedList<>();
+    if (view == null) return null;
 
     final Iterator<View.Event> i = view.iterator();
     View.Event event = i.next();
     if (event != null) {
-      events.add(renameEvent(event));
+      addRenamedEvent(event, cursor);
       while (i.hasNext()) {
         event = i.next();
         if (i.hasNext()) {
-          events.add(event);
+          cursor.add(event);
         }
       }
-      events.add(renameEvent(event));
+      addRenamedEvent(event, cursor);
     }
 
-    return events;
+    return null;
   }
 
-  private ConcreteViewEvent renameEvent(View.Event event) {
-    return new ConcreteViewEvent(event.getType(), node.getName(),
-        node.getNamespace());
+  private void addRenamedEvent(View.Event event, ViewEventSink sink)
+      throws Exception {
+    sink.add(event.getType(), node.getName(), node.getNamespace(), null);
   }
 
 }
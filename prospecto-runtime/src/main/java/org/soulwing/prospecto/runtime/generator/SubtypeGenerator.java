@@ -18,10 +18,8 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.LinkedList;
 import java.util.List;
 
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.SubtypeNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
@@ -39,15 +37,10 @@ class SubtypeGenerator extends AbstractViewEventGenerator<SubtypeNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> viewEvents = new LinkedList<>();
-    if (node.getModelType().isInstance(model)) {
-      for (final ViewEventGenerator child : children) {
-        viewEvents.addAll(child.generate(model, context));
-      }
-    }
-    return viewEvents;
+  NodeFrame onGenerate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
+    if (!node.getModelType().isInstance(model)) return null;
+    return new ChildrenFrame(children, model, null, context);
   }
 
   @Override
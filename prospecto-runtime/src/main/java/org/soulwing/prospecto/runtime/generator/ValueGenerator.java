@@ -18,12 +18,8 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.List;
-
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.UndefinedValue;
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.UpdatableValueNode;
 import org.soulwing.prospecto.api.template.ValueNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
@@ -51,8 +47,8 @@ class ValueGenerator extends AbstractViewEventGenerator<ValueNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  NodeFrame onGenerate(Object owner, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception {
 
     final Object model = !(node instanceof UpdatableValueNode)
         || ((UpdatableValueNode) node).getAllowedModes().contains(AccessMode.READ) ?
@@ -61,11 +57,12 @@ class ValueGenerator extends AbstractViewEventGenerator<ValueNode> {
     final Object transformedValue = model != UndefinedValue.INSTANCE ?
         transformationService.valueToExtract(owner, model, node, context) : model;
 
-    if (transformedValue == UndefinedValue.INSTANCE) {
-      return Collections.emptyList();
+    if (transformedValue != UndefinedValue.INSTANCE) {
+      generatorSupport.valueEvents(node.getName(), transformedValue, context,
+          cursor);
     }
 
-    return generatorSupport.valueEvents(node.getName(), transformedValue, context);
+    return null;
   }
 
 }
@@ -20,8 +20,6 @@ package org.soulwing.prospecto.runtime.generator;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
 import org.soulwing.prospecto.api.UndefinedValue;
@@ -43,30 +41,27 @@ class ValueGeneratorSupport {
     this.node = node;
   }
 
-  List<View.Event> valueEvents(String name, Object value,
-      ScopedViewContext context) throws Exception {
-    final List<View.Event> events = new LinkedList<>();
+  void valueEvents(String name, Object value, ScopedViewContext context,
+      ViewEventSink sink) throws Exception {
     if (value instanceof Map) {
-      events.addAll(mapEvents(name, (Map<?, ?>) value, context));
+      mapEvents(name, (Map<?, ?>) value, context, sink);
     }
     else if (value instanceof Collection) {
-      events.addAll(collectionEvents(name, (Collection<?>) value, context));
+      collectionEvents(name, (Collection<?>) value, context, sink);
     }
     else if (value != null && value.getClass().isArray()) {
-      events.addAll(collectionEvents(name, Arrays.asList((Object[]) value), context));
+      collectionEvents(name, Arrays.asList((Object[]) value), context, sink);
     }
     else if (value != UndefinedValue.INSTANCE) {
-      events.add(new ConcreteViewEvent(View.Event.Type.VALUE,
-          name, node.getNamespace(), value));
+      sink.add(View.Event.Type.VALUE,
+          name, node.getNamespace(), value);
     }
-    return events;
   }
 
-  private List<View.Event> mapEvents(String name, Map<?, ?> map,
-      ScopedViewContext context) throws Exception {
-    final List<View.Event> events = new LinkedList<>();
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-        name, node.getNamespace()));
+  private void mapEvents(String name, Map<?, ?> map,
+      ScopedViewContext context, ViewEventSink sink) throws Exception {
+    sink.add(View.Event.Type.BEGIN_OBJECT,
+        name, node.getNamespace(), null);
     for (final Map.Entry<?, ?> entry : map.entrySet()) {
       final String childKey = context.getKeyTypeConverters().toViewKey(
           entry.getKey(), node, context);
@@ -74,29 +69,26 @@ class ValueGeneratorSupport {
       final Object childValue = context.getValueTypeConverters().toViewValue(
           entry.getValue(), node, context);
 
-      events.addAll(valueEvents(childKey, childValue, context));
+      valueEvents(childKey, childValue, context, sink);
     }
-    events.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-        name, node.getNamespace()));
-    return events;
+    sink.add(View.Event.Type.END_OBJECT,
+        name, node.getNamespace(), null);
   }
 
-  private List<View.Event> collectionEvents(String name, Iterable<?> collection,
-      ScopedViewContext context) throws Exception {
-    final List<View.Event> events = new LinkedList<>();
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY,
-        name, node.getNamespace()));
+  private void collectionEvents(String name, Iterable<?> collection,
+      ScopedViewContext context, ViewEventSink sink) throws Exception {
+    sink.add(View.Event.Type.BEGIN_ARRAY,
+        name, node.getNamespace(), null);
 
     for (final Object element : collection) {
       final Object childValue = context.getValueTypeConverters().toViewValue(
           element, node, context);
 
-      events.addAll(valueEvents(null, childValue, context));
+      valueEvents(null, childValue, context, sink);
     }
 
-    events.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY,
-        name, node.getNamespace()));
-    return events;
+    sink.add(View.Event.Type.END_ARRAY,
+        name, node.getNamespace(), null);
   }
 
 }
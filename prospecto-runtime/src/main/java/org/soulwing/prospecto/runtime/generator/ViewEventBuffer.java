@@ -0,0 +1,136 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * A {@link ViewEventSink} that appends events to a growable array.
+ * <p>
+ * Once all events have been added, the buffer's contents can be obtained
+ * as a list via {@link #toList()}, which copies the underlying array only
+ * if it is substantially larger than the number of events. A buffer is
+ * <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventBuffer implements ViewEventSink {
+
+  static final int MIN_CAPACITY = 8;
+
+  /**
+   * Largest initial capacity; a larger buffer is obtained only by growing.
+   */
+  static final int MAX_INITIAL_CAPACITY = 4096;
+
+  private View.Event[] events;
+
+  private int size;
+
+  /**
+   * Constructs a new buffer.
+   * @param capacity initial capacity; typically an estimate of the number
+   *    of events based on views previously generated using the same template;
+   *    a capacity larger than {@link #MAX_INITIAL_CAPACITY} is reduced to that
+   *    capacity
+   */
+  public ViewEventBuffer(int capacity) {
+    this.events = new View.Event[
+        Math.min(Math.max(capacity, MIN_CAPACITY), MAX_INITIAL_CAPACITY)];
+  }
+
+  @Override
+  public void add(View.Event event) {
+    if (size == events.length) {
+      events = Arrays.copyOf(events, size + (size >> 1));
+    }
+    events[size++] = event;
+  }
+
+  @Override
+  public void add(View.Event.Type type, String name, String namespace,
+      Object value) {
+    add(new ConcreteViewEvent(type, name, namespace, value));
+  }
+
+  /**
+   * Gets the number of events in this buffer.
+   * @return number of events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of events this buffer can hold without growing.
+   * @return capacity
+   */
+  int capacity() {
+    return events.length;
+  }
+
+  /**
+   * Gets an unmodifiable list view of the events in this buffer.
+   * <p>
+   * The list shares the buffer's underlying array, unless less than three
+   * quarters of the array is used, in which case the list uses a trimmed
+   * copy, so that a list that is retained does not retain unused capacity.
+   * The buffer should not be used after this method has been invoked.
+   * @return list of events
+   */
+  public List<View.Event> toList() {
+    if (size < events.length - (events.length >> 2)) {
+      events = Arrays.copyOf(events, size);
+    }
+    return new EventList(events, size);
+  }
+
+  private static class EventList extends AbstractList<View.Event>
+      implements RandomAccess {
+
+    private final View.Event[] events;
+    private final int size;
+
+    EventList(View.Event[] events, int size) {
+      this.events = events;
+      this.size = size;
+    }
+
+    @Override
+    public View.Event get(int index) {
+      if (index >= size) {
+        throw new IndexOutOfBoundsException(Integer.toString(index));
+      }
+      return events[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+  }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * A cursor over the events produced by a tree of {@link ViewEventGenerator}
+ * nodes.
+ * <p>
+ * A generator whose events depend on nested generators does not produce all
+ * of its events at once; instead it pushes a {@link Frame} onto the cursor.
+ * Each time the consumer asks for another event, the cursor resumes the
+ * topmost frame until some events are available. Only the frames along the
+ * current traversal path (and the events produced by the last step) are held
+ * in memory, so events can be consumed as they are generated.
+ * <p>
+ * A cursor is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventCursor implements ViewEventSource, ViewEventSink {
+
+  private final Deque<Frame> frames = new ArrayDeque<>();
+  private final Deque<View.Event> events = new ArrayDeque<>();
+
+  private ViewEventSink sink = new PendingEventSink();
+
+  /**
+   * Constructs a new cursor over the events for the given model.
+   * @param generator root generator
+   * @param model root model
+   * @param context view context
+   * @throws Exception
+   */
+  public ViewEventCursor(ViewEventGenerator generator, Object model,
+      ScopedViewContext context) throws Exception {
+    generator.generate(model, context, this);
+  }
+
+  /**
+   * Gets the next event.
+   * @return event or {@code null} if all events have been produced
+   * @throws Exception
+   */
+  @Override
+  public View.Event next() throws Exception {
+    while (events.isEmpty() && !frames.isEmpty()) {
+      resume();
+    }
+    return events.poll();
+  }
+
+  /**
+   * Adds all remaining events to the given sink.
+   * <p>
+   * Events generated by the remaining frames are added directly to
+   * {@code target}, without being held by this cursor.
+   *
+   * @param target the target sink
+   * @throws Exception
+   */
+  @Override
+  public void drainTo(ViewEventSink target) throws Exception {
+    while (!events.isEmpty()) {
+      target.add(events.poll());
+    }
+    sink = target;
+    while (!frames.isEmpty()) {
+      resume();
+    }
+  }
+
+  /**
+   * Adds an event to be produced by this cursor.
+   * @param event the event to add
+   * @throws Exception
+   */
+  @Override
+  public void add(View.Event event) throws Exception {
+    sink.add(event);
+  }
+
+  @Override
+  public void add(View.Event.Type type, String name, String namespace,
+      Object value) throws Exception {
+    sink.add(type, name, namespace, value);
+  }
+
+  void push(Frame frame) {
+    frames.push(frame);
+  }
+
+  private void resume() throws Exception {
+    final Frame frame = frames.peek();
+    if (!frame.resume(this)) {
+      final Frame top = frames.pop();
+      assert top == frame;
+    }
+  }
+
+  private class PendingEventSink implements ViewEventSink {
+
+    @Override
+    public void add(View.Event event) {
+      events.add(event);
+    }
+
+    @Override
+    public void add(View.Event.Type type, String name, String namespace,
+        Object value) {
+      events.add(new ConcreteViewEvent(type, name, namespace, value));
+    }
+
+  }
+
+  /**
+   * A resumable unit of event generation.
+   */
+  abstract static class Frame {
+
+    /**
+     * Resumes generation for this frame.
+     * <p>
+     * Each invocation performs one step; it may add events to the cursor
+     * and/or invoke a nested generator (which may push another frame onto
+     * the cursor). A step that invokes a nested generator must return
+     * immediately afterwards, so that the nested generator's events precede
+     * any events added by the next step.
+     *
+     * @param cursor the subject cursor
+     * @return {@code true} if this frame should be resumed again, or
+     *    {@code false} if it is complete (a step that invokes a nested
+     *    generator must return {@code true})
+     * @throws Exception
+     */
+    abstract boolean resume(ViewEventCursor cursor) throws Exception;
+
+  }
+
+}
@@ -18,9 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.List;
-
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
 /**
@@ -32,12 +29,17 @@ public interface ViewEventGenerator {
 
   /**
    * Generate events.
+   * <p>
+   * Events are added to the given cursor; a generator whose events depend
+   * on nested generators may instead push a frame onto the cursor, so that
+   * the remaining events are generated as the cursor is advanced.
+   *
    * @param model the associated model
    * @param context view context
-   * @return list of events
+   * @param cursor cursor that receives the generated events
    * @throws Exception
    */
-  List<View.Event> generate(Object model, ScopedViewContext context)
-      throws Exception;
+  void generate(Object model, ScopedViewContext context,
+      ViewEventCursor cursor) throws Exception;
 
 }
@@ -0,0 +1,52 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import org.soulwing.prospecto.api.View;
+
+/**
+ * A receiver of the events produced by {@link ViewEventGenerator} nodes.
+ * <p>
+ * Generators that produce an event from its constituent parts use
+ * {@link #add(View.Event.Type, String, String, Object)}, leaving it to the
+ * sink to decide whether an event object is needed at all.
+ *
+ * @author Carl Harris
+ */
+public interface ViewEventSink {
+
+  /**
+   * Adds an event to this sink.
+   * @param event the event to add
+   * @throws Exception
+   */
+  void add(View.Event event) throws Exception;
+
+  /**
+   * Adds an event with the given attributes to this sink.
+   * @param type event type
+   * @param name event name (may be {@code null})
+   * @param namespace event namespace (may be {@code null})
+   * @param value event value (may be {@code null})
+   * @throws Exception
+   */
+  void add(View.Event.Type type, String name, String namespace, Object value)
+      throws Exception;
+
+}
@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import org.soulwing.prospecto.api.View;
+
+/**
+ * A source of view events that are produced on demand.
+ *
+ * @author Carl Harris
+ */
+public interface ViewEventSource {
+
+  /**
+   * Gets the next event.
+   * @return event or {@code null} if all events have been produced
+   * @throws Exception
+   */
+  View.Event next() throws Exception;
+
+  /**
+   * Adds all remaining events to the given sink.
+   * @param target the target sink
+   * @throws Exception
+   */
+  void drainTo(ViewEventSink target) throws Exception;
+
+}
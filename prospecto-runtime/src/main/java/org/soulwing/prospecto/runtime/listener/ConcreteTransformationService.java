@@ -45,16 +45,20 @@ public class ConcreteTransformationService implements TransformationService {
   public Object valueToExtract(Object owner, Object modelValue,
       ViewNode node, ScopedViewContext context) throws Exception {
 
-    final Object extractedValue = context.getListeners().didExtractValue(
-        new ViewNodePropertyEvent(ViewMode.GENERATE, node,
-            owner, modelValue, context));
+    final NotifiableViewListeners listeners = context.getListeners();
+
+    final Object extractedValue = listeners.hasPropertyInterceptors() ?
+        listeners.didExtractValue(new ViewNodePropertyEvent(
+            ViewMode.GENERATE, node, owner, modelValue, context)) :
+        modelValue;
 
     final Object viewValue = context.getValueTypeConverters().toViewValue(
         extractedValue, node, context);
 
-    context.getListeners().propertyVisited(
-        new ViewNodePropertyEvent(ViewMode.GENERATE, node,
-            modelValue, viewValue, context));
+    if (listeners.hasPropertyListeners()) {
+      listeners.propertyVisited(new ViewNodePropertyEvent(
+          ViewMode.GENERATE, node, modelValue, viewValue, context));
+    }
 
     return viewValue;
   }
@@ -87,9 +91,12 @@ public class ConcreteTransformationService implements TransformationService {
   public Map.Entry<String, ?> pairToExtract(Object owner, Map.Entry<?, ?> pair,
       ViewNode node, ScopedViewContext context) throws Exception {
 
-    final Map.Entry<?, ?> extractedValue = (Map.Entry<?, ?>)
-        context.getListeners().didExtractValue(new ViewNodePropertyEvent(
-            ViewMode.GENERATE, node, owner, pair, context));
+    final NotifiableViewListeners listeners = context.getListeners();
+
+    final Map.Entry<?, ?> extractedValue = listeners.hasPropertyInterceptors() ?
+        (Map.Entry<?, ?>) listeners.didExtractValue(new ViewNodePropertyEvent(
+            ViewMode.GENERATE, node, owner, pair, context)) :
+        pair;
 
     final String viewKey = context.getKeyTypeConverters().toViewKey(
         extractedValue.getKey(), node, context);
@@ -99,9 +106,10 @@ public class ConcreteTransformationService implements TransformationService {
 
     final Map.Entry<String, ?> viewPair = new AbstractMap.SimpleEntry<>(viewKey, viewValue);
 
-    context.getListeners().propertyVisited(
-        new ViewNodePropertyEvent(ViewMode.GENERATE, node,
-            pair, viewPair, context));
+    if (listeners.hasPropertyListeners()) {
+      listeners.propertyVisited(new ViewNodePropertyEvent(
+          ViewMode.GENERATE, node, pair, viewPair, context));
+    }
 
     return viewPair;
   }
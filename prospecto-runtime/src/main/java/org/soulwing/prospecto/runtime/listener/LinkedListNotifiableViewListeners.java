@@ -18,7 +18,8 @@
  */
 package org.soulwing.prospecto.runtime.listener;
 
-import java.util.LinkedList;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.listener.ViewListener;
@@ -32,50 +33,94 @@ import org.soulwing.prospecto.api.listener.ViewNodePropertyListener;
 import org.soulwing.prospecto.api.listener.ViewPostTraversalListener;
 import org.soulwing.prospecto.api.listener.ViewPreTraversalListener;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.util.CopyOnWriteList;
 
 /**
- * A {@link NotifiableViewListeners} implementation backed by a
- * {@link LinkedList}.
+ * A {@link NotifiableViewListeners} implementation backed by a list.
+ * <p>
+ * In addition to the ordered list of all listeners, this implementation
+ * keeps an array of the listeners that implement each listener interface;
+ * the arrays are rebuilt whenever the list is changed (including changes
+ * made via {@link #toList()}), so that each notification visits only the
+ * listeners that are interested in it.
  *
  * @author Carl Harris
  */
 public class LinkedListNotifiableViewListeners
     implements NotifiableViewListeners {
 
-  private final List<ViewListener> listeners = new LinkedList<>();
+  private final ListenerList listeners;
+
+  private ViewNodeAcceptor[] acceptors;
+  private ViewNodeListener[] nodeListeners;
+  private ViewNodePropertyInterceptor[] interceptors;
+  private ViewNodePropertyListener[] propertyListeners;
+  private ViewNodeEntityListener[] entityListeners;
+  private ViewPreTraversalListener[] preTraversalListeners;
+  private ViewPostTraversalListener[] postTraversalListeners;
+
+  public LinkedListNotifiableViewListeners() {
+    this.listeners = new ListenerList();
+    this.acceptors = new ViewNodeAcceptor[0];
+    this.nodeListeners = new ViewNodeListener[0];
+    this.interceptors = new ViewNodePropertyInterceptor[0];
+    this.propertyListeners = new ViewNodePropertyListener[0];
+    this.entityListeners = new ViewNodeEntityListener[0];
+    this.preTraversalListeners = new ViewPreTraversalListener[0];
+    this.postTraversalListeners = new ViewPostTraversalListener[0];
+  }
+
+  /**
+   * Constructs a new instance with the same listeners as another instance.
+   * @param source the source instance
+   */
+  public LinkedListNotifiableViewListeners(
+      LinkedListNotifiableViewListeners source) {
+    this.listeners = new ListenerList(source.listeners);
+    this.acceptors = source.acceptors;
+    this.nodeListeners = source.nodeListeners;
+    this.interceptors = source.interceptors;
+    this.propertyListeners = source.propertyListeners;
+    this.entityListeners = source.entityListeners;
+    this.preTraversalListeners = source.preTraversalListeners;
+    this.postTraversalListeners = source.postTraversalListeners;
+  }
+
+  @Override
+  public boolean hasNodeListeners() {
+    return acceptors.length > 0 || nodeListeners.length > 0;
+  }
+
+  @Override
+  public boolean hasPropertyInterceptors() {
+    return interceptors.length > 0;
+  }
+
+  @Override
+  public boolean hasPropertyListeners() {
+    return propertyListeners.length > 0;
+  }
 
   @Override
   public boolean shouldVisitNode(ViewNodeEvent event) {
-    boolean visit = true;
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeAcceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        visit = ((ViewNodeAcceptor) listener).shouldVisitNode(event);
-        if (!visit) break;
-      }
+    for (final ViewNodeAcceptor acceptor : acceptors) {
+      if (!acceptor.shouldVisitNode(event)) return false;
     }
-    return visit;
+    return true;
   }
 
   @Override
   public void nodeVisited(ViewNodeEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeListener.class
-          .isAssignableFrom(listener.getClass())) {
-        ((ViewNodeListener) listener).nodeVisited(event);
-      }
+    for (final ViewNodeListener listener : nodeListeners) {
+      listener.nodeVisited(event);
     }
   }
 
   @Override
   public Object didExtractValue(ViewNodePropertyEvent event) {
     Object value = event.getValue();
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyInterceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        value = ((ViewNodePropertyInterceptor) listener).didExtractValue(
-            new ViewNodePropertyEvent(event, value));
-      }
+    for (final ViewNodePropertyInterceptor interceptor : interceptors) {
+      value = interceptor.didExtractValue(eventWithValue(event, value));
     }
     return value;
   }
@@ -83,59 +128,57 @@ public class LinkedListNotifiableViewListeners
   @Override
   public Object willInjectValue(ViewNodePropertyEvent event) {
     Object value = event.getValue();
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyInterceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        value = ((ViewNodePropertyInterceptor) listener).willInjectValue(
-            new ViewNodePropertyEvent(event, value));
-      }
+    for (final ViewNodePropertyInterceptor interceptor : interceptors) {
+      value = interceptor.willInjectValue(eventWithValue(event, value));
     }
     return value;
   }
 
+  /**
+   * Gets an event for an interceptor in a chain of interceptors.
+   * @param event the source event
+   * @param value the value produced by the preceding interceptor
+   * @return {@code event} if {@code value} is the value of {@code event},
+   *    otherwise a copy of {@code event} composed with {@code value}
+   */
+  private static ViewNodePropertyEvent eventWithValue(
+      ViewNodePropertyEvent event, Object value) {
+    return value == event.getValue() ?
+        event : new ViewNodePropertyEvent(event, value);
+  }
+
   @Override
   public void propertyVisited(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyListener.class
-          .isAssignableFrom(listener.getClass())) {
-        ((ViewNodePropertyListener) listener).propertyVisited(event);
-      }
+    for (final ViewNodePropertyListener listener : propertyListeners) {
+      listener.propertyVisited(event);
     }
   }
 
   @Override
   public void entityCreated(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeEntityListener.class.isAssignableFrom(listener.getClass())) {
-        ((ViewNodeEntityListener) listener).entityCreated(event);
-      }
+    for (final ViewNodeEntityListener listener : entityListeners) {
+      listener.entityCreated(event);
     }
   }
 
   @Override
   public void entityDiscarded(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeEntityListener.class.isAssignableFrom(listener.getClass())) {
-        ((ViewNodeEntityListener) listener).entityDiscarded(event);
-      }
+    for (final ViewNodeEntityListener listener : entityListeners) {
+      listener.entityDiscarded(event);
     }
   }
 
   @Override
   public void beforeTraversing(ViewTraversalEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewPreTraversalListener.class.isAssignableFrom((listener.getClass()))) {
-        ((ViewPreTraversalListener) listener).beforeTraversing(event);
-      }
+    for (final ViewPreTraversalListener listener : preTraversalListeners) {
+      listener.beforeTraversing(event);
     }
   }
 
   @Override
   public void afterTraversing(ViewTraversalEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewPostTraversalListener.class.isAssignableFrom((listener.getClass()))) {
-        ((ViewPostTraversalListener) listener).afterTraversing(event);
-      }
+    for (final ViewPostTraversalListener listener : postTraversalListeners) {
+      listener.afterTraversing(event);
     }
   }
 
@@ -159,4 +202,48 @@ public class LinkedListNotifiableViewListeners
     return listeners;
   }
 
+  private void listenersChanged() {
+    acceptors = select(ViewNodeAcceptor.class);
+    nodeListeners = select(ViewNodeListener.class);
+    interceptors = select(ViewNodePropertyInterceptor.class);
+    propertyListeners = select(ViewNodePropertyListener.class);
+    entityListeners = select(ViewNodeEntityListener.class);
+    preTraversalListeners = select(ViewPreTraversalListener.class);
+    postTraversalListeners = select(ViewPostTraversalListener.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T[] select(Class<T> listenerType) {
+    final List<T> selected = new ArrayList<>();
+    for (final ViewListener listener : listeners) {
+      if (listenerType.isInstance(listener)) {
+        selected.add(listenerType.cast(listener));
+      }
+    }
+    return selected.toArray(
+        (T[]) Array.newInstance(listenerType, selected.size()));
+  }
+
+  /**
+   * The list of all listeners.
+   * <p>
+   * Every change to the list causes the per-interface listener arrays to be
+   * rebuilt.
+   */
+  private class ListenerList extends CopyOnWriteList<ViewListener> {
+
+    ListenerList() {
+    }
+
+    ListenerList(ListenerList source) {
+      super(source);
+    }
+
+    @Override
+    protected void changed() {
+      listenersChanged();
+    }
+
+  }
+
 }
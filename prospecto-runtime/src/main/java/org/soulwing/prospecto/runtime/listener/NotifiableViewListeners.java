@@ -30,6 +30,32 @@ import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
  */
 public interface NotifiableViewListeners extends ViewListeners {
 
+  /**
+   * Tests whether any listener in this collection would be notified by
+   * {@link #shouldVisitNode(ViewNodeEvent)} or
+   * {@link #nodeVisited(ViewNodeEvent)}.
+   * <p>
+   * Callers use this method (and the similar methods that follow) to avoid
+   * creating an event that no listener would receive.
+   * @return {@code true} if there are node acceptors or node listeners
+   */
+  boolean hasNodeListeners();
+
+  /**
+   * Tests whether any listener in this collection would be notified by
+   * {@link #didExtractValue(ViewNodePropertyEvent)} or
+   * {@link #willInjectValue(ViewNodePropertyEvent)}.
+   * @return {@code true} if there are property interceptors
+   */
+  boolean hasPropertyInterceptors();
+
+  /**
+   * Tests whether any listener in this collection would be notified by
+   * {@link #propertyVisited(ViewNodePropertyEvent)}.
+   * @return {@code true} if there are property listeners
+   */
+  boolean hasPropertyListeners();
+
   boolean shouldVisitNode(ViewNodeEvent event);
 
   void nodeVisited(ViewNodeEvent event);
@@ -18,22 +18,34 @@
  */
 package org.soulwing.prospecto.runtime.reference;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.ViewEntity;
 import org.soulwing.prospecto.api.reference.ReferenceResolver;
+import org.soulwing.prospecto.runtime.util.CopyOnWriteList;
 
 /**
- * A {@link ReferenceResolverService} collection implemented using a
- * {@link LinkedList}.
+ * A {@link ReferenceResolverService} collection implemented using a list.
  *
  * @author Carl Harris
  */
 public class LinkedListReferenceResolverService
     implements ReferenceResolverService {
 
-  private final List<ReferenceResolver> resolvers = new LinkedList<>();
+  private final CopyOnWriteList<ReferenceResolver> resolvers;
+
+  public LinkedListReferenceResolverService() {
+    this.resolvers = new CopyOnWriteList<>();
+  }
+
+  /**
+   * Constructs a new instance with the same resolvers as another instance.
+   * @param source the source instance
+   */
+  public LinkedListReferenceResolverService(
+      LinkedListReferenceResolverService source) {
+    this.resolvers = new CopyOnWriteList<>(source.resolvers);
+  }
 
   @Override
   public Object resolve(Class<?> type, ViewEntity reference) {
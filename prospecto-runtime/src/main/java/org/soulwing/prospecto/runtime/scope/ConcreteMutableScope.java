@@ -21,24 +21,44 @@ package org.soulwing.prospecto.runtime.scope;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.soulwing.prospecto.api.scope.MutableScope;
 
 /**
  * A simple {@link MutableScope}.
+ * <p>
+ * The result of each lookup by type is cached until the contents of the
+ * scope are next changed, so that repeated lookups on a scope that isn't
+ * changing (e.g. the scope of a view template node) don't need to examine
+ * every object in the scope.
  *
  * @author Carl Harris
  */
 public class ConcreteMutableScope implements MutableScope {
 
+  private static final Object NONE = new Object();
+
   private final Map<String, Object> nameMap = new HashMap<>();
 
   private final Map<Object, Object> contentMap = new HashMap<>();
 
+  private final Map<Class<?>, Object> typeMap = new ConcurrentHashMap<>();
+
   @Override
   @SuppressWarnings("unchecked")
   public <T> T get(Class<T> type) {
     assertNotNull(type, "type is required");
+    if (contentMap.isEmpty()) return null;
+    Object result = typeMap.get(type);
+    if (result == null) {
+      result = find(type);
+      typeMap.put(type, result != null ? result : NONE);
+    }
+    return result != NONE ? (T) result : null;
+  }
+
+  private Object find(Class<?> type) {
     Object result = null;
     for (Object obj : contentMap.values()) {
       if (type.isAssignableFrom(obj.getClass())) {
@@ -52,7 +72,7 @@ public class ConcreteMutableScope implements MutableScope {
         }
       }
     }
-    return (T) result;
+    return result;
   }
 
   @Override
@@ -74,6 +94,7 @@ public class ConcreteMutableScope implements MutableScope {
   public void put(Object obj) {
     assertNotNull(obj, "value must not be null");
     contentMap.put(obj, obj);
+    typeMap.clear();
   }
 
   @Override
@@ -104,6 +125,7 @@ public class ConcreteMutableScope implements MutableScope {
 
   public boolean remove(Object obj) {
     final boolean removed = contentMap.remove(obj) != null;
+    typeMap.clear();
     Iterator<Map.Entry<String, Object>> i = nameMap.entrySet().iterator();
     while (i.hasNext()) {
       Map.Entry<String, Object> entry = i.next();
@@ -117,6 +139,7 @@ public class ConcreteMutableScope implements MutableScope {
   public void putAll(ConcreteMutableScope scope) {
     contentMap.putAll(scope.contentMap);
     nameMap.putAll(scope.nameMap);
+    typeMap.clear();
   }
 
   private void assertNotNull(Object obj, String message) {
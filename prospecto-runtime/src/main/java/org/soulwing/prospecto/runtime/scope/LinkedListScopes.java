@@ -18,20 +18,32 @@
  */
 package org.soulwing.prospecto.runtime.scope;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.scope.Scope;
 import org.soulwing.prospecto.api.scope.Scopes;
+import org.soulwing.prospecto.runtime.util.CopyOnWriteList;
 
 /**
- * A {@link Scopes} implementation backed by a linked list.
+ * A {@link Scopes} implementation backed by a list.
  *
  * @author Carl Harris
  */
 public class LinkedListScopes implements Scopes {
 
-  private final List<Scope> scopes = new LinkedList<>();
+  private final CopyOnWriteList<Scope> scopes;
+
+  public LinkedListScopes() {
+    this.scopes = new CopyOnWriteList<>();
+  }
+
+  /**
+   * Constructs a new instance with the same scopes as another instance.
+   * @param source the source instance
+   */
+  public LinkedListScopes(LinkedListScopes source) {
+    this.scopes = new CopyOnWriteList<>(source.scopes);
+  }
 
   @Override
   public void append(Scope scope) {
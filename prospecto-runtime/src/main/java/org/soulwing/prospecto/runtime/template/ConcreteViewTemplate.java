@@ -18,16 +18,20 @@
  */
 package org.soulwing.prospecto.runtime.template;
 
-import java.util.List;
+import java.io.OutputStream;
 
+import org.soulwing.prospecto.Singleton;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicator;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.ViewException;
 import org.soulwing.prospecto.api.ViewTemplate;
 import org.soulwing.prospecto.api.ViewTemplateException;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.ViewWriterFactory;
 import org.soulwing.prospecto.api.listener.ViewMode;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.ContainerNode;
 import org.soulwing.prospecto.runtime.applicator.ConcreteViewApplicatorFactory;
 import org.soulwing.prospecto.runtime.applicator.ViewApplicationVisitor;
@@ -36,9 +40,14 @@ import org.soulwing.prospecto.runtime.applicator.ViewEventApplicator;
 import org.soulwing.prospecto.runtime.context.ConcreteScopedViewContextFactory;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.context.ScopedViewContextFactory;
+import org.soulwing.prospecto.runtime.generator.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.generator.ViewEventCursor;
 import org.soulwing.prospecto.runtime.generator.ViewEventGenerator;
+import org.soulwing.prospecto.runtime.generator.ViewEventSink;
+import org.soulwing.prospecto.runtime.generator.ViewEventSource;
 import org.soulwing.prospecto.runtime.generator.ViewGeneratingVisitor;
 import org.soulwing.prospecto.runtime.view.ConcreteView;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * A {@link ViewTemplate} implementation.
@@ -51,6 +60,42 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
   private final ScopedViewContextFactory viewContextFactory;
   private final ViewApplicatorFactory viewApplicatorFactory;
 
+  /**
+   * Generator tree for this template; the template's nodes are not modified
+   * once the template is built, so the tree is compiled on first use and
+   * shared by all (possibly concurrent) calls to {@link #generateView}.
+   */
+  private final Singleton<ViewEventGenerator> generator =
+      new Singleton<ViewEventGenerator>() {
+        @Override
+        protected ViewEventGenerator newInstance() {
+          return (ViewEventGenerator)
+              depthFirst().traverse(new ViewGeneratingVisitor(), null);
+        }
+      };
+
+  /**
+   * Applicator tree for this template; like the generator tree, it holds
+   * no per-request state (that lives in the scoped context and the
+   * {@link ViewApplicator}) so it is compiled once and shared.
+   */
+  private final Singleton<ViewEventApplicator> applicator =
+      new Singleton<ViewEventApplicator>() {
+        @Override
+        protected ViewEventApplicator newInstance() {
+          return (ViewEventApplicator)
+              depthFirst().traverse(new ViewApplicationVisitor(), null);
+        }
+      };
+
+  /**
+   * Moving average of the number of events in the views generated by this
+   * template; used to size the event buffer for the next view, so that a
+   * single unusually large (or small) view has limited influence. Racing
+   * updates are benign.
+   */
+  private volatile int viewSizeHint;
+
   public ConcreteViewTemplate(AbstractViewNode root) {
     this(root, ConcreteScopedViewContextFactory.INSTANCE);
   }
@@ -86,31 +131,72 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
   @Override
   public View generateView(Object source, ViewContext context)
       throws ViewException {
-    try {
-      final ScopedViewContext scopedContext =
-          viewContextFactory.newContext(context);
+    final ScopedViewContext scopedContext =
+        viewContextFactory.newContext(context);
+    return generateView(source, scopedContext,
+        scopedContext.getOptions().isEnabled(ViewKeys.STREAMING_VIEWS));
+  }
 
+  @Override
+  public void writeView(Object model, ViewContext context,
+      ViewWriterFactory writerFactory, OutputStream outputStream)
+      throws ViewException {
+    writerFactory.newWriter(
+        generateView(model, viewContextFactory.newContext(context), true),
+        outputStream).writeView();
+  }
+
+  @Override
+  public void writeView(Object model, ViewContext context,
+      ViewWriterFactory writerFactory, ViewWriter.Target target)
+      throws ViewException {
+    writerFactory.newWriter(
+        generateView(model, viewContextFactory.newContext(context), true))
+        .writeView(target);
+  }
+
+  private View generateView(Object source, ScopedViewContext scopedContext,
+      boolean streaming) throws ViewException {
+    try {
       scopedContext.appendScope().put(source);
       final ViewTraversalEvent event =
           new ViewTraversalEvent(ViewMode.GENERATE, this, scopedContext);
 
       scopedContext.getListeners().beforeTraversing(event);
 
-      final ViewEventGenerator generator = (ViewEventGenerator)
-          depthFirst().traverse(new ViewGeneratingVisitor(), null);
+      final ViewEventCursor cursor = new ViewEventCursor(
+          generator.getInstance(), source, scopedContext);
+
+      if (streaming) {
+        return new StreamingView(
+            new TraversalEventSource(cursor, scopedContext, event));
+      }
 
-      final List<View.Event> viewEvents =
-          generator.generate(source, scopedContext);
+      final ViewEventBuffer viewEvents = new ViewEventBuffer(viewSizeHint);
+      cursor.drainTo(viewEvents);
+      viewSizeHint = nextViewSizeHint(viewSizeHint, viewEvents.size());
 
       scopedContext.getListeners().afterTraversing(event);
 
-      return new ConcreteView(viewEvents);
+      return new ConcreteView(viewEvents.toList());
     }
     catch (Exception ex) {
       throw new ViewException(ex);
     }
   }
 
+  /**
+   * Computes the size hint for the next view.
+   * @param hint the current hint (zero if no view has been generated)
+   * @param size the number of events in the view just generated
+   * @return the next hint; moves a quarter of the way from {@code hint}
+   *    toward {@code size}
+   */
+  static int nextViewSizeHint(int hint, int size) {
+    if (hint == 0) return size;
+    return hint + (size - hint) / 4;
+  }
+
   @Override
   public ViewApplicator createApplicator(View source, ViewContext context) {
     return createApplicator(source, context, null);
@@ -127,10 +213,8 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
         new ViewTraversalEvent(ViewMode.APPLY, this, scopedContext);
 
     scopedContext.getListeners().beforeTraversing(event);
-    final ViewEventApplicator applicator = (ViewEventApplicator)
-        depthFirst().traverse(new ViewApplicationVisitor(), null);
-    return viewApplicatorFactory.newApplicator(root.getModelType(), applicator,
-        source, scopedContext, dataKey, event);
+    return viewApplicatorFactory.newApplicator(root.getModelType(),
+        applicator.getInstance(), source, scopedContext, dataKey, event);
   }
 
   @Override
@@ -245,4 +329,47 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
     }
   }
 
+  /**
+   * A source that advances a cursor as events are requested, notifying
+   * post-traversal listeners once the last event has been produced.
+   */
+  private static class TraversalEventSource implements ViewEventSource {
+
+    private final ViewEventCursor cursor;
+    private final ScopedViewContext context;
+    private final ViewTraversalEvent event;
+
+    private boolean done;
+
+    TraversalEventSource(ViewEventCursor cursor, ScopedViewContext context,
+        ViewTraversalEvent event) {
+      this.cursor = cursor;
+      this.context = context;
+      this.event = event;
+    }
+
+    @Override
+    public View.Event next() throws Exception {
+      if (done) return null;
+      final View.Event next = cursor.next();
+      if (next == null) {
+        afterTraversing();
+      }
+      return next;
+    }
+
+    @Override
+    public void drainTo(ViewEventSink target) throws Exception {
+      if (done) return;
+      cursor.drainTo(target);
+      afterTraversing();
+    }
+
+    private void afterTraversing() {
+      done = true;
+      context.getListeners().afterTraversing(event);
+    }
+
+  }
+
 }
@@ -25,12 +25,18 @@ import org.soulwing.prospecto.api.ViewException;
 import org.soulwing.prospecto.api.ViewWriter;
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.runtime.event.MutableViewEvent;
+import org.soulwing.prospecto.runtime.generator.ViewEventSink;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * An object that produces a representation of a view on a specified target.
  * <p>
  * This class is designed to allow a callback-driven interpretation of a
- * view's event stream.
+ * view's event stream. An event passed to a callback method is valid only
+ * until the method returns; when a view is written as it is generated, the
+ * same event object may be passed to successive callbacks, so a writer must
+ * not retain a reference to an event.
  * <p>
  * A writer is <em>not</em> thread safe.
  *
@@ -69,34 +75,13 @@ public abstract class AbstractViewWriter implements ViewWriter {
   public final void writeView() throws ViewException {
     try {
       beforeViewEvents();
-      final Iterator<View.Event> events = view.iterator();
-      while (events.hasNext()) {
-        final View.Event event = events.next();
-        switch (event.getType()) {
-          case BEGIN_OBJECT:
-            onBeginObject(event);
-            break;
-          case END_OBJECT:
-            onEndObject(event);
-            break;
-          case BEGIN_ARRAY:
-            onBeginArray(event);
-            break;
-          case END_ARRAY:
-            onEndArray(event);
-            break;
-          case VALUE:
-            doValue(event);
-            break;
-          case META:
-            onMeta(event);
-            break;
-          case DISCRIMINATOR:
-            onDiscriminator(event);
-            break;
-          default:
-            throw new IllegalStateException("unrecognized event type: "
-                + event.getType().name());
+      if (view instanceof StreamingView) {
+        ((StreamingView) view).generate(new WriterEventSink());
+      }
+      else {
+        final Iterator<View.Event> events = view.iterator();
+        while (events.hasNext()) {
+          dispatchEvent(events.next());
         }
       }
       afterViewEvents();
@@ -109,6 +94,35 @@ public abstract class AbstractViewWriter implements ViewWriter {
     }
   }
 
+  private void dispatchEvent(View.Event event) throws Exception {
+    switch (event.getType()) {
+      case BEGIN_OBJECT:
+        onBeginObject(event);
+        break;
+      case END_OBJECT:
+        onEndObject(event);
+        break;
+      case BEGIN_ARRAY:
+        onBeginArray(event);
+        break;
+      case END_ARRAY:
+        onEndArray(event);
+        break;
+      case VALUE:
+        doValue(event);
+        break;
+      case META:
+        onMeta(event);
+        break;
+      case DISCRIMINATOR:
+        onDiscriminator(event);
+        break;
+      default:
+        throw new IllegalStateException("unrecognized event type: "
+            + event.getType().name());
+    }
+  }
+
   private void doValue(View.Event event) throws Exception {
     if (event.getValue() != null
         || getOptions().isEnabled(WriterKeys.INCLUDE_NULL_PROPERTIES)) {
@@ -193,4 +207,27 @@ public abstract class AbstractViewWriter implements ViewWriter {
     return view;
   }
 
+  /**
+   * A sink that dispatches events to this writer as they are generated.
+   * <p>
+   * Events that are added by attributes are delivered using a single
+   * mutable event object, so no event objects are created for them.
+   */
+  private class WriterEventSink implements ViewEventSink {
+
+    private final MutableViewEvent event = new MutableViewEvent();
+
+    @Override
+    public void add(View.Event event) throws Exception {
+      dispatchEvent(event);
+    }
+
+    @Override
+    public void add(View.Event.Type type, String name, String namespace,
+        Object value) throws Exception {
+      dispatchEvent(event.set(type, name, namespace, value));
+    }
+
+  }
+
 }
@@ -0,0 +1,357 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.xml;
+
+import java.util.Collections;
+import java.util.Iterator;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * An {@link XMLStreamWriter} that appends DOM nodes to a parent node.
+ * <p>
+ * This writer produces the same element and attribute names that a parser
+ * would produce when reading the output of a (non-repairing) stream writer
+ * for the same sequence of calls. In particular, an element written using
+ * only a local name is in the default namespace that was most recently
+ * <em>written</em> on the element itself or an enclosing element. Prefixes
+ * for namespace-qualified elements and attributes are those bound by
+ * {@link #setPrefix} and {@link #setDefaultNamespace}.
+ *
+ * @author Carl Harris
+ */
+class DomXMLStreamWriter implements XMLStreamWriter {
+
+  private static final String DEFAULT_PREFIX = XMLConstants.DEFAULT_NS_PREFIX;
+
+  private final NamespaceSupport bindings = new NamespaceSupport();
+  private final NamespaceSupport declarations = new NamespaceSupport();
+
+  private final Document document;
+
+  private Node current;
+  private boolean emptyElement;
+
+  /**
+   * Constructs a new instance.
+   * @param parent the node to which written nodes will be appended
+   */
+  DomXMLStreamWriter(Node parent) {
+    this.document = parent.getNodeType() == Node.DOCUMENT_NODE ?
+        (Document) parent : parent.getOwnerDocument();
+    this.current = parent;
+  }
+
+  @Override
+  public void writeStartElement(String localName) throws XMLStreamException {
+    closeEmptyElement();
+    startElement(document.createElementNS(
+        declarations.getURI(DEFAULT_PREFIX), localName));
+  }
+
+  @Override
+  public void writeStartElement(String namespaceURI, String localName)
+      throws XMLStreamException {
+    closeEmptyElement();
+    startElement(document.createElementNS(namespaceURI,
+        qualifiedName(elementPrefix(namespaceURI), localName)));
+  }
+
+  @Override
+  public void writeStartElement(String prefix, String localName,
+      String namespaceURI) throws XMLStreamException {
+    closeEmptyElement();
+    startElement(document.createElementNS(namespaceURI,
+        qualifiedName(prefix, localName)));
+  }
+
+  @Override
+  public void writeEmptyElement(String namespaceURI, String localName)
+      throws XMLStreamException {
+    writeStartElement(namespaceURI, localName);
+    emptyElement = true;
+  }
+
+  @Override
+  public void writeEmptyElement(String prefix, String localName,
+      String namespaceURI) throws XMLStreamException {
+    writeStartElement(prefix, localName, namespaceURI);
+    emptyElement = true;
+  }
+
+  @Override
+  public void writeEmptyElement(String localName) throws XMLStreamException {
+    writeStartElement(localName);
+    emptyElement = true;
+  }
+
+  @Override
+  public void writeEndElement() throws XMLStreamException {
+    if (emptyElement) {
+      closeEmptyElement();
+    }
+    if (current.getNodeType() != Node.ELEMENT_NODE) {
+      throw new XMLStreamException("no element to end");
+    }
+    endElement();
+  }
+
+  @Override
+  public void writeEndDocument() throws XMLStreamException {
+    closeEmptyElement();
+    while (current.getNodeType() == Node.ELEMENT_NODE) {
+      endElement();
+    }
+  }
+
+  @Override
+  public void close() throws XMLStreamException {
+  }
+
+  @Override
+  public void flush() throws XMLStreamException {
+  }
+
+  @Override
+  public void writeAttribute(String localName, String value)
+      throws XMLStreamException {
+    currentElement().setAttributeNS(null, localName, value);
+  }
+
+  @Override
+  public void writeAttribute(String prefix, String namespaceURI,
+      String localName, String value) throws XMLStreamException {
+    currentElement().setAttributeNS(namespaceURI,
+        qualifiedName(prefix, localName), value);
+  }
+
+  @Override
+  public void writeAttribute(String namespaceURI, String localName,
+      String value) throws XMLStreamException {
+    final String prefix = bindings.getPrefix(namespaceURI);
+    if (prefix == null) {
+      throw new XMLStreamException("namespace URI " + namespaceURI
+          + " is not bound to a prefix");
+    }
+    currentElement().setAttributeNS(namespaceURI,
+        qualifiedName(prefix, localName), value);
+  }
+
+  @Override
+  public void writeNamespace(String prefix, String namespaceURI)
+      throws XMLStreamException {
+    if (prefix == null || prefix.isEmpty()
+        || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+      writeDefaultNamespace(namespaceURI);
+      return;
+    }
+    currentElement().setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+        qualifiedName(XMLConstants.XMLNS_ATTRIBUTE, prefix), namespaceURI);
+    declarations.declarePrefix(prefix, namespaceURI);
+  }
+
+  @Override
+  public void writeDefaultNamespace(String namespaceURI)
+      throws XMLStreamException {
+    Element element = currentElement();
+    if (element.getPrefix() == null) {
+      // like its textual representation, an unprefixed element is in the
+      // default namespace declared on the element itself
+      element = (Element) document.renameNode(element, namespaceURI,
+          element.getLocalName());
+      current = element;
+    }
+    element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+        XMLConstants.XMLNS_ATTRIBUTE, namespaceURI);
+    declarations.declarePrefix(DEFAULT_PREFIX, namespaceURI);
+  }
+
+  @Override
+  public void writeComment(String data) throws XMLStreamException {
+    append(document.createComment(data));
+  }
+
+  @Override
+  public void writeProcessingInstruction(String target)
+      throws XMLStreamException {
+    writeProcessingInstruction(target, "");
+  }
+
+  @Override
+  public void writeProcessingInstruction(String target, String data)
+      throws XMLStreamException {
+    append(document.createProcessingInstruction(target, data));
+  }
+
+  @Override
+  public void writeCData(String data) throws XMLStreamException {
+    append(document.createCDATASection(data));
+  }
+
+  @Override
+  public void writeDTD(String dtd) throws XMLStreamException {
+    throw new UnsupportedOperationException("a DTD cannot be written to a node");
+  }
+
+  @Override
+  public void writeEntityRef(String name) throws XMLStreamException {
+    append(document.createEntityReference(name));
+  }
+
+  @Override
+  public void writeStartDocument() throws XMLStreamException {
+  }
+
+  @Override
+  public void writeStartDocument(String version) throws XMLStreamException {
+  }
+
+  @Override
+  public void writeStartDocument(String encoding, String version)
+      throws XMLStreamException {
+  }
+
+  @Override
+  public void writeCharacters(String text) throws XMLStreamException {
+    append(document.createTextNode(text));
+  }
+
+  @Override
+  public void writeCharacters(char[] text, int start, int len)
+      throws XMLStreamException {
+    writeCharacters(new String(text, start, len));
+  }
+
+  @Override
+  public String getPrefix(String uri) throws XMLStreamException {
+    return getNamespaceContext().getPrefix(uri);
+  }
+
+  @Override
+  public void setPrefix(String prefix, String uri) throws XMLStreamException {
+    bindings.declarePrefix(prefix, uri);
+  }
+
+  @Override
+  public void setDefaultNamespace(String uri) throws XMLStreamException {
+    bindings.declarePrefix(DEFAULT_PREFIX, uri);
+  }
+
+  @Override
+  public void setNamespaceContext(NamespaceContext context)
+      throws XMLStreamException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public NamespaceContext getNamespaceContext() {
+    return new BindingsNamespaceContext();
+  }
+
+  @Override
+  public Object getProperty(String name) throws IllegalArgumentException {
+    throw new IllegalArgumentException("unsupported property: " + name);
+  }
+
+  private void startElement(Element element) {
+    current.appendChild(element);
+    current = element;
+    bindings.pushContext();
+    declarations.pushContext();
+  }
+
+  private void endElement() {
+    bindings.popContext();
+    declarations.popContext();
+    current = current.getParentNode();
+  }
+
+  private void closeEmptyElement() {
+    if (emptyElement) {
+      endElement();
+      emptyElement = false;
+    }
+  }
+
+  private void append(Node node) {
+    closeEmptyElement();
+    current.appendChild(node);
+  }
+
+  private Element currentElement() throws XMLStreamException {
+    if (current.getNodeType() != Node.ELEMENT_NODE) {
+      throw new XMLStreamException("no element is open");
+    }
+    return (Element) current;
+  }
+
+  private String elementPrefix(String namespaceURI)
+      throws XMLStreamException {
+    if (namespaceURI.equals(bindings.getURI(DEFAULT_PREFIX))) {
+      return DEFAULT_PREFIX;
+    }
+    final String prefix = bindings.getPrefix(namespaceURI);
+    if (prefix == null) {
+      throw new XMLStreamException("namespace URI " + namespaceURI
+          + " is not bound to a prefix");
+    }
+    return prefix;
+  }
+
+  private static String qualifiedName(String prefix, String localName) {
+    if (prefix == null || prefix.isEmpty()) return localName;
+    return prefix + ":" + localName;
+  }
+
+  /**
+   * A namespace context view of the prefixes bound by {@link #setPrefix}
+   * and {@link #setDefaultNamespace}.
+   */
+  private class BindingsNamespaceContext implements NamespaceContext {
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+      final String uri = bindings.getURI(prefix);
+      return uri != null ? uri : XMLConstants.NULL_NS_URI;
+    }
+
+    @Override
+    public String getPrefix(String namespaceURI) {
+      if (namespaceURI.equals(bindings.getURI(DEFAULT_PREFIX))) {
+        return DEFAULT_PREFIX;
+      }
+      return bindings.getPrefix(namespaceURI);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator getPrefixes(String namespaceURI) {
+      return Collections.list(bindings.getPrefixes(namespaceURI)).iterator();
+    }
+
+  }
+
+}
@@ -35,12 +35,21 @@ import javax.xml.stream.events.Characters;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
 
+import org.soulwing.prospecto.api.dom.NodeSource;
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.text.InputStreamSource;
 import org.soulwing.prospecto.runtime.text.AbstractViewReader;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 
 /**
  * A {@link org.soulwing.prospecto.api.ViewReader} that parses an XML document.
+ * <p>
+ * When the source is a {@link NodeSource}, the view is read by walking the
+ * source DOM node directly.
  *
  * @author Carl Harris
  */
@@ -100,15 +109,22 @@ class XmlViewReader extends AbstractViewReader {
 
   XmlViewReader(Source source, Options options) {
     super(options);
-    if (!(source instanceof InputStreamSource)) {
+    if (!(source instanceof InputStreamSource)
+        && !(source instanceof NodeSource)) {
       throw new IllegalArgumentException("only the "
-          + InputStreamSource.class.getSimpleName() + " source type is supported");
+          + InputStreamSource.class.getSimpleName() + " and "
+          + NodeSource.class.getSimpleName() + " source types are supported");
     }
     this.source = source;
   }
 
   @Override
   protected void onReadView() throws Exception {
+    if (source instanceof NodeSource) {
+      readNode(((NodeSource) source).getNode());
+      return;
+    }
+
     final XMLEventReader reader = inputFactory.createXMLEventReader(
         ((InputStreamSource) source).getInputStream());
     while (reader.hasNext()) {
@@ -171,6 +187,82 @@ class XmlViewReader extends AbstractViewReader {
     }
   }
 
+  private void readNode(Node node) throws XMLStreamException {
+    if (node.getNodeType() == Node.DOCUMENT_NODE) {
+      node = ((Document) node).getDocumentElement();
+    }
+    if (node.getNodeType() != Node.ELEMENT_NODE) {
+      throw new IllegalArgumentException(
+          "source node must be a document or an element");
+    }
+    readElement((Element) node);
+  }
+
+  private void readElement(Element element) throws XMLStreamException {
+    startElement(element);
+    Node child = element.getFirstChild();
+    while (child != null) {
+      switch (child.getNodeType()) {
+        case Node.ELEMENT_NODE:
+          readElement((Element) child);
+          break;
+        case Node.TEXT_NODE:
+        case Node.CDATA_SECTION_NODE:
+          stack.peek().append(child.getNodeValue());
+          break;
+        default:
+          assert true;    // ignore unrecognized nodes
+      }
+      child = child.getNextSibling();
+    }
+    endElement();
+  }
+
+  private void startElement(Element element) {
+    final QName qname = qname(element);
+    final XmlViewConstants.ElementType elementType = elementType(element);
+    final QName type = type(element);
+    boolean valueElement = false;
+    switch (elementType) {
+      case VALUE:
+        valueElement = true;
+        break;
+      case OBJECT:
+        beginObject(name(qname), namespace(qname));
+        discriminator(element);
+        metas(element);
+        break;
+      case ARRAY:
+        beginArray(name(qname), namespace(qname));
+        discriminator(element);
+        metas(element);
+        break;
+      default:
+        throw new AssertionError("unrecognized element type");
+    }
+
+    stack.push(new Frame(qname, type, valueElement));
+  }
+
+  private void discriminator(Element element) {
+    final Attr type = element.getAttributeNodeNS(
+        XmlViewConstants.XSI_NAMESPACE, XmlViewConstants.XSI_TYPE_NAME);
+    if (type != null) {
+      discriminator(type.getValue());
+    }
+  }
+
+  private void metas(Element element) {
+    final NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0, max = attributes.getLength(); i < max; i++) {
+      final Attr attribute = (Attr) attributes.item(i);
+      if (XmlViewConstants.META_NAMESPACE.equals(
+          attribute.getNamespaceURI())) {
+        meta(attribute.getLocalName(), attribute.getValue());
+      }
+    }
+  }
+
   private void discriminator(StartElement event) {
     final Attribute type = event.getAttributeByName(
         XmlViewConstants.XSI_TYPE_QNAME);
@@ -247,6 +339,35 @@ class XmlViewReader extends AbstractViewReader {
         attribute.getValue().toUpperCase());
   }
 
+  private static XmlViewConstants.ElementType elementType(Element element) {
+    final Attr attribute = element.getAttributeNodeNS(
+        XmlViewConstants.VIEW_NAMESPACE, XmlViewConstants.TYPE_NAME);
+    if (attribute == null) return XmlViewConstants.ElementType.VALUE;
+    return XmlViewConstants.ElementType.valueOf(
+        attribute.getValue().toUpperCase());
+  }
+
+  private static QName type(Element element) {
+    final Attr type = element.getAttributeNodeNS(
+        XmlViewConstants.XSI_NAMESPACE, XmlViewConstants.XSI_TYPE_NAME);
+    if (type == null) return null;
+    final String typeName = type.getValue();
+    final int index = typeName.indexOf(':');
+    if (index == -1) {
+      return new QName(element.getNamespaceURI(), typeName);
+    }
+    final String prefix = typeName.substring(0, index);
+    final String localPart = typeName.substring(index + 1);
+    return new QName(element.lookupNamespaceURI(prefix), localPart);
+  }
+
+  private static QName qname(Element element) {
+    final String namespaceURI = element.getNamespaceURI();
+    return new QName(namespaceURI != null ? namespaceURI : "",
+        element.getLocalName() != null ?
+            element.getLocalName() : element.getTagName());
+  }
+
   private static QName type(StartElement event) {
     final Attribute type =
         event.getAttributeByName(XmlViewConstants.XSI_TYPE_QNAME);
@@ -46,10 +46,12 @@ import javax.xml.stream.XMLStreamWriter;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.dom.NodeTarget;
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.options.WriterKeys;
 import org.soulwing.prospecto.api.text.OutputStreamTarget;
 import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
+import org.w3c.dom.Node;
 
 /**
  * A {@link ViewWriter} that produces an XML representation of a view.
@@ -60,6 +62,11 @@ import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
  * <p>
  * View envelope properties will be added as to the root element of the view
  * as attributes in the {@link XmlViewConstants#VIEW_NAMESPACE}.
+ * <p>
+ * When the target is a {@link NodeTarget}, the root element of the view is
+ * appended directly to the target DOM node, with the same element and
+ * attribute names that would result from parsing the textual representation.
+ * Pretty printing does not apply to DOM output.
  *
  * @author Carl Harris
  */
@@ -117,6 +124,7 @@ class XmlViewWriter extends AbstractViewWriter {
 
   private OutputStream outputStream;
   private String encoding;
+  private Node node;
 
   private XMLStreamWriter writer;
 
@@ -158,18 +166,29 @@ class XmlViewWriter extends AbstractViewWriter {
 
   @Override
   public void writeView(Target target) {
-    if (!(target instanceof OutputStreamTarget)) {
+    if (target instanceof OutputStreamTarget) {
+      this.outputStream = ((OutputStreamTarget) target).getOutputStream();
+      this.encoding = ((OutputStreamTarget) target).getEncoding();
+    }
+    else if (target instanceof NodeTarget) {
+      this.node = ((NodeTarget) target).getNode();
+    }
+    else {
       throw new IllegalArgumentException("this writer supports only the "
-          + OutputStreamTarget.class.getSimpleName() + " target");
+          + OutputStreamTarget.class.getSimpleName() + " and "
+          + NodeTarget.class.getSimpleName() + " targets");
     }
-    this.outputStream = ((OutputStreamTarget) target).getOutputStream();
-    this.encoding = ((OutputStreamTarget) target).getEncoding();
     writeView();
   }
 
 
   @Override
   protected void beforeViewEvents() throws Exception {
+    if (node != null) {
+      writer = new DomXMLStreamWriter(node);
+      return;
+    }
+
     writer = outputFactory.createXMLStreamWriter(
         new BufferedOutputStream(outputStream),
             encoding == null ? DEFAULT_ENCODING : encoding);
@@ -18,22 +18,34 @@
  */
 package org.soulwing.prospecto.runtime.url;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.api.url.UrlDecorator;
 import org.soulwing.prospecto.api.url.UrlDecorators;
+import org.soulwing.prospecto.runtime.util.CopyOnWriteList;
 
 /**
- * A {@link UrlDecorators} implementation backed by a linked list.
+ * A {@link UrlDecorators} implementation backed by a list.
  *
  * @author Carl Harris
  */
 public class LinkedListUrlDecorators implements UrlDecorators {
 
-  private final List<UrlDecorator> delegate = new LinkedList<>();
+  private final CopyOnWriteList<UrlDecorator> delegate;
+
+  public LinkedListUrlDecorators() {
+    this.delegate = new CopyOnWriteList<>();
+  }
+
+  /**
+   * Constructs a new instance with the same decorators as another instance.
+   * @param source the source instance
+   */
+  public LinkedListUrlDecorators(LinkedListUrlDecorators source) {
+    this.delegate = new CopyOnWriteList<>(source.delegate);
+  }
 
   @Override
   public void append(UrlDecorator decorator) {
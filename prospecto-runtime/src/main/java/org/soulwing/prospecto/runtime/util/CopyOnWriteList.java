@@ -0,0 +1,128 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list whose elements are held in an array that is replaced (rather than
+ * modified) on each change.
+ * <p>
+ * Because the array is never modified, a list constructed as a copy of
+ * another list can share the other list's array; the elements are copied
+ * only when one of the lists is next changed. This makes copying a list
+ * whose elements rarely change (such as the listeners or converters of a
+ * view context) a constant-time operation.
+ * <p>
+ * A subclass that derives state from the elements of the list can override
+ * {@link #changed()} to be notified of each change to the list.
+ *
+ * @author Carl Harris
+ */
+public class CopyOnWriteList<E> extends AbstractList<E>
+    implements RandomAccess {
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private volatile Object[] elements;
+
+  /**
+   * Constructs a new empty list.
+   */
+  public CopyOnWriteList() {
+    this.elements = EMPTY;
+  }
+
+  /**
+   * Constructs a new list containing the same elements as another list.
+   * @param source the source list
+   */
+  public CopyOnWriteList(CopyOnWriteList<? extends E> source) {
+    this.elements = source.elements;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E) elements[index];
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public E set(int index, E element) {
+    final Object[] elements = this.elements.clone();
+    final E replaced = get(index);
+    elements[index] = element;
+    replace(elements);
+    return replaced;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    final Object[] elements = this.elements;
+    if (index < 0 || index > elements.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    final Object[] replacement = new Object[elements.length + 1];
+    System.arraycopy(elements, 0, replacement, 0, index);
+    replacement[index] = element;
+    System.arraycopy(elements, index, replacement, index + 1,
+        elements.length - index);
+    modCount++;
+    replace(replacement);
+  }
+
+  @Override
+  public E remove(int index) {
+    final E removed = get(index);
+    final Object[] elements = this.elements;
+    final Object[] replacement = new Object[elements.length - 1];
+    System.arraycopy(elements, 0, replacement, 0, index);
+    System.arraycopy(elements, index + 1, replacement, index,
+        elements.length - index - 1);
+    modCount++;
+    replace(replacement);
+    return removed;
+  }
+
+  @Override
+  public Object[] toArray() {
+    final Object[] elements = this.elements;
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  private void replace(Object[] elements) {
+    this.elements = elements;
+    changed();
+  }
+
+  /**
+   * Notifies the receiver that an element of this list was added, removed,
+   * or replaced.
+   */
+  protected void changed() {
+  }
+
+}
@@ -18,17 +18,38 @@
  */
 package org.soulwing.prospecto.runtime.util;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
- * A {@link SimpleList} backed by a {@link LinkedList}.
+ * A {@link SimpleList} backed by a {@link CopyOnWriteList}.
+ * <p>
+ * A list constructed as a copy of another list shares the other list's
+ * elements until either list is changed.
+ * <p>
+ * A subclass that derives state from the elements of the list can override
+ * {@link #changed()} to be notified of each change to the list, including
+ * changes made via {@link #toList()}.
  *
  * @author Carl Harris
  */
 public class SimpleLinkedList<E> implements SimpleList<E> {
 
-  private final List<E> delegate = new LinkedList<>();
+  private final NotifyingList delegate;
+
+  /**
+   * Constructs a new empty list.
+   */
+  public SimpleLinkedList() {
+    this.delegate = new NotifyingList();
+  }
+
+  /**
+   * Constructs a new list containing the same elements as another list.
+   * @param source the source list
+   */
+  protected SimpleLinkedList(SimpleLinkedList<E> source) {
+    this.delegate = new NotifyingList(source.delegate);
+  }
 
   @Override
   public void append(E element) {
@@ -50,4 +71,31 @@ public class SimpleLinkedList<E> implements SimpleList<E> {
     return delegate;
   }
 
+  /**
+   * Notifies the receiver that an element of this list was added, removed,
+   * or replaced.
+   */
+  protected void changed() {
+  }
+
+  /**
+   * A list that invokes {@link #changed()} after each change to its
+   * elements.
+   */
+  private class NotifyingList extends CopyOnWriteList<E> {
+
+    NotifyingList() {
+    }
+
+    NotifyingList(NotifyingList source) {
+      super(source);
+    }
+
+    @Override
+    protected void changed() {
+      SimpleLinkedList.this.changed();
+    }
+
+  }
+
 }
@@ -0,0 +1,234 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.view;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.generator.ViewEventSink;
+import org.soulwing.prospecto.runtime.generator.ViewEventSource;
+
+/**
+ * A {@link View} whose events are produced as the view is consumed.
+ * <p>
+ * Unlike {@link ConcreteView}, a streaming view does not hold its events;
+ * it can be consumed only once, either by iterating it or by passing its
+ * events to a sink using {@link #generate(ViewEventSink)}.
+ *
+ * @author Carl Harris
+ */
+public class StreamingView implements View {
+
+  private final Envelope envelope = new StreamingEnvelope();
+
+  private final ViewEventSource source;
+
+  private boolean consumed;
+
+  public StreamingView(ViewEventSource source) {
+    this.source = source;
+  }
+
+  @Override
+  public Envelope getEnvelope() {
+    return envelope();
+  }
+
+  @Override
+  public Envelope envelope() {
+    return envelope;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    return new SourceIterator(consume());
+  }
+
+  /**
+   * Passes all of the events of this view to the given sink.
+   * <p>
+   * Events are passed to the sink as they are produced; the sink may
+   * receive the attributes of an event rather than an event object (see
+   * {@link ViewEventSink#add(Event.Type, String, String, Object)}).
+   *
+   * @param sink the target sink
+   * @throws Exception
+   */
+  public void generate(ViewEventSink sink) throws Exception {
+    consume().drainTo(sink);
+  }
+
+  private ViewEventSource consume() {
+    if (consumed) {
+      throw new IllegalStateException(
+          "a streaming view can be consumed only once");
+    }
+    consumed = true;
+    return source;
+  }
+
+  class StreamingEnvelope implements Envelope {
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    @Override
+    public Envelope putProperty(String name, Object value) {
+      properties.put(name, value);
+      return this;
+    }
+
+    @Override
+    public View seal(String name) {
+      return seal(name, null);
+    }
+
+    @Override
+    public View seal(String name, String namespace) {
+      return new StreamingView(
+          new SealedSource(properties, name, namespace, consume()));
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return properties.entrySet().iterator();
+    }
+
+  }
+
+  /**
+   * An iterator over the events of a source.
+   */
+  private static class SourceIterator implements Iterator<Event> {
+
+    private final ViewEventSource source;
+
+    private Event next;
+    private boolean done;
+
+    SourceIterator(ViewEventSource source) {
+      this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !done) {
+        try {
+          next = source.next();
+          done = next == null;
+        }
+        catch (ViewException ex) {
+          throw ex;
+        }
+        catch (Exception ex) {
+          throw new ViewException(ex);
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Event next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final Event event = next;
+      next = null;
+      return event;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  /**
+   * A source that wraps the events of another source in an envelope object.
+   * <p>
+   * Produces the same sequence of events as {@link ConcreteView}'s sealed
+   * view, reading ahead by a single event in order to rename the last event
+   * of the enveloped view.
+   */
+  private static class SealedSource implements ViewEventSource {
+
+    private final Deque<Event> pending = new ArrayDeque<>();
+
+    private final String name;
+    private final String namespace;
+    private final ViewEventSource source;
+
+    private Event lookahead;
+    private boolean started;
+    private boolean finished;
+
+    SealedSource(Map<String, Object> properties, String name,
+        String namespace, ViewEventSource source) {
+      this.name = name;
+      this.namespace = namespace;
+      this.source = source;
+      pending.add(new ConcreteViewEvent(Event.Type.BEGIN_OBJECT, null, null));
+      for (final Map.Entry<String, Object> entry : properties.entrySet()) {
+        pending.add(new ConcreteViewEvent(Event.Type.VALUE, entry.getKey(),
+            null, entry.getValue()));
+      }
+    }
+
+    @Override
+    public Event next() throws Exception {
+      if (pending.isEmpty() && !finished) {
+        fill();
+      }
+      return pending.poll();
+    }
+
+    @Override
+    public void drainTo(ViewEventSink target) throws Exception {
+      Event event = next();
+      while (event != null) {
+        target.add(event);
+        event = next();
+      }
+    }
+
+    private void fill() throws Exception {
+      final Event event = started ? lookahead : source.next();
+      if (event == null) {
+        pending.add(new ConcreteViewEvent(Event.Type.END_OBJECT, null, null));
+        finished = true;
+        return;
+      }
+      lookahead = source.next();
+      pending.add(!started || lookahead == null ? rename(event) : event);
+      started = true;
+    }
+
+    private Event rename(Event event) {
+      return new ConcreteViewEvent(event.getType(), name, namespace, null);
+    }
+
+  }
+
+}
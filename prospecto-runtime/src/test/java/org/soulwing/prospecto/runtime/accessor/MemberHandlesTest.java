@@ -0,0 +1,150 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.AccessibleObject;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MemberHandles}.
+ *
+ * @author Carl Harris
+ */
+public class MemberHandlesTest {
+
+  private final MockModel model = new MockModel();
+
+  @After
+  public void tearDown() throws Exception {
+    System.clearProperty(MemberHandles.REFLECTIVE_ACCESS);
+  }
+
+  @Test
+  public void testPublicMethods() throws Throwable {
+    final MemberHandles.Getter getter = MemberHandles.getter(
+        MockModel.class.getMethod("getValue"));
+    final MemberHandles.Setter setter = MemberHandles.setter(
+        MockModel.class.getMethod("setValue", int.class));
+    assertThat(getter.get(model), is(equalTo((Object) 1)));
+    setter.set(model, 2);
+    assertThat(getter.get(model), is(equalTo((Object) 2)));
+  }
+
+  @Test
+  public void testNonPublicMethods() throws Throwable {
+    final MemberHandles.Getter getter = MemberHandles.getter(
+        accessible(MockModel.class.getDeclaredMethod("getHidden")));
+    final MemberHandles.Setter setter = MemberHandles.setter(
+        accessible(MockModel.class.getDeclaredMethod("setHidden",
+            String.class)));
+    setter.set(model, "other");
+    assertThat(getter.get(model), is(equalTo((Object) "other")));
+  }
+
+  @Test
+  public void testFields() throws Throwable {
+    final MemberHandles.Getter getter = MemberHandles.getter(
+        accessible(MockModel.class.getDeclaredField("value")));
+    final MemberHandles.Setter setter = MemberHandles.setter(
+        accessible(MockModel.class.getDeclaredField("value")));
+    setter.set(model, 3);
+    assertThat(getter.get(model), is(equalTo((Object) 3)));
+  }
+
+  @Test
+  public void testFinalField() throws Throwable {
+    assertThat(MemberHandles.getter(
+        accessible(MockModel.class.getDeclaredField("constant"))),
+        is(not(nullValue())));
+    assertThat(MemberHandles.setter(
+        accessible(MockModel.class.getDeclaredField("constant"))),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testStaticMethod() throws Throwable {
+    assertThat(MemberHandles.getter(
+        MockModel.class.getMethod("getInstance")), is(nullValue()));
+  }
+
+  @Test
+  public void testWhenReflectiveAccessRequested() throws Throwable {
+    System.setProperty(MemberHandles.REFLECTIVE_ACCESS, "true");
+    assertThat(MemberHandles.getter(
+        MockModel.class.getMethod("getValue")), is(nullValue()));
+    assertThat(MemberHandles.getter(
+        accessible(MockModel.class.getDeclaredField("value"))),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testIsAssignable() throws Exception {
+    assertThat(MemberHandles.isAssignable(int.class, 1), is(true));
+    assertThat(MemberHandles.isAssignable(int.class, (byte) 1), is(false));
+    assertThat(MemberHandles.isAssignable(int.class, null), is(false));
+    assertThat(MemberHandles.isAssignable(Number.class, 1), is(true));
+    assertThat(MemberHandles.isAssignable(Number.class, null), is(true));
+    assertThat(MemberHandles.isAssignable(Number.class, "1"), is(false));
+  }
+
+  private static <T extends AccessibleObject> T accessible(T member) {
+    member.setAccessible(true);
+    return member;
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockModel {
+
+    private final String constant = "constant";
+
+    private int value = 1;
+
+    private String hidden;
+
+    public static MockModel getInstance() {
+      return new MockModel();
+    }
+
+    public int getValue() {
+      return value;
+    }
+
+    public void setValue(int value) {
+      this.value = value;
+    }
+
+    String getHidden() {
+      return hidden;
+    }
+
+    void setHidden(String hidden) {
+      this.hidden = hidden;
+    }
+
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Date;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ModelMetadata}.
+ *
+ * @author Carl Harris
+ */
+public class ModelMetadataTest {
+
+  @Test
+  public void testOfReturnsSameInstance() throws Exception {
+    assertThat(ModelMetadata.of(MockModel.class),
+        is(sameInstance(ModelMetadata.of(MockModel.class))));
+  }
+
+  @Test
+  public void testOfDoesNotCacheJdkType() throws Exception {
+    assertThat(ModelMetadata.of(Date.class),
+        is(not(sameInstance(ModelMetadata.of(Date.class)))));
+  }
+
+  @Test
+  public void testGetFieldOfJdkType() throws Exception {
+    final Field field = ModelMetadata.of(java.sql.Date.class)
+        .getField("fastTime");
+    assertThat(field.getDeclaringClass(), is(equalTo((Object) Date.class)));
+  }
+
+  @Test
+  public void testGetPropertyDescriptor() throws Exception {
+    final PropertyDescriptor descriptor =
+        ModelMetadata.of(MockModel.class).getPropertyDescriptor("name");
+    assertThat(descriptor.getReadMethod(),
+        is(equalTo(MockModel.class.getMethod("getName"))));
+  }
+
+  @Test
+  public void testGetInheritedPropertyDescriptor() throws Exception {
+    assertThat(ModelMetadata.of(MockSubModel.class)
+        .getPropertyDescriptor("name"), is(not(nullValue())));
+  }
+
+  @Test
+  public void testGetPropertyDescriptorWhenNoSuchProperty() throws Exception {
+    assertThat(ModelMetadata.of(MockModel.class)
+        .getPropertyDescriptor("unknown"), is(nullValue()));
+  }
+
+  @Test
+  public void testGetInheritedField() throws Exception {
+    final Field field = ModelMetadata.of(MockSubModel.class).getField("name");
+    assertThat(field.getDeclaringClass(),
+        is(equalTo((Object) MockModel.class)));
+  }
+
+  @Test
+  public void testGetHidingField() throws Exception {
+    final Field field = ModelMetadata.of(MockSubModel.class).getField("id");
+    assertThat(field.getDeclaringClass(),
+        is(equalTo((Object) MockSubModel.class)));
+  }
+
+  @Test
+  public void testGetFieldWhenNoSuchField() throws Exception {
+    assertThat(ModelMetadata.of(MockSubModel.class).getField("unknown"),
+        is(nullValue()));
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockModel {
+    private Long id;
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockSubModel extends MockModel {
+    private Integer id;
+  }
+
+}
@@ -19,10 +19,15 @@
 package org.soulwing.prospecto.runtime.accessor;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 
 import org.junit.Test;
@@ -104,6 +109,79 @@ public class ReflectionAccessorBuilderTest {
         .build();
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testPropertySetWithWrongValueType() throws Exception {
+    typedAccessor(AccessType.PROPERTY).set(new MockTypedModel(), "wrong");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPropertySetWithNullPrimitiveValue() throws Exception {
+    typedAccessor(AccessType.PROPERTY).set(new MockTypedModel(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPropertyGetWithWrongTargetType() throws Exception {
+    typedAccessor(AccessType.PROPERTY).get(model);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPropertyGetWithNullTarget() throws Exception {
+    typedAccessor(AccessType.PROPERTY).get(null);
+  }
+
+  @Test
+  public void testPropertySetWithWideningConversion() throws Exception {
+    final MockTypedModel model = new MockTypedModel();
+    typedAccessor(AccessType.PROPERTY).set(model, (byte) 2);
+    assertThat(model.count, is(equalTo(2)));
+  }
+
+  @Test
+  public void testPropertySetWhenMethodThrows() throws Exception {
+    final MockTypedModel model = new MockTypedModel();
+    try {
+      typedAccessor(AccessType.PROPERTY).set(model, -1);
+      fail("expected InvocationTargetException");
+    }
+    catch (InvocationTargetException ex) {
+      assertThat(ex.getCause(), is(instanceOf(ClassCastException.class)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFieldSetWithWrongValueType() throws Exception {
+    typedAccessor(AccessType.FIELD).set(new MockTypedModel(), "wrong");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFieldSetWithNullPrimitiveValue() throws Exception {
+    typedAccessor(AccessType.FIELD).set(new MockTypedModel(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFieldGetWithWrongTargetType() throws Exception {
+    typedAccessor(AccessType.FIELD).get(model);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testFieldGetWithNullTarget() throws Exception {
+    typedAccessor(AccessType.FIELD).get(null);
+  }
+
+  @Test
+  public void testFieldSetWithWideningConversion() throws Exception {
+    final MockTypedModel model = new MockTypedModel();
+    typedAccessor(AccessType.FIELD).set(model, (byte) 2);
+    assertThat(model.count, is(equalTo(2)));
+  }
+
+  private Accessor typedAccessor(AccessType accessType) throws Exception {
+    return new ReflectionAccessorBuilder(MockTypedModel.class)
+        .propertyName("count")
+        .accessType(accessType)
+        .build();
+  }
+
   @SuppressWarnings("unused")
   abstract class MockSuperModel {
 
@@ -131,6 +209,23 @@ public class ReflectionAccessorBuilderTest {
 
   }
 
+  public class MockTypedModel {
+
+    private int count;
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      if (count < 0) {
+        throw new ClassCastException("thrown by the setter");
+      }
+      this.count = count;
+    }
+
+  }
+
   @Test
   public void testPublicInterfaceMethod() throws Exception {
     final ReflectionAccessorBuilder accessorBuilder =
@@ -163,6 +258,31 @@ public class ReflectionAccessorBuilderTest {
     assertThat(accessor.get(model), is(sameInstance(other)));
   }
 
+  @Test
+  public void testForSubtypeReusesAccessor() throws Exception {
+    final Accessor accessor = new ReflectionAccessorBuilder(IMockModel.class)
+        .propertyName("publicMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+
+    final Accessor subtypeAccessor = accessor.forSubtype(MockModelImpl.class);
+    assertThat(subtypeAccessor.getModelType(),
+        is(equalTo((Object) MockModelImpl.class)));
+    assertThat(accessor.forSubtype(MockModelImpl.class),
+        is(sameInstance(subtypeAccessor)));
+    assertThat(accessor.forSubtype(MockSubModelImpl.class),
+        is(not(sameInstance(subtypeAccessor))));
+  }
+
+  @Test(expected = NoSuchFieldException.class)
+  public void testForSubtypeWhenNoSuchField() throws Exception {
+    accessorBuilder
+        .propertyName("publicField")
+        .accessType(AccessType.FIELD)
+        .build()
+        .forSubtype(MockModelImpl.class);
+  }
+
   public interface IMockModel {
     Object getPublicMethod();
   }
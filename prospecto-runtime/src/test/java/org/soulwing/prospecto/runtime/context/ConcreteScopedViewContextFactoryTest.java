@@ -19,7 +19,9 @@
 package org.soulwing.prospecto.runtime.context;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 
 import org.junit.Test;
@@ -56,4 +58,18 @@ public class ConcreteScopedViewContextFactoryTest {
         is(sameInstance(strategy)));
   }
 
+  @Test
+  public void testDefaultDiscriminatorStrategyIsNotAddedToSource()
+      throws Exception {
+    final ScopedViewContext viewContext =
+        ConcreteScopedViewContextFactory.INSTANCE.newContext(source);
+    final DiscriminatorStrategy strategy =
+        viewContext.get(DiscriminatorStrategy.class);
+    assertThat(viewContext.get(DiscriminatorStrategy.class),
+        is(sameInstance(strategy)));
+    assertThat(source.getScopes().toList(), is(empty()));
+    assertThat(source.getOptional(DiscriminatorStrategy.class),
+        is(nullValue()));
+  }
+
 }
@@ -37,6 +37,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.association.AssociationManager;
+import org.soulwing.prospecto.api.converter.KeyTypeConverter;
 import org.soulwing.prospecto.api.converter.ValueTypeConverter;
 import org.soulwing.prospecto.api.factory.ObjectFactory;
 import org.soulwing.prospecto.api.listener.ViewListener;
@@ -342,6 +343,34 @@ public class ConcreteViewContextTest {
     assertThat(viewContext.currentModelPath(), is(empty()));
   }
 
+  @Test
+  public void testCurrentPathsAreSnapshots() throws Exception {
+    viewContext.push(SCOPE0, MockScope0Type.class);
+    final List<String> viewPath = viewContext.currentViewPath();
+    final List<Class<?>> modelPath = viewContext.currentModelPath();
+    assertThat(viewContext.currentViewPath(), is(sameInstance(viewPath)));
+    assertThat(viewContext.currentModelPath(), is(sameInstance(modelPath)));
+
+    viewContext.pop();
+    viewContext.push(SCOPE1, MockScope1Type.class);
+    viewContext.push(SCOPE2, MockScope2Type.class);
+    assertThat(viewPath, is(equalTo(Arrays.asList(SCOPE0))));
+    assertThat(modelPath,
+        is(equalTo(Arrays.<Class<?>>asList(MockScope0Type.class))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCurrentViewPathIsUnmodifiable() throws Exception {
+    viewContext.push(SCOPE0, null);
+    viewContext.currentViewPath().add(SCOPE1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCurrentModelPathIsUnmodifiable() throws Exception {
+    viewContext.push(null, MockScope0Type.class);
+    viewContext.currentModelPath().remove(0);
+  }
+
   @Test
   public void testPushFrame() throws Exception {
     final MockScope0Type model = new MockScope0Type() {};
@@ -362,6 +391,85 @@ public class ConcreteViewContextTest {
 
   }
 
+  @Test
+  public void testGetStackFrames() throws Exception {
+    assertThat(viewContext.getStackFrames(), is(empty()));
+    viewContext.push(SCOPE0, MockScope0Type.class);
+    viewContext.push(SCOPE1, MockScope1Type.class);
+    final List<ScopeFrame> frames = viewContext.getStackFrames();
+    assertThat(frames.size(), is(equalTo(2)));
+    assertThat(frames.get(0).getName(), is(equalTo(SCOPE1)));
+    assertThat(frames.get(1).getName(), is(equalTo(SCOPE0)));
+    viewContext.pop();
+    assertThat(frames.size(), is(equalTo(1)));
+    assertThat(frames.get(0).getName(), is(equalTo(SCOPE0)));
+  }
+
+  @Test
+  public void testPushBeyondInitialCapacity() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      viewContext.push(Integer.toString(i), null);
+      viewContext.put(i);
+    }
+    assertThat(viewContext.currentViewPath().size(), is(equalTo(100)));
+    assertThat(viewContext.get(Integer.class), is(equalTo(99)));
+    for (int i = 99; i >= 0; i--) {
+      assertThat(viewContext.get(Integer.class), is(equalTo(i)));
+      viewContext.pop();
+    }
+    assertThat(viewContext.getOptional(Integer.class), is(nullValue()));
+  }
+
+  @Test
+  public void testPushAfterPopStartsWithEmptyFrame() throws Exception {
+    viewContext.push(SCOPE0, null);
+    viewContext.push(SCOPE1, null);
+    viewContext.put(SCOPE1);
+    viewContext.put(SCOPE1_MOCK, SCOPE1_MOCK);
+    viewContext.pop();
+    viewContext.push(SCOPE2, null);
+    assertThat(viewContext.getOptional(String.class), is(nullValue()));
+    assertThat(viewContext.getOptional(SCOPE1_MOCK, String.class),
+        is(nullValue()));
+    assertThat(viewContext.currentViewPath(),
+        is(equalTo(Arrays.asList(SCOPE0, SCOPE2))));
+  }
+
+  @Test
+  public void testCopyIsIndependentOfSource() throws Exception {
+    final ViewListener listener = context.mock(ViewListener.class);
+    final ValueTypeConverter valueTypeConverter =
+        context.mock(ValueTypeConverter.class);
+    final KeyTypeConverter keyTypeConverter =
+        context.mock(KeyTypeConverter.class);
+
+    viewContext.getListeners().append(listener);
+    viewContext.getKeyTypeConverters().append(keyTypeConverter);
+
+    final ViewContext contextCopy = new ConcreteViewContext(viewContext);
+    contextCopy.getValueTypeConverters().append(valueTypeConverter);
+    viewContext.getListeners().toList().clear();
+
+    assertThat(contextCopy.getListeners().toList(), contains(listener));
+    assertThat(contextCopy.getKeyTypeConverters().toList(),
+        contains(keyTypeConverter));
+    assertThat(contextCopy.getValueTypeConverters().toList(),
+        contains(valueTypeConverter));
+    assertThat(viewContext.getListeners().toList(), is(empty()));
+    assertThat(viewContext.getValueTypeConverters().toList(), is(empty()));
+  }
+
+  @Test
+  public void testCopyIsIndependentOfSourceStack() throws Exception {
+    final MockScope0Type model = new MockScope0Type() {};
+    viewContext.pushFrame(MockScope0Type.class, model);
+    final ViewContext contextCopy = viewContext.copy();
+    viewContext.pop();
+    viewContext.push(SCOPE1, MockScope1Type.class);
+    assertThat(contextCopy.currentModelPath(), contains(MockScope0Type.class));
+    assertThat(contextCopy.get(MockScope0Type.class), is(sameInstance(model)));
+  }
+
   @Test
   public void testCopy() throws Exception {
     final Scope scope =
@@ -0,0 +1,121 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ScopeFrame}.
+ *
+ * @author Carl Harris
+ */
+public class ScopeFrameTest {
+
+  private ScopeFrame frame = new ScopeFrame("name", Object.class);
+
+  @Test
+  public void testPutAndGetSingleObject() throws Exception {
+    final String obj = "object";
+    assertThat(frame.get(String.class), is(nullValue()));
+    frame.put(obj);
+    assertThat(frame.get(String.class), is(sameInstance(obj)));
+    assertThat(frame.get(CharSequence.class), is(sameInstance(obj)));
+    assertThat(frame.get(Integer.class), is(nullValue()));
+    assertThat(frame.get("name", String.class), is(nullValue()));
+  }
+
+  @Test
+  public void testPutAndGetMultipleObjects() throws Exception {
+    final String obj0 = "object";
+    final Integer obj1 = -1;
+    frame.put(obj0);
+    frame.put(obj1);
+    assertThat(frame.get(String.class), is(sameInstance(obj0)));
+    assertThat(frame.get(Integer.class), is(sameInstance(obj1)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPutMultipleInstancesSameType() throws Exception {
+    frame.put("object0");
+    frame.put("object1");
+    frame.get(String.class);
+  }
+
+  @Test
+  public void testPutAndGetByName() throws Exception {
+    final String obj0 = "object";
+    final String obj1 = "named object";
+    frame.put(obj0);
+    frame.put("name", obj1);
+    assertThat(frame.get("name", String.class), is(sameInstance(obj1)));
+    assertThat(frame.get(Integer.class), is(nullValue()));
+  }
+
+  @Test
+  public void testPutAll() throws Exception {
+    frame.putAll(Arrays.asList("string", 1));
+    assertThat(frame.get(String.class), is(sameInstance("string")));
+    assertThat(frame.get(Integer.class), is(1));
+  }
+
+  @Test
+  public void testRemove() throws Exception {
+    final String obj = "object";
+    frame.put(obj);
+    assertThat(frame.remove(-1), is(false));
+    assertThat(frame.remove(obj), is(true));
+    assertThat(frame.get(String.class), is(nullValue()));
+    assertThat(frame.remove(obj), is(false));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPutNull() throws Exception {
+    frame.put(null);
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    frame.put("object");
+    frame.put("name", "named object");
+    frame.reset("other", Integer.class);
+    assertThat(frame.getName(), is("other"));
+    assertThat(frame.getModelClass(), is(sameInstance((Object) Integer.class)));
+    assertThat(frame.get(String.class), is(nullValue()));
+    assertThat(frame.get("name", String.class), is(nullValue()));
+  }
+
+  @Test
+  public void testResetToCopy() throws Exception {
+    final ScopeFrame other = new ScopeFrame("other", Integer.class);
+    other.put("object");
+    other.put("name", "named object");
+    frame.reset(other);
+    other.reset(null, null);
+    assertThat(frame.getName(), is("other"));
+    assertThat(frame.get("name", String.class), is("named object"));
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ScopePath}.
+ *
+ * @author Carl Harris
+ */
+public class ScopePathTest {
+
+  private final ScopePath<String> empty = ScopePath.empty();
+
+  @Test
+  public void testEmpty() throws Exception {
+    assertThat(empty, is(empty()));
+    assertThat(empty.asString(), is(equalTo("/")));
+  }
+
+  @Test
+  public void testWith() throws Exception {
+    final ScopePath<String> a = empty.with("a");
+    final ScopePath<String> ab = a.with("b");
+    assertThat(ab, contains("a", "b"));
+    assertThat(ab.asString(), is(equalTo("/a/b")));
+    assertThat(a, contains("a"));
+    assertThat(a.asString(), is(equalTo("/a")));
+    assertThat(empty, is(empty()));
+  }
+
+  @Test
+  public void testWithNull() throws Exception {
+    final ScopePath<String> a = empty.with("a");
+    assertThat(a.with(null), is(sameInstance(a)));
+  }
+
+  @Test
+  public void testEquals() throws Exception {
+    assertThat(empty.with("a").with("b"),
+        is(equalTo(Arrays.asList("a", "b"))));
+    assertThat(empty.with("a").with("b").hashCode(),
+        is(equalTo(Arrays.asList("a", "b").hashCode())));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds() throws Exception {
+    empty.with("a").get(1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiable() throws Exception {
+    empty.with("a").set(0, "b");
+  }
+
+}
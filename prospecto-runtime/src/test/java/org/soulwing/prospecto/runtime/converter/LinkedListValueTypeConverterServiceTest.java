@@ -19,8 +19,11 @@
 package org.soulwing.prospecto.runtime.converter;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -90,4 +93,115 @@ public class LinkedListValueTypeConverterServiceTest {
         is(equalTo(VIEW_VALUE)));
   }
 
+  @Test
+  public void testConvertersAreResolvedOnce() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        exactly(2).of(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testMissingConverterIsResolvedOnce() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(false));
+      }
+    });
+
+    service.append(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(sameInstance(MODEL_VALUE)));
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(sameInstance(MODEL_VALUE)));
+  }
+
+  @Test
+  public void testConvertersAreResolvedAgainAfterChange() throws Exception {
+    final ValueTypeConverter otherConverter =
+        context.mock(ValueTypeConverter.class, "otherConverter");
+    context.checking(new Expectations() {
+      {
+        exactly(3).of(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        oneOf(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+        oneOf(otherConverter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        oneOf(otherConverter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    service.toViewValue(MODEL_VALUE, node, viewContext);
+    service.toList().add(0, otherConverter);
+    service.toViewValue(MODEL_VALUE, node, viewContext);
+    service.remove(otherConverter);
+    service.remove(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(sameInstance(MODEL_VALUE)));
+  }
+
+  @Test
+  public void testCopySharesResolvedConverters() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        exactly(2).of(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    service.toViewValue(MODEL_VALUE, node, viewContext);
+    final LinkedListValueTypeConverterService copy =
+        new LinkedListValueTypeConverterService(service);
+    assertThat(copy.toList(), contains(converter));
+    assertThat(copy.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testCopyIsUnaffectedByChangeToSource() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        oneOf(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    final LinkedListValueTypeConverterService copy =
+        new LinkedListValueTypeConverterService(service);
+    service.remove(converter);
+    assertThat(service.toList(), is(empty()));
+    assertThat(copy.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
 }
@@ -26,10 +26,12 @@ import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.forM
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.inContext;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.sourceNode;
 
-import java.util.Collections;
 import java.util.List;
 
+import org.hamcrest.Description;
 import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Before;
@@ -84,6 +86,8 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       {
         allowing(viewContext).getListeners();
         will(returnValue(listeners));
+        allowing(listeners).hasNodeListeners();
+        will(returnValue(true));
 
         oneOf(listeners).shouldVisitNode(with(
             eventDescribing(sourceNode(node),
@@ -92,8 +96,28 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext),
-        is(emptyCollectionOf(View.Event.class)));
+    assertThat(generate(MODEL), is(emptyCollectionOf(View.Event.class)));
+  }
+
+  List<View.Event> generate(Object model) throws Exception {
+    final ViewEventBuffer events = new ViewEventBuffer(0);
+    new ViewEventCursor(generator, model, viewContext).drainTo(events);
+    return events.toList();
+  }
+
+  static Action emit(final View.Event event) {
+    return new Action() {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        ((ViewEventCursor) invocation.getParameter(2)).add(event);
+        return null;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("emits ").appendValue(event);
+      }
+    };
   }
 
   Expectations baseExpectations() {
@@ -105,6 +129,8 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       {
         allowing(viewContext).getListeners();
         will(returnValue(listeners));
+        allowing(listeners).hasNodeListeners();
+        will(returnValue(true));
 
         oneOf(listeners).shouldVisitNode(with(
             eventDescribing(sourceNode(node),
@@ -150,9 +176,10 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
     }
 
     @Override
-    List<View.Event> onGenerate(Object model, ScopedViewContext context)
-        throws Exception {
-      return Collections.singletonList(event);
+    NodeFrame onGenerate(Object model, ScopedViewContext context,
+        ViewEventCursor cursor) throws Exception {
+      cursor.add(event);
+      return null;
     }
 
   }
@@ -110,12 +110,13 @@ public class ArrayOfObjectsGeneratorTest
                 forModel(MODEL), propertyValue(elementModel),
                 inContext(viewContext))));
         will(returnValue(transformedModel));
-        oneOf(child).generate(transformedModel, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(transformedModel), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(5)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -165,12 +166,13 @@ public class ArrayOfObjectsGeneratorTest
             with(viewContext));
         will(returnValue(discriminatorEvent));
 
-        oneOf(child).generate(transformedModel, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(transformedModel), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(6)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -215,7 +217,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(2)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -227,6 +229,41 @@ public class ArrayOfObjectsGeneratorTest
     assertThat(events.get(1).getValue(), is(nullValue()));
   }
 
+  @Test
+  public void testGenerateWithoutInterceptors() throws Exception {
+    context.checking(baseExpectations());
+    context.checking(contextScopeExpectations());
+    context.checking(new Expectations() {
+      {
+        allowing(node).getElementName();
+        will(returnValue(ELEMENT_NAME));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(false));
+        never(listeners).didExtractValue(with(any(ViewNodePropertyEvent.class)));
+        oneOf(viewContext).push(0);
+        oneOf(viewContext).put(elementModel);
+        oneOf(viewContext).pop();
+        oneOf(node).getAllowedModes();
+        will(returnValue(EnumSet.of(AccessMode.READ)));
+        oneOf(node).iterator(MODEL);
+        will(returnValue(iterator));
+        exactly(2).of(iterator).hasNext();
+        will(onConsecutiveCalls(returnValue(true), returnValue(false)));
+        oneOf(iterator).next();
+        will(returnValue(elementModel));
+        oneOf(discriminatorEventService).isDiscriminatorNeeded(node);
+        will(returnValue(false));
+        oneOf(child).generate(with(elementModel), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
+      }
+    });
+
+    final List<View.Event> events = generate(MODEL);
+    assertThat(events.size(), is(equalTo(5)));
+    assertThat(events.get(2), is(sameInstance(childEvent)));
+  }
+
   @Test
   public void testGenerateWhenNull() throws Exception {
     context.checking(baseExpectations());
@@ -240,7 +277,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(1));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.VALUE)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -259,7 +296,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
 
@@ -268,6 +305,8 @@ public class ArrayOfObjectsGeneratorTest
       {
         allowing(node).getElementName();
         will(returnValue(ELEMENT_NAME));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(true));
         oneOf(viewContext).push(0);
         oneOf(viewContext).put(elementModel);
         oneOf(viewContext).pop();
@@ -63,12 +63,13 @@ public class EnvelopeGeneratorTest
     context.checking(contextScopeExpectations(NAME, null, null));
     context.checking(new Expectations() {
       {
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(MODEL), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(3));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -34,6 +34,7 @@ import org.jmock.auto.Mock;
 import org.junit.Test;
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.listener.ViewNodeEvent;
 import org.soulwing.prospecto.api.template.ObjectNode;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
 
@@ -80,12 +81,13 @@ public class ObjectGeneratorTest
         will(returnValue(MODEL));
         oneOf(discriminatorEventService).isDiscriminatorNeeded(node);
         will(returnValue(false));
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(MODEL), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(3));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -98,6 +100,40 @@ public class ObjectGeneratorTest
     assertThat(events.get(2).getValue(), is(nullValue()));
   }
 
+  @Test
+  public void testGenerateWithoutNodeListeners() throws Exception {
+    context.checking(contextScopeExpectations());
+    context.checking(new Expectations() {
+      {
+        allowing(viewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(listeners).hasNodeListeners();
+        will(returnValue(false));
+        never(listeners).shouldVisitNode(with(any(ViewNodeEvent.class)));
+        never(listeners).nodeVisited(with(any(ViewNodeEvent.class)));
+        allowing(node).getName();
+        will(returnValue(NAME));
+        allowing(node).getModelType();
+        will(returnValue(MODEL_TYPE));
+        allowing(node).getNamespace();
+        will(returnValue(NAMESPACE));
+        oneOf(node).getAllowedModes();
+        will(returnValue(EnumSet.of(AccessMode.READ)));
+        oneOf(node).getObject(MODEL);
+        will(returnValue(MODEL));
+        oneOf(discriminatorEventService).isDiscriminatorNeeded(node);
+        will(returnValue(false));
+        oneOf(child).generate(with(MODEL), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
+      }
+    });
+
+    final List<View.Event> events = generate(MODEL);
+    assertThat(events.size(), is(3));
+    assertThat(events.get(1), is(sameInstance(childEvent)));
+  }
+
   @Test
   public void testGenerateWhenHasDiscriminator() throws Exception {
     context.checking(baseExpectations());
@@ -113,12 +149,13 @@ public class ObjectGeneratorTest
         oneOf(discriminatorEventService).newDiscriminatorEvent(
             with(node), with(any(Class.class)), with(viewContext));
         will(returnValue(discriminatorEvent));
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(MODEL), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(4));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -145,7 +182,7 @@ public class ObjectGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(1));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.VALUE)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -164,7 +201,7 @@ public class ObjectGeneratorTest
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
 }
@@ -68,11 +68,12 @@ public class SubtypeGeneratorTest
     context.checking(contextScopeExpectations(null, null, null));
     context.checking(new Expectations() {
       {
-        oneOf(child).generate(model1, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).generate(with(model1), with(viewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(childEvent));
       }
     });
-    final List<View.Event> events = generator.generate(model1, viewContext);
+    final List<View.Event> events = generate(model1);
     assertThat(events.size(), is(equalTo(1)));
     assertThat(events.get(0), is(sameInstance(childEvent)));
   }
@@ -81,7 +82,7 @@ public class SubtypeGeneratorTest
   public void testGenerateWithDifferentSubtype() throws Exception {
     context.checking(baseExpectations(model2, MockSubModel1.class));
     context.checking(contextScopeExpectations(null, null, null));
-    final List<View.Event> events = generator.generate(model2, viewContext);
+    final List<View.Event> events = generate(model2);
     assertThat(events.isEmpty(), is(true));
   }
 
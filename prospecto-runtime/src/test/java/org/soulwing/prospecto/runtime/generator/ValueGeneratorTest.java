@@ -79,7 +79,7 @@ public class ValueGeneratorTest extends AbstractViewEventGeneratorTest<ValueNode
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext),
+    assertThat(generate(MODEL),
         contains(
             eventOfType(View.Event.Type.VALUE,
                 withName(NAME),
@@ -103,7 +103,7 @@ public class ValueGeneratorTest extends AbstractViewEventGeneratorTest<ValueNode
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
   @Test
@@ -117,7 +117,7 @@ public class ValueGeneratorTest extends AbstractViewEventGeneratorTest<ValueNode
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
 }
@@ -0,0 +1,107 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * Unit tests for {@link ViewEventBuffer}.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventBufferTest {
+
+  @Test
+  public void testEmptyBuffer() throws Exception {
+    final ViewEventBuffer buffer = new ViewEventBuffer(0);
+    assertThat(buffer.size(), is(equalTo(0)));
+    assertThat(buffer.toList(), is(empty()));
+  }
+
+  @Test
+  public void testAddBeyondCapacity() throws Exception {
+    final ViewEventBuffer buffer =
+        new ViewEventBuffer(ViewEventBuffer.MIN_CAPACITY);
+    final List<View.Event> events = new ArrayList<>();
+    for (int i = 0; i < 3 * ViewEventBuffer.MIN_CAPACITY; i++) {
+      final View.Event event = new ConcreteViewEvent(View.Event.Type.VALUE,
+          "name" + i, null, i);
+      events.add(event);
+      buffer.add(event);
+    }
+
+    assertThat(buffer.size(), is(equalTo(events.size())));
+    assertThat(buffer.toList(),
+        contains(events.toArray(new View.Event[events.size()])));
+  }
+
+  @Test
+  public void testInitialCapacityIsLimited() throws Exception {
+    assertThat(new ViewEventBuffer(Integer.MAX_VALUE).capacity(),
+        is(equalTo(ViewEventBuffer.MAX_INITIAL_CAPACITY)));
+  }
+
+  @Test
+  public void testToListTrimsMostlyUnusedArray() throws Exception {
+    final ViewEventBuffer buffer =
+        new ViewEventBuffer(ViewEventBuffer.MAX_INITIAL_CAPACITY);
+    final View.Event event =
+        new ConcreteViewEvent(View.Event.Type.VALUE, "name", null, 0);
+    buffer.add(event);
+    assertThat(buffer.toList(), contains(event));
+    assertThat(buffer.capacity(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testToListDoesNotTrimMostlyUsedArray() throws Exception {
+    final ViewEventBuffer buffer =
+        new ViewEventBuffer(ViewEventBuffer.MIN_CAPACITY);
+    for (int i = 0; i < ViewEventBuffer.MIN_CAPACITY - 1; i++) {
+      buffer.add(new ConcreteViewEvent(View.Event.Type.VALUE, "name", null, i));
+    }
+    buffer.toList();
+    assertThat(buffer.capacity(), is(equalTo(ViewEventBuffer.MIN_CAPACITY)));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetBeyondSize() throws Exception {
+    final ViewEventBuffer buffer = new ViewEventBuffer(0);
+    buffer.add(new ConcreteViewEvent(View.Event.Type.VALUE, "name", null, 0));
+    buffer.toList().get(1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testListIsUnmodifiable() throws Exception {
+    final ViewEventBuffer buffer = new ViewEventBuffer(0);
+    buffer.toList().add(
+        new ConcreteViewEvent(View.Event.Type.VALUE, "name", null, 0));
+  }
+
+}
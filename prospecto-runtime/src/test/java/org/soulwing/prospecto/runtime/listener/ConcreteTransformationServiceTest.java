@@ -123,6 +123,63 @@ public class ConcreteTransformationServiceTest {
         is(sameInstance(transformedValue)));
   }
 
+  @Test
+  public void testValueToExtract() throws Exception {
+    final Object owner = new Object();
+    final Object modelValue = new Object();
+    context.checking(new Expectations() {
+      {
+        allowing(viewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(true));
+        allowing(listeners).hasPropertyListeners();
+        will(returnValue(true));
+        oneOf(listeners).didExtractValue((ViewNodePropertyEvent) with(
+            eventDescribing(sourceNode(node), forModel(owner),
+                propertyValue(modelValue), inContext(viewContext))));
+        will(returnValue(transformedValue));
+        oneOf(viewContext).getValueTypeConverters();
+        will(returnValue(converters));
+        oneOf(converters).toViewValue(transformedValue, node, viewContext);
+        will(returnValue(VIEW_VALUE));
+        oneOf(listeners).propertyVisited((ViewNodePropertyEvent) with(
+            eventDescribing(sourceNode(node), forModel(modelValue),
+                propertyValue(VIEW_VALUE), inContext(viewContext))));
+      }
+    });
+
+    assertThat(ConcreteTransformationService.INSTANCE.valueToExtract(
+        owner, modelValue, node, viewContext), is(sameInstance(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testValueToExtractWithoutListeners() throws Exception {
+    final Object owner = new Object();
+    final Object modelValue = new Object();
+    context.checking(new Expectations() {
+      {
+        allowing(viewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(false));
+        allowing(listeners).hasPropertyListeners();
+        will(returnValue(false));
+        never(listeners).didExtractValue(
+            with(any(ViewNodePropertyEvent.class)));
+        never(listeners).propertyVisited(
+            with(any(ViewNodePropertyEvent.class)));
+        oneOf(viewContext).getValueTypeConverters();
+        will(returnValue(converters));
+        oneOf(converters).toViewValue(modelValue, node, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    assertThat(ConcreteTransformationService.INSTANCE.valueToExtract(
+        owner, modelValue, node, viewContext), is(sameInstance(VIEW_VALUE)));
+  }
+
   private Expectations listenerExpectations(Object value) throws Exception {
     return new Expectations() {
       {
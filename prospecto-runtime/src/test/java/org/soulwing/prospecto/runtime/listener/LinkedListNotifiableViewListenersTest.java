@@ -68,6 +68,43 @@ public class LinkedListNotifiableViewListenersTest {
     assertThat(listeners.toList(), contains(listener0, listener1));
   }
 
+  @Test
+  public void testChangesViaListAreNotified() throws Exception {
+    final ViewNodeListener listener0 =
+        context.mock(ViewNodeListener.class, "listener0");
+    final ViewNodeListener listener1 =
+        context.mock(ViewNodeListener.class, "listener1");
+    final ViewNodeEvent event = new ViewNodeEvent(null, null, null, null);
+    context.checking(new Expectations() {
+      {
+        oneOf(listener1).nodeVisited(event);
+      }
+    });
+
+    listeners.toList().add(listener0);
+    listeners.toList().set(0, listener1);
+    listeners.nodeVisited(event);
+    listeners.toList().clear();
+    listeners.nodeVisited(event);
+  }
+
+  @Test
+  public void testFireNodeVisitedOnlyToNodeListeners() throws Exception {
+    final ViewNodeListener listener = context.mock(ViewNodeListener.class);
+    final ViewNodePropertyListener propertyListener =
+        context.mock(ViewNodePropertyListener.class);
+    final ViewNodeEvent event = new ViewNodeEvent(null, null, null, null);
+    context.checking(new Expectations() {
+      {
+        oneOf(listener).nodeVisited(event);
+      }
+    });
+
+    listeners.append(propertyListener);
+    listeners.append(listener);
+    listeners.nodeVisited(event);
+  }
+
   @Test
   public void testFireShouldVisitNode() throws Exception {
     final ViewNodeAcceptor acceptor0 =
@@ -153,6 +190,31 @@ public class LinkedListNotifiableViewListenersTest {
     assertThat(listeners.didExtractValue(event), is(sameInstance(value2)));
   }
 
+  @Test
+  public void testFireOnExtractPropertyWhenValueUnchanged() throws Exception {
+    final ViewNodePropertyInterceptor listener0 =
+        context.mock(ViewNodePropertyInterceptor.class, "listener0");
+    final ViewNodePropertyInterceptor listener1 =
+        context.mock(ViewNodePropertyInterceptor.class, "listener1");
+
+    final Object value = new Object();
+    final ViewNodePropertyEvent event =
+        new ViewNodePropertyEvent(null, null, null, value, null);
+
+    context.checking(new Expectations() {
+      {
+        oneOf(listener0).didExtractValue(event);
+        will(returnValue(value));
+        oneOf(listener1).didExtractValue(event);
+        will(returnValue(value));
+      }
+    });
+
+    listeners.append(listener0);
+    listeners.append(listener1);
+    assertThat(listeners.didExtractValue(event), is(sameInstance(value)));
+  }
+
   @Test
   public void testFireOnInjectValue() throws Exception {
     final ViewNodePropertyInterceptor listener0 =
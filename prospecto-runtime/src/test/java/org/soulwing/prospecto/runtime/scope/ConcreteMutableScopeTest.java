@@ -126,4 +126,40 @@ public class ConcreteMutableScopeTest {
     assertThat(scope.get(Integer.class), is(nullValue()));
   }
 
+  @Test
+  public void testGetByTypeAfterChanges() throws Exception {
+    final String obj0 = "object0";
+    final Integer obj1 = -1;
+    scope.put(obj0);
+    assertThat(scope.get(String.class), is(sameInstance(obj0)));
+    assertThat(scope.get(Integer.class), is(nullValue()));
+
+    scope.put(obj1);
+    assertThat(scope.get(Integer.class), is(sameInstance(obj1)));
+    assertThat(scope.get(Integer.class), is(sameInstance(obj1)));
+
+    scope.remove(obj1);
+    assertThat(scope.get(Integer.class), is(nullValue()));
+    assertThat(scope.get(String.class), is(sameInstance(obj0)));
+  }
+
+  @Test
+  public void testGetByTypeAfterPutAllScope() throws Exception {
+    final ConcreteMutableScope other = new ConcreteMutableScope();
+    final Integer obj = -1;
+    other.put(obj);
+    scope.put("object");
+    assertThat(scope.get(Integer.class), is(nullValue()));
+    scope.putAll(other);
+    assertThat(scope.get(Integer.class), is(sameInstance(obj)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGetByTypeWhenAmbiguousAfterPut() throws Exception {
+    scope.put("object0");
+    assertThat(scope.get(CharSequence.class), is(not(nullValue())));
+    scope.put("object1");
+    scope.get(CharSequence.class);
+  }
+
 }
@@ -26,13 +26,26 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 
-import java.util.Collections;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
-
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Description;
 import org.hamcrest.Matchers;
 import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -40,7 +53,12 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicator;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.ViewWriterFactory;
 import org.soulwing.prospecto.api.listener.ViewMode;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
 import org.soulwing.prospecto.api.scope.MutableScope;
 import org.soulwing.prospecto.api.template.ViewNode;
@@ -49,8 +67,10 @@ import org.soulwing.prospecto.runtime.applicator.ViewApplicatorFactory;
 import org.soulwing.prospecto.runtime.applicator.ViewEventApplicator;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.context.ScopedViewContextFactory;
+import org.soulwing.prospecto.runtime.generator.ViewEventCursor;
 import org.soulwing.prospecto.runtime.generator.ViewEventGenerator;
 import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * Unit tests for {@link ConcreteViewTemplate}.
@@ -66,8 +86,15 @@ public class ConcreteViewTemplateTest {
   private static final String NAMESPACE = "namespace";
   private static final String DATA_KEY = "dataKey";
 
+  private static final int THREADS = 8;
+  private static final int VIEWS_PER_THREAD = 50;
+
   @Rule
-  public final JUnitRuleMockery context = new JUnitRuleMockery();
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {
+    {
+      setThreadingPolicy(new Synchroniser());
+    }
+  };
 
   @Mock
   private ScopedViewContextFactory viewContextFactory;
@@ -102,6 +129,14 @@ public class ConcreteViewTemplateTest {
   @Mock
   private ViewApplicatorFactory viewApplicatorFactory;
 
+  @Mock
+  private ViewWriterFactory writerFactory;
+
+  @Mock
+  private ViewWriter viewWriter;
+
+  private final Options options = new OptionsMap();
+
   private MockGeneratorViewNode generatorRoot = new MockGeneratorViewNode();
 
   private MockApplicatorViewNode applicatorRoot = new MockApplicatorViewNode();
@@ -130,8 +165,9 @@ public class ConcreteViewTemplateTest {
             with(Matchers.<ViewTraversalEvent>allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
                 hasProperty("source", sameInstance(generatorTemplate)))));
-        oneOf(generator).generate(MODEL, scopedViewContext);
-        will(returnValue(Collections.singletonList(event)));
+        oneOf(generator).generate(with(MODEL), with(scopedViewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(event));
         oneOf(listeners).afterTraversing(
             with(Matchers.<ViewTraversalEvent>allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
@@ -145,6 +181,164 @@ public class ConcreteViewTemplateTest {
     assertThat(events.next(), is(sameInstance(event)));
   }
 
+  @Test
+  public void testNextViewSizeHint() throws Exception {
+    assertThat(ConcreteViewTemplate.nextViewSizeHint(0, 100),
+        is(equalTo(100)));
+    assertThat(ConcreteViewTemplate.nextViewSizeHint(100, 50000),
+        is(equalTo(12575)));
+    assertThat(ConcreteViewTemplate.nextViewSizeHint(12575, 100),
+        is(equalTo(9457)));
+    assertThat(ConcreteViewTemplate.nextViewSizeHint(100, 100),
+        is(equalTo(100)));
+  }
+
+  @Test
+  public void testGenerateStreamingView() throws Exception {
+    options.put(ViewKeys.STREAMING_VIEWS, true);
+    context.checking(viewContextExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        oneOf(mutableScope).put(MODEL);
+        oneOf(listeners).beforeTraversing(
+            with(Matchers.<ViewTraversalEvent>allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+        oneOf(generator).generate(with(MODEL), with(scopedViewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(event));
+      }
+    });
+
+    View view = generatorTemplate.generateView(MODEL, viewContext);
+    Iterator<View.Event> events = view.iterator();
+    assertThat(events.next(), is(sameInstance(event)));
+    context.assertIsSatisfied();
+
+    context.checking(new Expectations() {
+      {
+        oneOf(listeners).afterTraversing(
+            with(Matchers.<ViewTraversalEvent>allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+      }
+    });
+
+    assertThat(events.hasNext(), is(false));
+    assertThat(events.hasNext(), is(false));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testStreamingViewCanBeIteratedOnlyOnce() throws Exception {
+    options.put(ViewKeys.STREAMING_VIEWS, true);
+    context.checking(viewContextExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        oneOf(mutableScope).put(MODEL);
+        oneOf(listeners).beforeTraversing(with(any(ViewTraversalEvent.class)));
+        oneOf(generator).generate(with(MODEL), with(scopedViewContext),
+            with(any(ViewEventCursor.class)));
+      }
+    });
+
+    View view = generatorTemplate.generateView(MODEL, viewContext);
+    view.iterator();
+    view.iterator();
+  }
+
+  @Test
+  public void testWriteView() throws Exception {
+    final OutputStream outputStream = new ByteArrayOutputStream();
+    context.checking(viewContextExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        oneOf(mutableScope).put(MODEL);
+        oneOf(listeners).beforeTraversing(
+            with(Matchers.<ViewTraversalEvent>allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+        oneOf(generator).generate(with(MODEL), with(scopedViewContext),
+            with(any(ViewEventCursor.class)));
+        will(emit(event));
+        oneOf(writerFactory).newWriter(with(any(StreamingView.class)),
+            with(same(outputStream)));
+        will(returnValue(viewWriter));
+        oneOf(viewWriter).writeView();
+      }
+    });
+
+    generatorTemplate.writeView(MODEL, viewContext, writerFactory,
+        outputStream);
+  }
+
+  @Test
+  public void testGenerateViewSharesGeneratorAcrossThreads() throws Exception {
+    final CountingGeneratorViewNode root = new CountingGeneratorViewNode();
+    final ConcreteViewTemplate template =
+        new ConcreteViewTemplate(root, viewContextFactory);
+
+    context.checking(new Expectations() {
+      {
+        allowing(viewContextFactory).newContext(viewContext);
+        will(returnValue(scopedViewContext));
+        allowing(scopedViewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(scopedViewContext).getOptions();
+        will(returnValue(options));
+        allowing(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        allowing(mutableScope).put(MODEL);
+        allowing(listeners).beforeTraversing(with(any(ViewTraversalEvent.class)));
+        allowing(listeners).afterTraversing(with(any(ViewTraversalEvent.class)));
+        exactly(THREADS * VIEWS_PER_THREAD).of(generator)
+            .generate(with(MODEL), with(scopedViewContext),
+                with(any(ViewEventCursor.class)));
+        will(emit(event));
+      }
+    });
+
+    final CountDownLatch startSignal = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<List<View>>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(new Callable<List<View>>() {
+          @Override
+          public List<View> call() throws Exception {
+            startSignal.await();
+            final List<View> views = new ArrayList<>();
+            for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+              views.add(template.generateView(MODEL, viewContext));
+            }
+            return views;
+          }
+        }));
+      }
+
+      startSignal.countDown();
+
+      for (final Future<List<View>> future : futures) {
+        for (final View view : future.get()) {
+          final Iterator<View.Event> events = view.iterator();
+          assertThat(events.hasNext(), is(true));
+          assertThat(events.next(), is(sameInstance(event)));
+          assertThat(events.hasNext(), is(false));
+        }
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(root.getVisitCount(), is(equalTo(1)));
+  }
+
   @Test(expected = ViewException.class)
   public void testGenerateViewWhenEvaluateThrowsException() throws Exception {
     context.checking(viewContextExpectations());
@@ -157,7 +351,8 @@ public class ConcreteViewTemplateTest {
             with(Matchers.<ViewTraversalEvent>allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
                 hasProperty("source", sameInstance(generatorTemplate)))));
-        oneOf(generator).generate(MODEL, scopedViewContext);
+        oneOf(generator).generate(with(MODEL), with(scopedViewContext),
+            with(any(ViewEventCursor.class)));
         will(throwException(new Exception()));
       }
     });
@@ -188,6 +383,33 @@ public class ConcreteViewTemplateTest {
         is(sameInstance(viewApplicator)));
   }
 
+  @Test
+  public void testCreateApplicatorReusesApplicatorTree() throws Exception {
+    final CountingApplicatorViewNode root = new CountingApplicatorViewNode();
+    final ConcreteViewTemplate template = new ConcreteViewTemplate(root,
+        viewContextFactory, viewApplicatorFactory);
+
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(viewContextFactory).newContext(viewContext);
+        will(returnValue(scopedViewContext));
+        allowing(scopedViewContext).getListeners();
+        will(returnValue(listeners));
+        exactly(2).of(listeners).beforeTraversing(
+            with(any(ViewTraversalEvent.class)));
+        exactly(2).of(viewApplicatorFactory).newApplicator(
+            with(Object.class), with(applicator), with(view),
+            with(scopedViewContext), with(DATA_KEY),
+            with(any(ViewTraversalEvent.class)));
+        will(returnValue(viewApplicator));
+      }
+    });
+
+    template.createApplicator(view, viewContext, DATA_KEY);
+    template.createApplicator(view, viewContext, DATA_KEY);
+    assertThat(root.getVisitCount(), is(equalTo(1)));
+  }
+
   @Test
   public void testObjectSubView() throws Exception {
     AbstractViewNode child = new MockGeneratorViewNode();
@@ -221,6 +443,23 @@ public class ConcreteViewTemplateTest {
         will(returnValue(scopedViewContext));
         allowing(scopedViewContext).getListeners();
         will(returnValue(listeners));
+        allowing(scopedViewContext).getOptions();
+        will(returnValue(options));
+      }
+    };
+  }
+
+  private static Action emit(final View.Event event) {
+    return new Action() {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        ((ViewEventCursor) invocation.getParameter(2)).add(event);
+        return null;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("emits ").appendValue(event);
       }
     };
   }
@@ -238,6 +477,22 @@ public class ConcreteViewTemplateTest {
 
   }
 
+  class CountingGeneratorViewNode extends MockGeneratorViewNode {
+
+    private final AtomicInteger visitCount = new AtomicInteger();
+
+    @Override
+    public Object accept(ViewNodeVisitor visitor, Object state) {
+      visitCount.incrementAndGet();
+      return super.accept(visitor, state);
+    }
+
+    int getVisitCount() {
+      return visitCount.get();
+    }
+
+  }
+
   class MockApplicatorViewNode extends AbstractContainerNode {
 
     public MockApplicatorViewNode() {
@@ -251,5 +506,21 @@ public class ConcreteViewTemplateTest {
 
   }
 
+  class CountingApplicatorViewNode extends MockApplicatorViewNode {
+
+    private final AtomicInteger visitCount = new AtomicInteger();
+
+    @Override
+    public Object accept(ViewNodeVisitor visitor, Object state) {
+      visitCount.incrementAndGet();
+      return super.accept(visitor, state);
+    }
+
+    int getVisitCount() {
+      return visitCount.get();
+    }
+
+  }
+
 
 }
@@ -28,6 +28,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
@@ -38,7 +39,10 @@ import org.soulwing.prospecto.api.options.OptionsMap;
 import org.soulwing.prospecto.api.options.ViewDefaults;
 import org.soulwing.prospecto.api.options.WriterKeys;
 import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.generator.ViewEventSink;
+import org.soulwing.prospecto.runtime.generator.ViewEventSource;
 import org.soulwing.prospecto.runtime.view.ConcreteView;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * Common infrastructure and tests for view writers.
@@ -80,8 +84,11 @@ public abstract class ViewWriterTestBase {
 
   protected void writeAndValidateView(String viewName,
       List<View.Event> events) throws Exception {
+    writeAndValidateView(viewName, new ConcreteView(events));
+  }
 
-    final View view = new ConcreteView(events);
+  protected void writeAndValidateView(String viewName, View view)
+      throws Exception {
     final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
     final ViewWriter writer = newViewWriter(view, outputStream);
     writer.writeView();
@@ -139,6 +146,21 @@ public abstract class ViewWriterTestBase {
     writeAndValidateView("nestedObjectView", events);
   }
 
+  @Test
+  public void testNestedObjectViewWrittenAsGenerated() throws Exception {
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT));
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT,
+        Constants.OBJECT_NAME));
+    addObjectProperties(events);
+    events.add(newEvent(View.Event.Type.END_OBJECT,
+        Constants.OBJECT_NAME));
+    events.add(newEvent(View.Event.Type.END_OBJECT));
+
+    writeAndValidateView("nestedObjectView",
+        new StreamingView(new GeneratedEventSource(events)));
+  }
+
   @Test
   public void testArrayOfObjectsView() throws Exception {
     final List<View.Event> events = new ArrayList<>();
@@ -221,4 +243,32 @@ public abstract class ViewWriterTestBase {
     writeAndValidateView("defaultUrlView", events);
   }
 
+  /**
+   * A source that passes events to a sink by their attributes, as the
+   * view generators do.
+   */
+  private static class GeneratedEventSource implements ViewEventSource {
+
+    private final Iterator<View.Event> events;
+
+    GeneratedEventSource(List<View.Event> events) {
+      this.events = events.iterator();
+    }
+
+    @Override
+    public View.Event next() throws Exception {
+      return events.hasNext() ? events.next() : null;
+    }
+
+    @Override
+    public void drainTo(ViewEventSink target) throws Exception {
+      while (events.hasNext()) {
+        final View.Event event = events.next();
+        target.add(event.getType(), event.getName(), event.getNamespace(),
+            event.getValue());
+      }
+    }
+
+  }
+
 }
@@ -18,64 +18,21 @@
  */
 package org.soulwing.prospecto.runtime.text.json;
 
-import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
-
 import java.io.InputStream;
-import java.util.Iterator;
 
-import org.hamcrest.Matcher;
-import org.junit.Test;
-import org.soulwing.prospecto.ViewOptionsRegistry;
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewReader;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.OptionsMap;
-import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.api.options.ViewKeys;
-import org.soulwing.prospecto.runtime.text.Constants;
-import org.soulwing.prospecto.runtime.text.ViewReaderTestBase;
 
 /**
  * Tests for {@link JsonViewReader}.
  *
  * @author Carl Harris
  */
-public class JsonViewReaderTest extends ViewReaderTestBase {
-
-  public JsonViewReaderTest() {
-    super(".json");
-  }
+public class JsonViewReaderTest extends JsonViewReaderTestBase {
 
   @Override
   protected ViewReader newViewReader(InputStream inputStream, Options options) {
     return new JsonViewReader(inputStream, options);
   }
 
-  @Override
-  protected Matcher<View.Event> expectedUrlEvent(String name) {
-    return eventWith(View.Event.Type.VALUE, name,
-        Constants.URL_VALUE);
-  }
-
-  @Test
-  public void testCustomDiscriminatorView() throws Exception {
-    ViewOptionsRegistry.getOptions().put(ViewKeys.DISCRIMINATOR_NAME,
-        Constants.CUSTOM_NAME);
-    try {
-      final JsonViewReader reader = new JsonViewReader(
-          getTestResource("customDiscriminatorView"), new OptionsMap());
-      final Iterator<View.Event> events = reader.readView().iterator();
-      assertThat(events.next(),
-          is(eventWith(View.Event.Type.BEGIN_OBJECT)));
-      assertThat(events.next(),
-          is(eventWith(View.Event.Type.DISCRIMINATOR,
-              ViewDefaults.DISCRIMINATOR_NODE_NAME,
-              Constants.DISCRIMINATOR_VALUE)));
-    }
-    finally {
-      ViewOptionsRegistry.getOptions().remove(ViewKeys.DISCRIMINATOR_NAME);
-    }
-  }
-
 }
@@ -0,0 +1,88 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.InputStream;
+import java.util.Iterator;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+import org.soulwing.prospecto.ViewOptionsRegistry;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewReader;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.ViewDefaults;
+import org.soulwing.prospecto.api.options.ViewKeys;
+import org.soulwing.prospecto.runtime.text.Constants;
+import org.soulwing.prospecto.runtime.text.ViewReaderTestBase;
+
+/**
+ * Common tests for view readers that parse JSON.
+ * <p>
+ * These tests are shared by the readers of each provider that parses
+ * JSON, so the test resources are located relative to this class.
+ *
+ * @author Carl Harris
+ */
+public abstract class JsonViewReaderTestBase extends ViewReaderTestBase {
+
+  public JsonViewReaderTestBase() {
+    super(".json");
+  }
+
+  @Override
+  protected InputStream getTestResource(String resourceName) {
+    final InputStream inputStream =
+        JsonViewReaderTestBase.class.getResourceAsStream(resourceName + ".json");
+    assertThat(inputStream, is(not(nullValue())));
+    return inputStream;
+  }
+
+  @Override
+  protected Matcher<View.Event> expectedUrlEvent(String name) {
+    return eventWith(View.Event.Type.VALUE, name,
+        Constants.URL_VALUE);
+  }
+
+  @Test
+  public void testCustomDiscriminatorView() throws Exception {
+    ViewOptionsRegistry.getOptions().put(ViewKeys.DISCRIMINATOR_NAME,
+        Constants.CUSTOM_NAME);
+    try {
+      final ViewReader reader = newViewReader(
+          getTestResource("customDiscriminatorView"), new OptionsMap());
+      final Iterator<View.Event> events = reader.readView().iterator();
+      assertThat(events.next(),
+          is(eventWith(View.Event.Type.BEGIN_OBJECT)));
+      assertThat(events.next(),
+          is(eventWith(View.Event.Type.DISCRIMINATOR,
+              ViewDefaults.DISCRIMINATOR_NODE_NAME,
+              Constants.DISCRIMINATOR_VALUE)));
+    }
+    finally {
+      ViewOptionsRegistry.getOptions().remove(ViewKeys.DISCRIMINATOR_NAME);
+    }
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.xml;
+
+import java.io.InputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.ViewReader;
+import org.soulwing.prospecto.api.dom.NodeSource;
+import org.soulwing.prospecto.api.options.Options;
+
+/**
+ * Tests for {@link XmlViewReader} using a {@link NodeSource}.
+ *
+ * @author Carl Harris
+ */
+public class XmlViewReaderNodeSourceTest extends XmlViewReaderTest {
+
+  @Override
+  protected ViewReader newViewReader(InputStream inputStream,
+      Options options) {
+    try {
+      final DocumentBuilderFactory builderFactory =
+          DocumentBuilderFactory.newInstance();
+      builderFactory.setNamespaceAware(true);
+      return new XmlViewReader(new NodeSource(builderFactory
+          .newDocumentBuilder().parse(inputStream).getDocumentElement()),
+          options);
+    }
+    catch (Exception ex) {
+      throw new ViewException(ex);
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CopyOnWriteList}.
+ *
+ * @author Carl Harris
+ */
+public class CopyOnWriteListTest {
+
+  private final CopyOnWriteList<String> list = new CopyOnWriteList<>();
+
+  @Test
+  public void testAddSetAndRemove() throws Exception {
+    list.add("b");
+    list.add(0, "a");
+    list.add("d");
+    list.add(2, "c");
+    assertThat(list, contains("a", "b", "c", "d"));
+    assertThat(list.set(1, "B"), is(equalTo("b")));
+    assertThat(list.remove(0), is(equalTo("a")));
+    assertThat(list.remove("d"), is(true));
+    assertThat(list, contains("B", "c"));
+    list.clear();
+    assertThat(list, is(empty()));
+  }
+
+  @Test
+  public void testCopyIsIndependentOfSource() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final CopyOnWriteList<String> copy = new CopyOnWriteList<>(list);
+    assertThat(copy, contains("a", "b"));
+
+    copy.add("c");
+    list.remove("a");
+    assertThat(list, contains("b"));
+    assertThat(copy, contains("a", "b", "c"));
+  }
+
+  @Test
+  public void testChangesAreNotified() throws Exception {
+    final int[] changes = new int[1];
+    final CopyOnWriteList<String> list = new CopyOnWriteList<String>() {
+      @Override
+      protected void changed() {
+        changes[0]++;
+      }
+    };
+
+    list.add("a");
+    list.add(0, "b");
+    list.set(0, "c");
+    list.remove("a");
+    assertThat(changes[0], is(equalTo(4)));
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testChangeWhileIterating() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final Iterator<String> i = list.iterator();
+    i.next();
+    list.add("c");
+    i.next();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testAddAtInvalidIndex() throws Exception {
+    list.add(1, "a");
+  }
+
+}
@@ -20,6 +20,8 @@ package org.soulwing.prospecto.runtime.util;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
 import org.junit.Test;
@@ -48,4 +50,26 @@ public class SimpleLinkedListTest {
     assertThat(list.toList(), contains(element0, element1));
   }
 
+  @Test
+  public void testChangesAreNotified() throws Exception {
+    final Object element0 = new Object();
+    final Object element1 = new Object();
+    final int[] changes = new int[1];
+    final SimpleLinkedList<Object> list = new SimpleLinkedList<Object>() {
+      @Override
+      protected void changed() {
+        changes[0]++;
+      }
+    };
+
+    list.append(element0);
+    list.prepend(element1);
+    list.toList().set(0, element0);
+    list.toList().add(element1);
+    list.remove(element1);
+    list.toList().clear();
+    assertThat(changes[0], is(equalTo(7)));
+    assertThat(list.toList(), is(empty()));
+  }
+
 }
@@ -0,0 +1,165 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withNoName;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.generator.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.generator.ViewEventSink;
+import org.soulwing.prospecto.runtime.generator.ViewEventSource;
+
+/**
+ * Unit tests for {@link StreamingView}.
+ *
+ * @author Carl Harris
+ */
+public class StreamingViewTest {
+
+  private final List<View.Event> events = new ArrayList<>();
+
+  @Test
+  public void testIterator() throws Exception {
+    final View.Event event =
+        new ConcreteViewEvent(View.Event.Type.VALUE, null, null, "string");
+    events.add(event);
+    final Iterator<View.Event> result =
+        new StreamingView(new ListEventSource(events)).iterator();
+    assertThat(result.hasNext(), is(true));
+    assertThat(result.next(), is(sameInstance(event)));
+    assertThat(result.hasNext(), is(false));
+  }
+
+  @Test
+  public void testGenerate() throws Exception {
+    final View.Event event =
+        new ConcreteViewEvent(View.Event.Type.VALUE, null, null, "string");
+    events.add(event);
+    final ViewEventBuffer buffer = new ViewEventBuffer(0);
+    new StreamingView(new ListEventSource(events)).generate(buffer);
+    assertThat(buffer.toList(), contains(event));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIterateTwice() throws Exception {
+    final View view = new StreamingView(new ListEventSource(events));
+    view.iterator();
+    view.iterator();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGenerateAfterSeal() throws Exception {
+    final StreamingView view = new StreamingView(new ListEventSource(events));
+    view.envelope().seal("subview");
+    view.generate(new ViewEventBuffer(0));
+  }
+
+  @Test
+  public void testEnvelopeObject() throws Exception {
+    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT, null, null));
+    events.add(new ConcreteViewEvent(View.Event.Type.VALUE, "string", null, "string"));
+    events.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT, null, null));
+    final View envelopedView = new StreamingView(new ListEventSource(events))
+        .envelope()
+        .putProperty("type", Object.class.getSimpleName())
+        .seal("subview");
+    final Iterator<View.Event> result = envelopedView.iterator();
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName())));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE, withName("type"),
+            whereValue(is(equalTo("Object"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_OBJECT, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE, withName("string"),
+            whereValue(is(equalTo("string"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_OBJECT, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_OBJECT, withNoName())));
+    assertThat(result.hasNext(), is(false));
+  }
+
+  @Test
+  public void testEnvelopeArray() throws Exception {
+    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY, null, null));
+    events.add(new ConcreteViewEvent(View.Event.Type.VALUE, null, null, "string"));
+    events.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY, null, null));
+    final View envelopedView = new StreamingView(new ListEventSource(events))
+        .envelope()
+        .putProperty("type", Object.class.getSimpleName())
+        .seal("subview");
+    final ViewEventBuffer buffer = new ViewEventBuffer(0);
+    ((StreamingView) envelopedView).generate(buffer);
+    final Iterator<View.Event> result = buffer.toList().iterator();
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName())));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE, withName("type"),
+            whereValue(is(equalTo("Object"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_ARRAY, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE,
+            whereValue(is(equalTo("string"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_ARRAY, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_OBJECT, withNoName())));
+    assertThat(result.hasNext(), is(false));
+  }
+
+  private static class ListEventSource implements ViewEventSource {
+
+    private final Iterator<View.Event> events;
+
+    ListEventSource(List<View.Event> events) {
+      this.events = events.iterator();
+    }
+
+    @Override
+    public View.Event next() throws Exception {
+      return events.hasNext() ? events.next() : null;
+    }
+
+    @Override
+    public void drainTo(ViewEventSink target) throws Exception {
+      while (events.hasNext()) {
+        target.add(events.next());
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.tests.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewTemplate;
+import org.soulwing.prospecto.api.listener.ViewNodeAcceptor;
+import org.soulwing.prospecto.api.listener.ViewNodeEvent;
+import org.soulwing.prospecto.api.listener.ViewNodeListener;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyEvent;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyInterceptor;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyListener;
+
+/**
+ * Tests that listener events are not allocated when generating a view
+ * for a context that has no listeners.
+ * <p>
+ * The bytes allocated to generate a view in a context with no listeners
+ * are compared to the bytes allocated to generate the same view in a
+ * context with a listener that receives (and retains) every node and
+ * property event. If the first context allocated listener events too, the
+ * difference would be near zero.
+ *
+ * @author Carl Harris
+ */
+public class ListenerAllocationTest {
+
+  private static final int ELEMENTS = 2000;
+
+  /** one element event, plus one node and two property events per value */
+  private static final int EVENTS_PER_ELEMENT = 1 + 4 * 3;
+
+  /** a conservative lower bound on the size of an event object */
+  private static final int MIN_EVENT_SIZE = 16;
+
+  private static final int WARM_UP_ITERATIONS = 50;
+
+  @SuppressWarnings("unused")
+  public static class MockType {
+    String a = "a";
+    String b = "b";
+    Integer c = 1;
+    Boolean d = true;
+  }
+
+  private final List<MockType> model = new ArrayList<>();
+
+  private ViewTemplate template;
+
+  private com.sun.management.ThreadMXBean threadMXBean;
+
+  @Before
+  public void setUp() throws Exception {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    threadMXBean = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+    template = ViewTemplateBuilderProducer
+        .arrayOfObjects(MockType.class)
+            .accessType(AccessType.FIELD)
+            .value("a")
+            .value("b")
+            .value("c")
+            .value("d")
+            .end()
+        .build();
+
+    for (int i = 0; i < ELEMENTS; i++) {
+      model.add(new MockType());
+    }
+  }
+
+  @Test
+  public void testNoEventsAllocatedWithoutListeners() throws Exception {
+    final ViewContext unobserved = ViewContextProducer.newContext();
+    final ViewContext observed = ViewContextProducer.newContext();
+    observed.getListeners().append(new RetainingListener());
+
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      allocatedBytes(unobserved);
+      allocatedBytes(observed);
+    }
+
+    final long unobservedBytes = allocatedBytes(unobserved);
+    final long observedBytes = allocatedBytes(observed);
+
+    assertThat(observedBytes - unobservedBytes, greaterThanOrEqualTo(
+        (long) ELEMENTS * EVENTS_PER_ELEMENT * MIN_EVENT_SIZE));
+  }
+
+  private long allocatedBytes(ViewContext context) {
+    final long threadId = Thread.currentThread().getId();
+    final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+    final Iterator<View.Event> events =
+        template.generateView(model, context).iterator();
+    while (events.hasNext()) {
+      events.next();
+    }
+    return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+  }
+
+  private static class RetainingListener implements ViewNodeAcceptor,
+      ViewNodeListener, ViewNodePropertyInterceptor, ViewNodePropertyListener {
+
+    private Object lastEvent;
+
+    @Override
+    public boolean shouldVisitNode(ViewNodeEvent event) {
+      lastEvent = event;
+      return true;
+    }
+
+    @Override
+    public void nodeVisited(ViewNodeEvent event) {
+      lastEvent = event;
+    }
+
+    @Override
+    public Object didExtractValue(ViewNodePropertyEvent event) {
+      lastEvent = event;
+      return event.getValue();
+    }
+
+    @Override
+    public Object willInjectValue(ViewNodePropertyEvent event) {
+      lastEvent = event;
+      return event.getValue();
+    }
+
+    @Override
+    public void propertyVisited(ViewNodePropertyEvent event) {
+      lastEvent = event;
+    }
+
+  }
+
+}